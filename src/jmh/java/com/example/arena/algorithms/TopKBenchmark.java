@@ -0,0 +1,96 @@
+package com.example.arena.algorithms;
+
+import com.example.arena.sorting.algorithms.Heap;
+import com.example.arena.sorting.dataset.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TopKBenchmark
+ * The k-th largest of 10M ints, five ways:
+ *
+ * - PRIORITY_QUEUE:  TopKElements.findKthLargestBoxed, the boxed PriorityQueue<Integer> baseline.
+ * - BOUNDED_HEAP:    TopKElements.findKthLargest, the same min-heap on primitive ints (IntBoundedHeap).
+ * - SELECT:          IntSelect.kthLargest (Floyd-Rivest), in place.
+ * - PARTIAL_SORT:    IntSelect.partialSortLargest, selection then a sort of the k largest only.
+ * - HEAP_PARTIAL:    Heap.sortLargest, heap sort stopped after k extractions.
+ *
+ * The in-place strategies get a fresh copy of the input before every invocation, outside the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class TopKBenchmark {
+
+    public enum Strategy { PRIORITY_QUEUE, BOUNDED_HEAP, SELECT, PARTIAL_SORT, HEAP_PARTIAL }
+
+    @Param({"PRIORITY_QUEUE", "BOUNDED_HEAP", "SELECT", "PARTIAL_SORT", "HEAP_PARTIAL"})
+    public Strategy strategy;
+
+    @Param({"10", "1000"})
+    public int k;
+
+    @Param({"10000000"})
+    public int size;
+
+    @Param({"UNIFORM", "SORTED"})
+    public Distribution distribution;
+
+    private final TopKElements topK = new TopKElements();
+    private int[] base;
+    private int[] data;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        base = distribution.generate(size, Distribution.DEFAULT_SEED);
+        data = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreInput() {
+        System.arraycopy(base, 0, data, 0, size);
+    }
+
+    @Benchmark
+    public int kthLargest() {
+        return switch (strategy) {
+            case PRIORITY_QUEUE -> topK.findKthLargestBoxed(data, k);
+            case BOUNDED_HEAP -> topK.findKthLargest(data, k);
+            case SELECT -> IntSelect.kthLargest(data, k);
+            case PARTIAL_SORT -> {
+                IntSelect.partialSortLargest(data, k);
+                yield data[size - k];
+            }
+            case HEAP_PARTIAL -> {
+                Heap.sortLargest(data, k);
+                yield data[size - k];
+            }
+        };
+    }
+
+    // --- RUNNER ---
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TopKBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.arena.datastructures;
+
+import com.example.arena.sorting.dataset.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IntHeapBenchmark
+ * 10M inserts followed by 10M polls, PriorityQueue<Integer> against IntHeap in its binary and 4-ary layouts,
+ * plus the bulk path (heapify + pollAll) that only IntHeap has. One invocation is the whole fill-and-drain,
+ * so the score is milliseconds per 10M-element round trip.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class IntHeapBenchmark {
+
+    public enum Implementation { PRIORITY_QUEUE, BINARY_INT_HEAP, FOUR_ARY_INT_HEAP }
+
+    @Param({"PRIORITY_QUEUE", "BINARY_INT_HEAP", "FOUR_ARY_INT_HEAP"})
+    public Implementation implementation;
+
+    @Param({"10000000"})
+    public int size;
+
+    @Param({"UNIFORM", "SORTED", "REVERSED"})
+    public Distribution distribution;
+
+    private int[] values;
+    private int[] drained;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        values = distribution.generate(size, Distribution.DEFAULT_SEED);
+        drained = new int[size];
+    }
+
+    @Benchmark
+    public long insertThenPoll() {
+        long checksum = 0;
+        if (implementation == Implementation.PRIORITY_QUEUE) {
+            PriorityQueue<Integer> heap = new PriorityQueue<>();
+            for (int value : values) heap.offer(value);
+            while (!heap.isEmpty()) checksum += heap.poll();
+        } else {
+            IntHeap heap = new IntHeap(arity(), IntHeap.Order.MIN);
+            for (int value : values) heap.offer(value);
+            while (!heap.isEmpty()) checksum += heap.poll();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public int[] heapifyThenPollAll() {
+        if (implementation == Implementation.PRIORITY_QUEUE) {
+            // The closest PriorityQueue gets: addAll of a boxed list, then poll one by one
+            List<Integer> boxed = new ArrayList<>(size);
+            for (int value : values) boxed.add(value);
+            PriorityQueue<Integer> heap = new PriorityQueue<>(boxed);
+            for (int i = 0; i < size; i++) drained[i] = heap.poll();
+        } else {
+            IntHeap.heapify(values, arity(), IntHeap.Order.MIN).pollAll(drained);
+        }
+        return drained;
+    }
+
+    private int arity() {
+        return implementation == Implementation.BINARY_INT_HEAP ? 2 : 4;
+    }
+
+    // --- RUNNER ---
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IntHeapBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.arena.datastructures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IntIntMapBenchmark
+ * put, get and remove of `size` random keys, HashMap<Integer, Integer> against IntIntOpenHashMap.
+ * One invocation touches every key once, so the score is milliseconds per `size` operations.
+ *
+ * - put:     into a fresh map with default sizing, so the resizes are part of the cost.
+ * - get:     every key of a map filled once per trial (all hits).
+ * - remove:  every key of a map refilled before each invocation, outside the measurement.
+ *
+ * 50M boxed entries need about 5 GB of heap, hence -Xmx16g. Bytes per entry: see MapFootprint.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms16g", "-Xmx16g"})
+public class IntIntMapBenchmark {
+
+    public enum Implementation { HASH_MAP, OPEN_HASH_MAP }
+
+    @Param({"HASH_MAP", "OPEN_HASH_MAP"})
+    public Implementation implementation;
+
+    @Param({"1000000", "50000000"})
+    public int size;
+
+    private int[] keys;
+    private HashMap<Integer, Integer> boxed;
+    private IntIntOpenHashMap primitive;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        keys = new SplittableRandom(42).ints(size).toArray();
+        fill();
+    }
+
+    // remove() empties the maps, every other benchmark leaves them full
+    @Setup(Level.Invocation)
+    public void refillIfEmptied() {
+        if (implementation == Implementation.HASH_MAP ? boxed.isEmpty() : primitive.isEmpty()) fill();
+    }
+
+    private void fill() {
+        if (implementation == Implementation.HASH_MAP) {
+            boxed = new HashMap<>();
+            for (int i = 0; i < size; i++) boxed.put(keys[i], i);
+        } else {
+            primitive = new IntIntOpenHashMap();
+            for (int i = 0; i < size; i++) primitive.put(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    public Object put() {
+        if (implementation == Implementation.HASH_MAP) {
+            HashMap<Integer, Integer> map = new HashMap<>();
+            for (int i = 0; i < size; i++) map.put(keys[i], i);
+            return map;
+        }
+        IntIntOpenHashMap map = new IntIntOpenHashMap();
+        for (int i = 0; i < size; i++) map.put(keys[i], i);
+        return map;
+    }
+
+    @Benchmark
+    public long get() {
+        long checksum = 0;
+        if (implementation == Implementation.HASH_MAP) {
+            for (int key : keys) checksum += boxed.get(key);
+        } else {
+            for (int key : keys) checksum += primitive.get(key);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long remove() {
+        long checksum = 0;
+        if (implementation == Implementation.HASH_MAP) {
+            for (int key : keys) {
+                Integer value = boxed.remove(key);
+                if (value != null) checksum += value;
+            }
+        } else {
+            for (int key : keys) checksum += primitive.remove(key);
+        }
+        return checksum;
+    }
+
+    // --- RUNNER ---
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IntIntMapBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.arena.sorting;
+
+import com.example.arena.sorting.dataset.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KWayMergeBenchmark
+ * Merging k sorted shards of one 4M-element input three ways:
+ *
+ * - LOSER_TREE:           KWayMerge.merge, one pass into the preallocated output.
+ * - PARALLEL_LOSER_TREE:  KWayMerge.parallelMerge on the common pool.
+ * - PAIRWISE:             what Merge / Cube / Tim would do: two-way merges of neighbouring shards, round after
+ *                         round, every round into fresh arrays, until one is left.
+ *
+ * The shards are never modified, so they are built once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class KWayMergeBenchmark {
+
+    private static final int ELEMENTS = 1 << 22;
+
+    public enum Strategy { LOSER_TREE, PARALLEL_LOSER_TREE, PAIRWISE }
+
+    @Param({"LOSER_TREE", "PARALLEL_LOSER_TREE", "PAIRWISE"})
+    public Strategy strategy;
+
+    @Param({"2", "16", "128", "1024"})
+    public int k;
+
+    @Param({"UNIFORM", "FEW_UNIQUE"})
+    public Distribution distribution;
+
+    private int[][] shards;
+    private int[] out;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        int[] base = distribution.generate(ELEMENTS, Distribution.DEFAULT_SEED);
+        shards = new int[k][];
+        for (int s = 0; s < k; s++) {
+            shards[s] = Arrays.copyOfRange(base, (int) ((long) ELEMENTS * s / k), (int) ((long) ELEMENTS * (s + 1) / k));
+            Arrays.sort(shards[s]);
+        }
+        out = new int[ELEMENTS];
+    }
+
+    @Benchmark
+    public int[] merge() {
+        switch (strategy) {
+            case LOSER_TREE -> KWayMerge.merge(shards, out, 0);
+            case PARALLEL_LOSER_TREE -> KWayMerge.parallelMerge(shards, out, 0);
+            case PAIRWISE -> {
+                return pairwise(shards);
+            }
+        }
+        return out;
+    }
+
+    // --- BASELINE ---
+
+    private static int[] pairwise(int[][] shards) {
+        int[][] round = shards;
+        while (round.length > 1) {
+            int[][] next = new int[(round.length + 1) / 2][];
+            for (int i = 0; i < next.length; i++) {
+                next[i] = 2 * i + 1 < round.length ? merge(round[2 * i], round[2 * i + 1]) : round[2 * i];
+            }
+            round = next;
+        }
+        return round.length == 1 ? round[0] : new int[0];
+    }
+
+    private static int[] merge(int[] left, int[] right) {
+        int[] merged = new int[left.length + right.length];
+        int i = 0, j = 0, k = 0;
+        while (i < left.length && j < right.length) {
+            merged[k++] = left[i] <= right[j] ? left[i++] : right[j++];
+        }
+        while (i < left.length) merged[k++] = left[i++];
+        while (j < right.length) merged[k++] = right[j++];
+        return merged;
+    }
+
+    // --- RUNNER ---
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(KWayMergeBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.arena.sorting;
+
+import com.example.arena.sorting.dataset.Distribution;
+import com.example.arena.sorting.dataset.KeyDatasets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KeyTypeSortBenchmark
+ * One benchmark method per non-int key type. main() pairs each method only with the
+ * algorithms that declare support for that KeyType, so no cell fails on UnsupportedOperationException.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class KeyTypeSortBenchmark {
+
+    @Param({"Sort"})
+    public String algorithm;
+
+    @Param({"UNIFORM", "SORTED", "FEW_UNIQUE", "FULL_RANGE"})
+    public Distribution distribution;
+
+    @Param({"1000000"})
+    public int size;
+
+    private BigOSort sort;
+    private long[] longBase, longData;
+    private double[] doubleBase, doubleData;
+    private float[] floatBase, floatData;
+    private Integer[] objectBase, objectData;
+    private int[] indexKeys;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sort = SortCatalog.create(algorithm);
+        long seed = Distribution.DEFAULT_SEED;
+        longBase = KeyDatasets.longs(distribution, size, seed);
+        doubleBase = KeyDatasets.doubles(distribution, size, seed);
+        floatBase = KeyDatasets.floats(distribution, size, seed);
+        objectBase = KeyDatasets.objects(distribution, size, seed);
+        indexKeys = distribution.generate(size, seed);
+        longData = new long[size];
+        doubleData = new double[size];
+        floatData = new float[size];
+        objectData = new Integer[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreInput() {
+        System.arraycopy(longBase, 0, longData, 0, size);
+        System.arraycopy(doubleBase, 0, doubleData, 0, size);
+        System.arraycopy(floatBase, 0, floatData, 0, size);
+        System.arraycopy(objectBase, 0, objectData, 0, size);
+    }
+
+    @Benchmark
+    public long[] sortLong() {
+        sort.run(longData);
+        return longData;
+    }
+
+    @Benchmark
+    public double[] sortDouble() {
+        sort.run(doubleData);
+        return doubleData;
+    }
+
+    @Benchmark
+    public float[] sortFloat() {
+        sort.run(floatData);
+        return floatData;
+    }
+
+    @Benchmark
+    public Integer[] sortObject() {
+        sort.run(objectData, Comparator.naturalOrder());
+        return objectData;
+    }
+
+    // The keys are never moved, so no per-invocation restore is needed
+    @Benchmark
+    public int[] argsort() {
+        return sort.argsort(indexKeys);
+    }
+
+    // --- RUNNER ---
+
+    public static void main(String[] args) throws RunnerException {
+        run(KeyType.LONG, "sortLong");
+        run(KeyType.DOUBLE, "sortDouble");
+        run(KeyType.FLOAT, "sortFloat");
+        run(KeyType.OBJECT, "sortObject");
+        run(KeyType.INDEX, "argsort");
+    }
+
+    private static void run(KeyType keyType, String method) throws RunnerException {
+        List<String> algorithms = new ArrayList<>();
+        for (BigOSort sort : SortCatalog.all()) {
+            if (sort.supports(keyType)) algorithms.add(sort.getClass().getSimpleName());
+        }
+        if (algorithms.isEmpty()) return;
+
+        new Runner(new OptionsBuilder()
+                .include(KeyTypeSortBenchmark.class.getSimpleName() + "." + method + "$")
+                .param("algorithm", algorithms.toArray(new String[0]))
+                .build()).run();
+    }
+}
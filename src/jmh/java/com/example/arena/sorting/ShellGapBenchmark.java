@@ -0,0 +1,76 @@
+package com.example.arena.sorting;
+
+import com.example.arena.sorting.algorithms.Shell;
+import com.example.arena.sorting.dataset.Distribution;
+import com.example.arena.sorting.shell.Gaps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ShellGapBenchmark
+ * Shell Sort per gap sequence, per distribution, at the sizes where Shell Sort is a realistic choice
+ * (small-array paths and fallbacks). ShellGapComparison reports the matching comparison / move counts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ShellGapBenchmark {
+
+    @Param({"SHELL", "HIBBARD", "SEDGEWICK", "TOKUDA", "CIURA", "PRATT"})
+    public Gaps gaps;
+
+    @Param({"UNIFORM", "SORTED", "REVERSED", "NEARLY_SORTED", "ORGAN_PIPE",
+            "FEW_UNIQUE", "ZIPF", "SAWTOOTH", "ALL_EQUAL", "FULL_RANGE"})
+    public Distribution distribution;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Shell sort;
+    private int[] base;
+    private int[] data;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sort = new Shell(gaps);
+        base = distribution.generate(size, Distribution.DEFAULT_SEED);
+        data = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreInput() {
+        System.arraycopy(base, 0, data, 0, size);
+    }
+
+    @Benchmark
+    public int[] sort() {
+        sort.run(data);
+        return data;
+    }
+
+    // --- RUNNER ---
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ShellGapBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
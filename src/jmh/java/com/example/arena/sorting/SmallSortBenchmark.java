@@ -0,0 +1,95 @@
+package com.example.arena.sorting;
+
+import com.example.arena.sorting.dataset.Distribution;
+import com.example.arena.sorting.smallsort.SmallSort;
+import com.example.arena.sorting.smallsort.SmallSorts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SmallSortBenchmark
+ * The leaf kernels on their own: time per sorted block of 16, 32 and 64 ints, scalar insertion sort
+ * against the Vector API bitonic network. Each invocation sorts every block of one 64K-element array,
+ * so the result is reported per block.
+ *
+ * The forks add jdk.incubator.vector; the BITONIC_SIMD rows fail fast if the kernel still cannot load.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "--add-modules", "jdk.incubator.vector"})
+public class SmallSortBenchmark {
+
+    private static final int ELEMENTS = 1 << 16;
+    private static final int BLOCKS_OF_64 = ELEMENTS / 64;
+
+    public enum Kernel { INSERTION, BITONIC_SIMD }
+
+    @Param({"INSERTION", "BITONIC_SIMD"})
+    public Kernel kernel;
+
+    @Param({"UNIFORM", "SORTED", "REVERSED", "FEW_UNIQUE"})
+    public Distribution distribution;
+
+    @Param({"16", "32", "64"})
+    public int blockSize;
+
+    private SmallSort sort;
+    private int[] base;
+    private int[] data;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sort = switch (kernel) {
+            case INSERTION -> SmallSorts.insertion(blockSize);
+            case BITONIC_SIMD -> SmallSorts.vector().orElseThrow(
+                    () -> new IllegalStateException("Vector kernel unavailable, is jdk.incubator.vector loaded?"));
+        };
+        base = distribution.generate(ELEMENTS, Distribution.DEFAULT_SEED);
+        data = new int[ELEMENTS];
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreInput() {
+        System.arraycopy(base, 0, data, 0, ELEMENTS);
+    }
+
+    /*
+     * JMH needs a constant operation count, so the score is per 64 elements: equal to the time per block
+     * for blockSize = 64, and per two / four blocks for 32 / 16.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS_OF_64)
+    public int[] sortBlocks() {
+        for (int from = 0; from < ELEMENTS; from += blockSize) {
+            sort.sort(data, from, from + blockSize);
+        }
+        return data;
+    }
+
+    // --- RUNNER ---
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SmallSortBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
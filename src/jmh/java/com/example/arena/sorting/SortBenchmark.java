@@ -0,0 +1,161 @@
+package com.example.arena.sorting;
+
+import com.example.arena.complexity.Complexity;
+import com.example.arena.sorting.dataset.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * SortBenchmark
+ * The JMH replacement for the single-shot System.nanoTime() loop in SortingComparison.
+ *
+ * Every (algorithm, distribution, size) cell gets its own forked JVM, warmup iterations and a Blackhole,
+ * and is reported as ops/s, average time and sampled latency percentiles.
+ *
+ * Run everything the catalog discovers:   java -cp <jmh classpath> com.example.arena.sorting.SortBenchmark
+ * Or a single cell through the JMH CLI:    -p algorithm=Quick -p distribution=SORTED -p size=1000000
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Xss64m"})
+public class SortBenchmark {
+
+    // Quadratic sorts are capped here by main(); a 10M Bubble Sort would never finish.
+    static final int QUADRATIC_SIZE_LIMIT = 100_000;
+
+    // Random keys, mostly distinct: the inputs on which a sort with a quadratic worst case (Quick's last-element
+    // pivot) still runs its average case. Every other distribution caps such a sort at QUADRATIC_SIZE_LIMIT
+    static final Set<Distribution> AVERAGE_CASE_INPUTS = EnumSet.of(Distribution.UNIFORM, Distribution.FULL_RANGE);
+
+    // Default values for plain JMH CLI runs. main() replaces the algorithm list with SortCatalog.names().
+    @Param({"AmericanFlag", "Bubble", "Bucket", "Counting", "Cube", "Heap", "Insertion", "Intro", "LsdRadix", "Merge",
+            "ParallelMerge", "Quick", "Radix", "SampleSort", "Selection", "Shell", "Smart", "Sort", "Tim", "Tree"})
+    public String algorithm;
+
+    @Param({"UNIFORM", "SORTED", "REVERSED", "NEARLY_SORTED", "ORGAN_PIPE",
+            "FEW_UNIQUE", "ZIPF", "SAWTOOTH", "ALL_EQUAL", "FULL_RANGE"})
+    public Distribution distribution;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private BigOSort sort;
+    private int[] base;
+    private int[] data;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sort = SortCatalog.create(algorithm);
+        // Same seed as SortingComparison, so both tools sort identical data
+        base = distribution.generate(size, Distribution.DEFAULT_SEED);
+        data = new int[size];
+    }
+
+    // Every invocation must sort unsorted data, so restore the input outside the measured region
+    @Setup(Level.Invocation)
+    public void restoreInput() {
+        System.arraycopy(base, 0, data, 0, size);
+    }
+
+    @Benchmark
+    public void sort(Blackhole blackhole) {
+        sort.run(data);
+        blackhole.consume(data);
+    }
+
+    // --- RUNNER ---
+
+    /**
+     * Discovers every BigOSort and runs its cells in JMH passes:
+     * - O(n^2) average-case sorts only up to QUADRATIC_SIZE_LIMIT
+     * - O(n^2) worst-case sorts over the full size range on AVERAGE_CASE_INPUTS, up to QUADRATIC_SIZE_LIMIT on
+     *   the rest (Quick Sort on SORTED / REVERSED / ALL_EQUAL at 10M would never finish)
+     * - everything else over the full size range.
+     * Unparseable Big O strings count as quadratic.
+     */
+    public static void main(String[] args) throws RunnerException {
+        List<String> quadratic = new ArrayList<>();
+        List<String> quadraticWorst = new ArrayList<>();
+        List<String> scalable = new ArrayList<>();
+        for (BigOSort sort : SortCatalog.all()) {
+            String name = sort.getClass().getSimpleName();
+            if (degree(sort.getAverageTime()) >= 2) {
+                quadratic.add(name);
+            } else if (degree(sort.getWorstTime()) >= 2) {
+                quadraticWorst.add(name);
+            } else {
+                scalable.add(name);
+            }
+        }
+
+        String[] allSizes = {"1000", "10000", "100000", "1000000", "10000000"};
+        List<String> smallSizes = new ArrayList<>();
+        for (String s : allSizes) {
+            if (Integer.parseInt(s) <= QUADRATIC_SIZE_LIMIT) smallSizes.add(s);
+        }
+
+        String[] small = smallSizes.toArray(new String[0]);
+        Set<Distribution> all = EnumSet.allOf(Distribution.class);
+        Set<Distribution> worstCase = EnumSet.complementOf(EnumSet.copyOf(AVERAGE_CASE_INPUTS));
+
+        run(quadratic, all, small);
+        run(quadraticWorst, AVERAGE_CASE_INPUTS, allSizes);
+        run(quadraticWorst, worstCase, small);
+        run(scalable, all, allSizes);
+    }
+
+    private static double degree(String bigO) {
+        return Complexity.parse(bigO).map(Complexity::getDegree).orElse(2.0);
+    }
+
+    // One JMH pass over every (algorithm, distribution, size) combination; nothing to do if either list is empty
+    private static void run(List<String> algorithms, Set<Distribution> distributions, String[] sizes)
+            throws RunnerException {
+        if (algorithms.isEmpty() || distributions.isEmpty()) return;
+        new Runner(options(algorithms, distributions, sizes)).run();
+    }
+
+    private static Options options(List<String> algorithms, Set<Distribution> distributions, String[] sizes) {
+        return new OptionsBuilder()
+                // Anchored: a bare "SortBenchmark.sort" would also match KeyTypeSortBenchmark.sortLong etc.
+                .include("^" + Pattern.quote(SortBenchmark.class.getName() + ".sort") + "$")
+                .param("algorithm", algorithms.toArray(new String[0]))
+                .param("distribution", distributionNames(distributions))
+                .param("size", sizes)
+                .build();
+    }
+
+    private static String[] distributionNames(Set<Distribution> distributions) {
+        String[] names = new String[distributions.size()];
+        int i = 0;
+        for (Distribution distribution : distributions) {
+            names[i++] = distribution.name();
+        }
+        return names;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.arena.algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * CountMinSketch
+ * Approximate frequencies of an unbounded int stream in depth x width counters (Cormode and Muthukrishnan),
+ * plus the `candidates` items with the highest estimates so far, so the sketch can also answer top-k.
+ *
+ * Every item bumps one counter per row; its estimate is the smallest of those counters. Estimates never
+ * undercount, and overcount by more than e / width * N (N = stream length) only with probability e^-depth.
+ * Two sketches with the same width, depth and seed merge by adding their tables.
+ */
+public final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long seed;
+    private final int shift;
+    private final long[] table;      // row r at [r * width, (r + 1) * width)
+    private final long[] multipliers; // one odd multiplier per row: the row's hash function
+    private final CounterHeap candidates;
+    private long streamLength;
+
+    // 1. Constructor
+    public CountMinSketch(int width, int depth, int candidates, long seed) {
+        if (width < 2 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width must be a power of two >= 2: " + width);
+        }
+        if (depth < 1) throw new IllegalArgumentException("depth must be >= 1: " + depth);
+        this.width = width;
+        this.depth = depth;
+        this.seed = seed;
+        this.shift = 64 - Integer.numberOfTrailingZeros(width);
+        this.table = new long[width * depth];
+        this.multipliers = new long[depth];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int row = 0; row < depth; row++) multipliers[row] = random.nextLong() | 1L;
+        this.candidates = new CounterHeap(candidates);
+    }
+
+    // 2. Logic
+    public void add(int item) {
+        streamLength++;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int cell = row * width + column(row, item);
+            estimate = Math.min(estimate, ++table[cell]);
+        }
+        track(item, estimate);
+    }
+
+    /**
+     * Upper bound on item's frequency (exceeded by more than e / width * N only with probability e^-depth).
+     */
+    public long estimate(int item) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, table[row * width + column(row, item)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Adds other's counters to this sketch and re-ranks the candidates of both against the merged table.
+     */
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth || other.seed != seed) {
+            throw new IllegalArgumentException("Only sketches with the same width, depth and seed can be merged");
+        }
+        for (int cell = 0; cell < table.length; cell++) table[cell] += other.table[cell];
+        streamLength += other.streamLength;
+
+        int[] items = new int[candidates.size() + other.candidates.size()];
+        int n = 0;
+        for (int position = 0; position < candidates.size(); position++) items[n++] = candidates.item(position);
+        for (int position = 0; position < other.candidates.size(); position++) {
+            items[n++] = other.candidates.item(position);
+        }
+        candidates.clear();
+        Arrays.sort(items);
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || items[i] != items[i - 1]) track(items[i], estimate(items[i]));
+        }
+    }
+
+    /**
+     * The k candidates with the highest estimates, most frequent first. error is the e / width * N bound.
+     */
+    public List<HeavyHitter> topK(int k) {
+        long error = (long) Math.ceil(Math.E / width * streamLength);
+        List<HeavyHitter> all = new ArrayList<>(candidates.size());
+        for (int position = 0; position < candidates.size(); position++) {
+            long count = candidates.count(position);
+            all.add(new HeavyHitter(candidates.item(position), count, Math.min(count, error)));
+        }
+        all.sort(Comparator.comparingLong(HeavyHitter::count).reversed());
+        return all.subList(0, Math.min(k, all.size()));
+    }
+
+    // Estimates only grow, so a tracked item is raised, a new one enters only by beating the weakest candidate
+    private void track(int item, long estimate) {
+        int position = candidates.find(item);
+        if (position >= 0) {
+            candidates.raise(position, estimate, 0);
+        } else if (!candidates.isFull()) {
+            candidates.insert(item, estimate, 0);
+        } else if (estimate > candidates.minCount()) {
+            candidates.replaceMin(item, estimate, 0);
+        }
+    }
+
+    // Multiply-shift hashing: the top log2(width) bits of item * multiplier
+    private int column(int row, int item) {
+        return (int) ((item * multipliers[row]) >>> shift);
+    }
+
+    public long getStreamLength() {
+        return streamLength;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getCandidates() {
+        return candidates.capacity();
+    }
+}
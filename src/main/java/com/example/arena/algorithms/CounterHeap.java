@@ -0,0 +1,182 @@
+package com.example.arena.algorithms;
+
+/**
+ * CounterHeap
+ * Fixed-capacity set of (item, count, error) counters, ordered as a min-heap on count, with an item index so a
+ * counter can be found and bumped in O(1) + O(log capacity). The bookkeeping behind SpaceSaving and the
+ * candidate list of CountMinSketch: both need "is this item tracked?", "bump it" and "evict the smallest".
+ *
+ * The index is open addressing with linear probing over a power-of-two table at most half full; a removed item
+ * is deleted by shifting its cluster back, so no tombstones pile up under constant eviction.
+ */
+final class CounterHeap {
+
+    private final int capacity;
+    private int size;
+
+    // Heap arrays, position 0 holds the smallest count
+    private final int[] items;
+    private final long[] counts;
+    private final long[] errors;
+    private final int[] slotOf; // index slot of the item at each heap position
+
+    // Index: item -> heap position + 1 (0 = empty slot)
+    private final int[] keys;
+    private final int[] positions;
+    private final int mask;
+    private final int shift;
+
+    // 1. Constructor
+    CounterHeap(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be >= 1: " + capacity);
+        this.capacity = capacity;
+        this.items = new int[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.slotOf = new int[capacity];
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity) - 1) << 2; // >= 2 * capacity
+        this.keys = new int[tableSize];
+        this.positions = new int[tableSize];
+        this.mask = tableSize - 1;
+        this.shift = Integer.numberOfLeadingZeros(mask);
+    }
+
+    // 2. Heap API
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    boolean isFull() {
+        return size == capacity;
+    }
+
+    int item(int position) {
+        return items[position];
+    }
+
+    long count(int position) {
+        return counts[position];
+    }
+
+    long error(int position) {
+        return errors[position];
+    }
+
+    long minCount() {
+        return counts[0];
+    }
+
+    /**
+     * Heap position of item, or -1 if it is not tracked.
+     */
+    int find(int item) {
+        for (int slot = home(item); positions[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == item) return positions[slot] - 1;
+        }
+        return -1;
+    }
+
+    // Precondition: !isFull() and item not tracked
+    void insert(int item, long count, long error) {
+        int slot = home(item);
+        while (positions[slot] != 0) slot = (slot + 1) & mask;
+        keys[slot] = item;
+        int position = size++;
+        place(position, item, count, error, slot);
+        siftUp(position);
+    }
+
+    /**
+     * Raises the count at position to count (never lowers it), sets its error, and restores the heap.
+     */
+    void raise(int position, long count, long error) {
+        counts[position] = count;
+        errors[position] = error;
+        siftDown(position);
+    }
+
+    /**
+     * Evicts the counter with the smallest count and tracks item instead.
+     */
+    void replaceMin(int item, long count, long error) {
+        removeFromIndex(slotOf[0]);
+        int slot = home(item);
+        while (positions[slot] != 0) slot = (slot + 1) & mask;
+        keys[slot] = item;
+        place(0, item, count, error, slot);
+        siftDown(0);
+    }
+
+    void clear() {
+        for (int position = 0; position < size; position++) positions[slotOf[position]] = 0;
+        size = 0;
+    }
+
+    // --- HEAP ---
+
+    private void place(int position, int item, long count, long error, int slot) {
+        items[position] = item;
+        counts[position] = count;
+        errors[position] = error;
+        slotOf[position] = slot;
+        positions[slot] = position + 1;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (counts[parent] <= counts[position]) return;
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && counts[left] < counts[smallest]) smallest = left;
+            if (right < size && counts[right] < counts[smallest]) smallest = right;
+            if (smallest == position) return;
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int item = items[a];
+        long count = counts[a];
+        long error = errors[a];
+        int slot = slotOf[a];
+        place(a, items[b], counts[b], errors[b], slotOf[b]);
+        place(b, item, count, error, slot);
+    }
+
+    // --- INDEX ---
+
+    private int home(int item) {
+        return (item * 0x9E3779B9) >>> shift; // Fibonacci hashing: the top log2(table size) bits
+    }
+
+    // Backward-shift delete: later members of the cluster that may live at the freed slot move back into it
+    private void removeFromIndex(int free) {
+        positions[free] = 0;
+        for (int slot = (free + 1) & mask; positions[slot] != 0; slot = (slot + 1) & mask) {
+            int home = home(keys[slot]);
+            boolean reachable = free <= slot ? home <= free || home > slot : home <= free && home > slot;
+            if (reachable) {
+                keys[free] = keys[slot];
+                positions[free] = positions[slot];
+                slotOf[positions[free] - 1] = free;
+                positions[slot] = 0;
+                free = slot;
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.arena.algorithms;
+
+/**
+ * HeavyHitter
+ * One frequent item reported by a sketch: count is an upper bound on its true frequency, and
+ * count - error a lower bound (error is 0 when the count is exact).
+ */
+public record HeavyHitter(int item, long count, long error) {
+
+    public long guaranteedCount() {
+        return count - error;
+    }
+}
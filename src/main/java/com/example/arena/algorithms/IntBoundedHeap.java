@@ -0,0 +1,108 @@
+package com.example.arena.algorithms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * IntBoundedHeap
+ * Keeps the k largest ints offered to it, in a primitive binary min-heap of fixed capacity k.
+ *
+ * The root is the smallest value kept, so once the heap is full it is the k-th largest so far, and a new value
+ * only enters by beating it. O(log k) per accepted value, O(1) per rejected one, and no allocation after
+ * construction, unlike a PriorityQueue<Integer> which boxes every element it sees.
+ */
+public final class IntBoundedHeap {
+
+    private final int[] heap;
+    private int size;
+
+    // 1. Constructor
+    public IntBoundedHeap(int k) {
+        if (k < 1) throw new IllegalArgumentException("k must be >= 1: " + k);
+        this.heap = new int[k];
+    }
+
+    // 2. Logic
+
+    /**
+     * Returns true if value is now among the k largest kept.
+     */
+    public boolean offer(int value) {
+        if (size < heap.length) {
+            heap[size] = value;
+            siftUp(size++);
+            return true;
+        }
+        if (value <= heap[0]) return false;
+        heap[0] = value;
+        siftDown(0);
+        return true;
+    }
+
+    public void offerAll(int[] values) {
+        for (int value : values) offer(value);
+    }
+
+    /**
+     * Smallest value kept: the k-th largest offered once the heap is full.
+     */
+    public int peek() {
+        if (size == 0) throw new NoSuchElementException("Heap is empty");
+        return heap[0];
+    }
+
+    /**
+     * The kept values, largest first.
+     */
+    public int[] toSortedArray() {
+        int[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted);
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int temp = sorted[i];
+            sorted[i] = sorted[j];
+            sorted[j] = temp;
+        }
+        return sorted;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return heap.length;
+    }
+
+    public boolean isFull() {
+        return size == heap.length;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void siftUp(int i) {
+        int value = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= value) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    // Hole-based: the displaced value is written once, at its final position
+    private void siftDown(int i) {
+        int value = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (value <= heap[child]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+}
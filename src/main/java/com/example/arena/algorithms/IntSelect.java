@@ -0,0 +1,172 @@
+package com.example.arena.algorithms;
+
+import com.example.arena.sorting.algorithms.Heap;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * IntSelect
+ * Selection on int[] without boxing or a full sort (C++'s nth_element / partial_sort).
+ *
+ * - select(arr, k):       arr[k] becomes the element a full sort would put there, everything before it is <= and
+ *                         everything after it is >=. Floyd-Rivest: on large ranges a recursive select on a small
+ *                         sample puts both pivots' ranks right next to k, so a range shrinks to about
+ *                         n^(2/3) per step. Average 1.5n + o(n) comparisons.
+ * - Introspective guard:  a range that has not converged after 2 log2(n) steps is finished with Heap Sort,
+ *                         so the worst case stays O(n log n).
+ * - partialSort(arr, k):  the k smallest elements in ascending order in arr[0, k), the rest in any order;
+ *                         partialSortLargest() the same for the k largest, in arr[n - k, n).
+ *
+ * For the k largest of a stream, or when the input must not be reordered, use {@link IntBoundedHeap}.
+ */
+public final class IntSelect {
+
+    // Ranges above this size first narrow their pivots with a sampled select (Floyd and Rivest's constant)
+    private static final int SAMPLING_THRESHOLD = 600;
+
+    private IntSelect() {
+    }
+
+    // 1. Selection
+
+    /**
+     * Reorders arr so that arr[k] is its k-th smallest element (0-based) and returns it.
+     */
+    public static int select(int[] arr, int k) {
+        return select(arr, 0, arr.length, k);
+    }
+
+    /**
+     * select() on arr[from, to) only; k is an absolute index inside that range.
+     */
+    public static int select(int[] arr, int from, int to, int k) {
+        if (k < from || k >= to) {
+            throw new IllegalArgumentException("k = " + k + " is outside [" + from + ", " + to + ")");
+        }
+        floydRivest(arr, from, to - 1, k);
+        return arr[k];
+    }
+
+    /**
+     * Lower median (the element at index (n - 1) / 2 of the sorted array); reorders arr.
+     */
+    public static int median(int[] arr) {
+        return select(arr, (arr.length - 1) / 2);
+    }
+
+    /**
+     * k-th largest, 1-based like TopKElements.findKthLargest (k = 1 is the maximum); reorders arr.
+     */
+    public static int kthLargest(int[] arr, int k) {
+        return select(arr, arr.length - k);
+    }
+
+    // 2. Partial sort
+
+    /**
+     * Sorts only the k smallest elements into arr[0, k). O(n + k log k) on average.
+     */
+    public static void partialSort(int[] arr, int k) {
+        if (k < 0 || k > arr.length) {
+            throw new IllegalArgumentException("k must be in [0, " + arr.length + "]: " + k);
+        }
+        if (k == arr.length) {
+            Arrays.sort(arr);
+        } else if (k > 0) {
+            select(arr, k - 1);
+            Arrays.sort(arr, 0, k - 1); // arr[k - 1] is already in place
+        }
+    }
+
+    /**
+     * The top k instead: the k largest elements sorted ascending into arr[n - k, n), the layout Heap.sortLargest
+     * leaves behind.
+     */
+    public static void partialSortLargest(int[] arr, int k) {
+        int n = arr.length;
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("k must be in [0, " + n + "]: " + k);
+        }
+        if (k == n) {
+            Arrays.sort(arr);
+        } else if (k > 0) {
+            select(arr, n - k);
+            Arrays.sort(arr, n - k + 1, n); // arr[n - k] is already in place
+        }
+    }
+
+    // 3. Logic (left and right inclusive, as in Floyd and Rivest's paper)
+    private static void floydRivest(int[] arr, int left, int right, int k) {
+        int stepsLeft = 2 * (32 - Integer.numberOfLeadingZeros(right - left + 1));
+        while (right > left) {
+            if (--stepsLeft < 0) {
+                Heap.sortRange(arr, left, right + 1);
+                return;
+            }
+
+            // Step 1: Narrow [left, right] around k by selecting inside a sample of it first
+            if (right - left > SAMPLING_THRESHOLD) {
+                double n = right - left + 1;
+                double i = k - left + 1;
+                double z = Math.log(n);
+                double s = 0.5 * Math.exp(2 * z / 3);
+                double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2);
+                int newLeft = (int) Math.max(left, k - i * s / n + sd);
+                int newRight = (int) Math.min(right, k + (n - i) * s / n + sd);
+                floydRivest(arr, newLeft, newRight, k);
+            }
+
+            // Step 2: Partition [left, right] around t = arr[k]
+            int t = arr[k];
+            int i = left;
+            int j = right;
+            swap(arr, left, k);
+            if (arr[right] > t) swap(arr, right, left);
+            while (i < j) {
+                swap(arr, i, j);
+                i++;
+                j--;
+                while (arr[i] < t) i++;
+                while (arr[j] > t) j--;
+            }
+            if (arr[left] == t) {
+                swap(arr, left, j);
+            } else {
+                j++;
+                swap(arr, j, right);
+            }
+
+            // Step 3: t is now at j; keep the side that holds k
+            if (j <= k) left = j + 1;
+            if (k <= j) right = j - 1;
+        }
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        int[] data = new Random(42).ints(1_000_000, 0, 1_000).toArray();
+        int[] sorted = data.clone();
+        Arrays.sort(sorted);
+
+        boolean ok = true;
+        for (int k : new int[]{0, 1, 599, 500_000, 999_998, 999_999}) {
+            ok &= select(data.clone(), k) == sorted[k];
+        }
+        int[] partial = data.clone();
+        partialSort(partial, 1_000);
+        ok &= Arrays.equals(Arrays.copyOf(partial, 1_000), Arrays.copyOf(sorted, 1_000));
+        partial = data.clone();
+        partialSortLargest(partial, 1_000);
+        ok &= Arrays.equals(Arrays.copyOfRange(partial, 999_000, 1_000_000), Arrays.copyOfRange(sorted, 999_000, 1_000_000));
+
+        System.out.println("Median: " + median(data.clone()) + " (expected " + sorted[(sorted.length - 1) / 2] + ")");
+        System.out.println("Selections and partial sort match a full sort: " + ok);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.arena.algorithms;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * SpaceSaving
+ * Approximate most frequent items of an unbounded int stream in exactly `counters` counters (Metwally et al.).
+ *
+ * A tracked item has its counter bumped; an untracked one takes over the smallest counter and inherits its count
+ * as both count and error. So every count is an upper bound, overestimated by at most N / counters
+ * (N = stream length), and every item more frequent than N / counters is guaranteed to be tracked.
+ * Summaries of different streams merge without losing those guarantees (Agarwal et al., mergeable summaries).
+ */
+public final class SpaceSaving {
+
+    private final CounterHeap counters;
+    private long streamLength;
+
+    // 1. Constructor
+    public SpaceSaving(int counters) {
+        this.counters = new CounterHeap(counters);
+    }
+
+    // 2. Logic
+    public void add(int item) {
+        streamLength++;
+        int position = counters.find(item);
+        if (position >= 0) {
+            counters.raise(position, counters.count(position) + 1, counters.error(position));
+        } else if (!counters.isFull()) {
+            counters.insert(item, 1, 0);
+        } else {
+            long evicted = counters.minCount();
+            counters.replaceMin(item, evicted + 1, evicted);
+        }
+    }
+
+    /**
+     * Folds other into this summary (other is unchanged), as if this had seen both streams.
+     *
+     * An item one side does not track may still have occurred there up to that side's smallest count (0 if
+     * that side never evicted), so it is charged that much, as count and as error. The union is then cut
+     * back to the `counters` highest counts: every count stays an upper bound, overestimated by at most
+     * (N1 + N2) / counters. Replaying other's counters through add() would let a merged item inherit the
+     * wrong minimum and undercount.
+     */
+    public void merge(SpaceSaving other) {
+        long ownMissing = counters.isFull() ? counters.minCount() : 0;
+        long otherMissing = other.counters.isFull() ? other.counters.minCount() : 0;
+
+        List<HeavyHitter> union = new ArrayList<>(counters.size() + other.counters.size());
+        for (int position = 0; position < counters.size(); position++) {
+            int item = counters.item(position);
+            int theirs = other.counters.find(item);
+            long count = theirs >= 0 ? other.counters.count(theirs) : otherMissing;
+            long error = theirs >= 0 ? other.counters.error(theirs) : otherMissing;
+            union.add(new HeavyHitter(item, counters.count(position) + count, counters.error(position) + error));
+        }
+        for (int position = 0; position < other.counters.size(); position++) {
+            int item = other.counters.item(position);
+            if (counters.find(item) >= 0) continue;
+            union.add(new HeavyHitter(item, other.counters.count(position) + ownMissing,
+                    other.counters.error(position) + ownMissing));
+        }
+
+        union.sort(Comparator.comparingLong(HeavyHitter::count).reversed());
+        counters.clear();
+        for (HeavyHitter kept : union.subList(0, Math.min(counters.capacity(), union.size()))) {
+            counters.insert(kept.item(), kept.count(), kept.error());
+        }
+        streamLength += other.streamLength;
+    }
+
+    /**
+     * Upper bound on item's frequency (0 if it was never tracked and the summary is not yet full).
+     */
+    public long estimate(int item) {
+        int position = counters.find(item);
+        if (position >= 0) return counters.count(position);
+        return counters.isFull() ? counters.minCount() : 0;
+    }
+
+    /**
+     * The k highest counters, most frequent first.
+     */
+    public List<HeavyHitter> topK(int k) {
+        List<HeavyHitter> all = new ArrayList<>(counters.size());
+        for (int position = 0; position < counters.size(); position++) {
+            all.add(new HeavyHitter(counters.item(position), counters.count(position), counters.error(position)));
+        }
+        all.sort(Comparator.comparingLong(HeavyHitter::count).reversed());
+        return all.subList(0, Math.min(k, all.size()));
+    }
+
+    public long getStreamLength() {
+        return streamLength;
+    }
+
+    public int getCounters() {
+        return counters.capacity();
+    }
+
+    public void clear() {
+        counters.clear();
+        streamLength = 0;
+    }
+}
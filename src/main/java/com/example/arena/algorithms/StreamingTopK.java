@@ -0,0 +1,223 @@
+package com.example.arena.algorithms;
+
+import com.example.arena.sorting.dataset.Distribution;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * StreamingTopK
+ * Incremental top-k over an unbounded int stream, in memory that does not grow with the stream:
+ *
+ * - LARGEST_VALUES:  the exact k largest values (IntBoundedHeap, k ints).
+ * - SPACE_SAVING:    the approximately k most frequent items (SpaceSaving, `counters` counters).
+ * - COUNT_MIN:       the same from a CountMinSketch (width x depth counters + k candidates).
+ *
+ * Push values with accept() (it is an IntConsumer) or acceptAll(IntStream), from any number of threads.
+ * Every producing thread gets its own shard on its first value and updates it without any lock or shared write;
+ * the results merge all shards on read. Memory is O(producing threads x shard size) however long the stream,
+ * so a pool of producers (e.g. the workers of a parallel stream) keeps it bounded.
+ *
+ * Read results once the producers are done (after acceptAll returns, or after joining the producer threads):
+ * that is what makes their unsynchronized updates visible, and a read racing a producer is not supported.
+ */
+public final class StreamingTopK implements IntConsumer {
+
+    public enum Mode { LARGEST_VALUES, SPACE_SAVING, COUNT_MIN }
+
+    public static final long DEFAULT_SEED = 42L;
+
+    private final Mode mode;
+    private final int k;
+    private final int counters; // SPACE_SAVING: counters per shard; COUNT_MIN: sketch width
+    private final int depth;    // COUNT_MIN only
+    private final long seed;    // COUNT_MIN only
+
+    // Every shard ever created, one per producing thread; the ThreadLocal hands each thread its own
+    private final Queue<Shard> shards = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Shard> localShard = ThreadLocal.withInitial(() -> {
+        Shard shard = new Shard();
+        shards.add(shard);
+        return shard;
+    });
+
+    // 1. Constructors (through the factories below)
+    private StreamingTopK(Mode mode, int k, int counters, int depth, long seed) {
+        if (k < 1) throw new IllegalArgumentException("k must be >= 1: " + k);
+        if (mode == Mode.SPACE_SAVING && counters < k) {
+            throw new IllegalArgumentException("counters must be >= k: " + counters + " < " + k);
+        }
+        this.mode = mode;
+        this.k = k;
+        this.counters = counters;
+        this.depth = depth;
+        this.seed = seed;
+    }
+
+    public static StreamingTopK largestValues(int k) {
+        return new StreamingTopK(Mode.LARGEST_VALUES, k, 0, 0, DEFAULT_SEED);
+    }
+
+    /**
+     * Space-Saving with `counters` counters per shard: counts are overestimated by at most
+     * stream length / counters, so a few times k is usual.
+     */
+    public static StreamingTopK spaceSaving(int k, int counters) {
+        return new StreamingTopK(Mode.SPACE_SAVING, k, counters, 0, DEFAULT_SEED);
+    }
+
+    public static StreamingTopK countMin(int k, int width, int depth) {
+        return countMin(k, width, depth, DEFAULT_SEED);
+    }
+
+    public static StreamingTopK countMin(int k, int width, int depth, long seed) {
+        return new StreamingTopK(Mode.COUNT_MIN, k, width, depth, seed);
+    }
+
+    // 2. Producers
+
+    @Override
+    public void accept(int value) {
+        localShard.get().add(value);
+    }
+
+    /**
+     * Drains stream into this engine; every worker thread of a parallel stream fills its own shard.
+     */
+    public void acceptAll(IntStream stream) {
+        stream.forEach(this);
+    }
+
+    // 3. Results (merged over every shard; call them once the producers are done, see the class comment)
+
+    /**
+     * LARGEST_VALUES: the k largest values so far, largest first.
+     */
+    public int[] topValues() {
+        requireMode(Mode.LARGEST_VALUES);
+        IntBoundedHeap merged = new IntBoundedHeap(k);
+        for (Shard shard : shards) merged.offerAll(shard.values.toSortedArray());
+        return merged.toSortedArray();
+    }
+
+    /**
+     * SPACE_SAVING / COUNT_MIN: the k most frequent items so far, most frequent first.
+     */
+    public List<HeavyHitter> heavyHitters() {
+        if (mode == Mode.SPACE_SAVING) {
+            SpaceSaving merged = new SpaceSaving(counters);
+            for (Shard shard : shards) merged.merge(shard.frequent);
+            return merged.topK(k);
+        }
+        requireMode(Mode.COUNT_MIN);
+        CountMinSketch merged = new CountMinSketch(counters, depth, k, seed);
+        for (Shard shard : shards) merged.merge(shard.sketch);
+        return merged.topK(k);
+    }
+
+    /**
+     * Values accepted so far, over all producers.
+     */
+    public long count() {
+        long count = 0;
+        for (Shard shard : shards) count += shard.count;
+        return count;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    // Producing threads seen so far
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    private void requireMode(Mode required) {
+        if (mode != required) throw new IllegalStateException("Not available in " + mode + " mode");
+    }
+
+    // --- SHARDS ---
+
+    // The state of one producing thread, only ever written by it: exactly one of the three structures, chosen by mode
+    private final class Shard {
+        private final IntBoundedHeap values = mode == Mode.LARGEST_VALUES ? new IntBoundedHeap(k) : null;
+        private final SpaceSaving frequent = mode == Mode.SPACE_SAVING ? new SpaceSaving(counters) : null;
+        private final CountMinSketch sketch = mode == Mode.COUNT_MIN ? new CountMinSketch(counters, depth, k, seed) : null;
+        private long count;
+
+        void add(int value) {
+            count++;
+            switch (mode) {
+                case LARGEST_VALUES -> values.offer(value);
+                case SPACE_SAVING -> frequent.add(value);
+                case COUNT_MIN -> sketch.add(value);
+            }
+        }
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        int[] events = Distribution.ZIPF.generate(2_000_000, Distribution.DEFAULT_SEED);
+
+        Map<Integer, Long> exact = new HashMap<>();
+        for (int event : events) exact.merge(event, 1L, Long::sum);
+        System.out.println("Exact top 5: " + exact.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Long>comparingByValue().reversed()).limit(5).toList());
+
+        StreamingTopK largest = largestValues(5);
+        StreamingTopK spaceSaving = spaceSaving(5, 100);
+        StreamingTopK countMin = countMin(5, 1 << 12, 4);
+        for (StreamingTopK engine : List.of(largest, spaceSaving, countMin)) {
+            engine.acceptAll(Arrays.stream(events).parallel());
+        }
+
+        int[] sorted = events.clone();
+        Arrays.sort(sorted);
+        System.out.println("Largest 5:   " + Arrays.toString(largest.topValues()) + " (expected "
+                + Arrays.toString(Arrays.copyOfRange(sorted, sorted.length - 5, sorted.length)) + " reversed)");
+        System.out.println("SpaceSaving: " + spaceSaving.heavyHitters());
+        System.out.println("CountMin:    " + countMin.heavyHitters());
+        System.out.println("Events seen: " + countMin.count());
+
+        // Merging shards: 7 occurs 15 times in all, but shard B evicted it for 1 and 2
+        SpaceSaving shardA = new SpaceSaving(2);
+        SpaceSaving shardB = new SpaceSaving(2);
+        feed(shardA::add, 7, 10);
+        feed(shardB::add, 7, 5);
+        feed(shardB::add, 1, 6);
+        feed(shardB::add, 2, 6);
+        shardA.merge(shardB);
+        System.out.println("Merged estimate of 7: " + shardA.estimate(7) + " (true count 15), top: " + shardA.topK(2));
+
+        StreamingTopK twoProducers = spaceSaving(1, 2);
+        runInThread(() -> feed(twoProducers, 7, 10));
+        runInThread(() -> {
+            feed(twoProducers, 7, 5);
+            feed(twoProducers, 1, 6);
+            feed(twoProducers, 2, 6);
+        });
+        System.out.println("Two producers, top 1: " + twoProducers.heavyHitters() + " (expected item 7, "
+                + twoProducers.getShardCount() + " shards merged)");
+    }
+
+    private static void feed(IntConsumer consumer, int item, int times) {
+        for (int i = 0; i < times; i++) consumer.accept(item);
+    }
+
+    private static void runInThread(Runnable producer) {
+        Thread thread = new Thread(producer);
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.arena.algorithms;
 
+import java.util.Arrays;
 import java.util.PriorityQueue;
 
 public class TopKElements {
@@ -10,6 +11,32 @@ public class TopKElements {
      * If a new number is bigger than the heap's smallest (root), swap them.
      */
     public int findKthLargest(int[] nums, int k) {
+        // Same min-heap of size k, on primitive ints: no Integer per element, O(1) for values that cannot enter
+        IntBoundedHeap minHeap = new IntBoundedHeap(k);
+        minHeap.offerAll(nums);
+        return minHeap.peek();
+    }
+
+    /**
+     * Same answer without the heap: Floyd-Rivest selection on a copy of nums. O(n) on average, independent of k.
+     */
+    public int findKthLargestBySelection(int[] nums, int k) {
+        return IntSelect.kthLargest(nums.clone(), k);
+    }
+
+    /**
+     * The k largest elements, largest first.
+     */
+    public int[] topK(int[] nums, int k) {
+        IntBoundedHeap minHeap = new IntBoundedHeap(k);
+        minHeap.offerAll(nums);
+        return minHeap.toSortedArray();
+    }
+
+    /**
+     * The original boxed version, kept as the baseline of TopKBenchmark: O(n log k) plus an Integer per element.
+     */
+    public int findKthLargestBoxed(int[] nums, int k) {
         // Min-Heap (Smallest element at the top)
         PriorityQueue<Integer> minHeap = new PriorityQueue<>();
 
@@ -35,5 +62,8 @@ public class TopKElements {
         // Sorted: 1, 2, 3, 4, 5, 6
         // 2nd Largest is 5.
         System.out.println("2nd Largest Element: " + solver.findKthLargest(data, k));
+        System.out.println("By selection:        " + solver.findKthLargestBySelection(data, k));
+        System.out.println("Boxed baseline:      " + solver.findKthLargestBoxed(data, k));
+        System.out.println("Top 3: " + Arrays.toString(solver.topK(data, 3)));
     }
 }
\ No newline at end of file
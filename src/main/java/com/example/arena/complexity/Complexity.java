@@ -0,0 +1,171 @@
+package com.example.arena.complexity;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Complexity
+ * The growth models a measured cost curve is fitted against.
+ *
+ * parse() maps the free-form contract strings used by BigOSort / BigODataStructures onto a model.
+ * O(n + k) counts as linear: k (bucket count, value range) only adds a term that does not grow with n.
+ * O(nk) is a model of its own with k fixed by the key width: KEY_BYTES byte passes or levels for an int key
+ * (base 10 digits are bounded the same way). Its curve has the shape of O(n), so it is never fitted itself:
+ * a measured O(n) confirms it, see fittedAs().
+ *
+ * Models are compared by how much they grow over the sizes actually measured (byGrowth), not by declaration
+ * order: from 1K to 1M elements n (log n)^2 grows 4096-fold and n^(7/6) only 3251-fold, although
+ * n^(7/6) wins asymptotically. getDegree() is the real polynomial degree (1.25 for n^(5/4)), log factors ignored.
+ */
+public enum Complexity {
+
+    CONSTANT("O(1)", 0) {
+        @Override
+        public double growth(double n) {
+            return 1;
+        }
+    },
+
+    LOGARITHMIC("O(log n)", 0) {
+        @Override
+        public double growth(double n) {
+            return log2(n);
+        }
+    },
+
+    LINEAR("O(n)", 1) {
+        @Override
+        public double growth(double n) {
+            return n;
+        }
+    },
+
+    NK("O(nk)", 1) {
+        @Override
+        public double growth(double n) {
+            return KEY_BYTES * n;
+        }
+    },
+
+    LINEARITHMIC("O(n log n)", 1) {
+        @Override
+        public double growth(double n) {
+            return n * log2(n);
+        }
+    },
+
+    N_LOG_SQUARED("O(n (log n)^2)", 1) {
+        @Override
+        public double growth(double n) {
+            double log = log2(n);
+            return n * log * log;
+        }
+    },
+
+    // Between n log^2 n and n^2: the Shell Sort gap sequence bounds
+    N_TO_7_6("O(n^(7/6))", 7.0 / 6) {
+        @Override
+        public double growth(double n) {
+            return Math.pow(n, 7.0 / 6);
+        }
+    },
+
+    N_TO_5_4("O(n^(5/4))", 5.0 / 4) {
+        @Override
+        public double growth(double n) {
+            return Math.pow(n, 5.0 / 4);
+        }
+    },
+
+    N_TO_4_3("O(n^(4/3))", 4.0 / 3) {
+        @Override
+        public double growth(double n) {
+            return Math.pow(n, 4.0 / 3);
+        }
+    },
+
+    N_TO_3_2("O(n^(3/2))", 3.0 / 2) {
+        @Override
+        public double growth(double n) {
+            return n * Math.sqrt(n);
+        }
+    },
+
+    QUADRATIC("O(n^2)", 2) {
+        @Override
+        public double growth(double n) {
+            return n * n;
+        }
+    };
+
+    // k of O(nk): one pass or level per byte of an int key
+    public static final int KEY_BYTES = Integer.BYTES;
+
+    private final String notation;
+    private final double degree;
+
+    Complexity(String notation, double degree) {
+        this.notation = notation;
+        this.degree = degree;
+    }
+
+    // f(n), up to a constant factor
+    public abstract double growth(double n);
+
+    public String getNotation() {
+        return notation;
+    }
+
+    // Polynomial degree with log factors ignored: n and n log n are degree 1, n^(3/2) is 1.5
+    public double getDegree() {
+        return degree;
+    }
+
+    // The model a fitted curve of this shape comes out as: LINEAR for NK, the model itself otherwise
+    public Complexity fittedAs() {
+        return this == NK ? LINEAR : this;
+    }
+
+    // Local exponent over [from, to]: the slope of ln f(n) against ln n, e.g. 1.1 for n log n from 1K to 1M
+    public double exponentOver(double from, double to) {
+        return Math.log(growth(to) / growth(from)) / Math.log(to / from);
+    }
+
+    /**
+     * Orders models by their growth from n = from to n = to, slowest first. Models of the same shape
+     * (O(n) and O(nk)) compare as equal.
+     */
+    public static Comparator<Complexity> byGrowth(double from, double to) {
+        return Comparator.comparingDouble(model -> model.exponentOver(from, to));
+    }
+
+    /**
+     * The model behind a contract string such as "O(n log n)" or "O(n + k)".
+     * Empty for anything outside the fitted models (e.g. "O(n^3)"), which is then reported as unchecked.
+     */
+    public static Optional<Complexity> parse(String bigO) {
+        String s = bigO.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+        if (s.startsWith("o(") && s.endsWith(")")) {
+            s = s.substring(2, s.length() - 1);
+        }
+        return Optional.ofNullable(switch (s) {
+            case "1" -> CONSTANT;
+            case "logn", "log(n)" -> LOGARITHMIC;
+            case "n", "n+k", "k+n" -> LINEAR;
+            case "nk", "n*k" -> NK;
+            case "nlogn", "nlog(n)" -> LINEARITHMIC;
+            case "n(logn)^2", "nlog^2n", "nlog²n" -> N_LOG_SQUARED;
+            case "n^(7/6)", "n^7/6" -> N_TO_7_6;
+            case "n^(5/4)", "n^5/4", "n^1.25" -> N_TO_5_4;
+            case "n^(4/3)", "n^4/3" -> N_TO_4_3;
+            case "n^(3/2)", "n^3/2", "n^1.5", "nsqrt(n)", "n√n" -> N_TO_3_2;
+            case "n^2", "n²", "n*n" -> QUADRATIC;
+            default -> null;
+        });
+    }
+
+    private static double log2(double n) {
+        return Math.log(Math.max(2, n)) / Math.log(2);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.arena.complexity;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * CurveFit
+ * Least-squares fit of measured (n, cost) points against every {@link Complexity} model.
+ *
+ * Each model is fitted as cost ~ c * f(n) in log space, so every size weighs the same no matter how large
+ * its cost is: the residual of a model is sum((ln cost - ln c - ln f(n))^2) with the best c for that model.
+ * The model with the smallest residual wins.
+ *
+ * confidence = 1 - residual(best) / residual(runner-up): close to 1 when the winner explains the curve
+ * far better than any alternative, close to 0 when two models are indistinguishable on this data.
+ * exponent is the least-squares slope of ln cost against ln n, the curve's own growth with no model assumed.
+ * Models that share another model's shape (O(nk), see Complexity.fittedAs) are not fitted.
+ */
+public record CurveFit(Complexity model, double scale, double confidence, double exponent,
+                       Map<Complexity, Double> residuals) {
+
+    // Keeps exact (noise-free) operation counts from dividing by zero
+    private static final double EPSILON = 1e-12;
+
+    public static CurveFit fit(int[] sizes, double[] costs) {
+        if (sizes.length != costs.length || sizes.length < 2) {
+            throw new IllegalArgumentException("Need at least two (size, cost) points, got " + sizes.length);
+        }
+
+        Map<Complexity, Double> residuals = new EnumMap<>(Complexity.class);
+        Complexity best = null;
+        double bestScale = 0;
+        for (Complexity model : Complexity.values()) {
+            if (model.fittedAs() != model) continue;
+
+            // Step 1: ln c = mean(ln cost - ln f(n)) minimises the squared log residuals
+            double[] logRatio = new double[sizes.length];
+            double mean = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                logRatio[i] = Math.log(Math.max(1, costs[i])) - Math.log(model.growth(sizes[i]));
+                mean += logRatio[i];
+            }
+            mean /= sizes.length;
+
+            // Step 2: What is left over is how badly this model's shape matches the curve
+            double residual = 0;
+            for (double r : logRatio) {
+                residual += (r - mean) * (r - mean);
+            }
+            residuals.put(model, residual + EPSILON);
+
+            if (best == null || residual + EPSILON < residuals.get(best)) {
+                best = model;
+                bestScale = Math.exp(mean);
+            }
+        }
+
+        double runnerUp = Double.MAX_VALUE;
+        for (Map.Entry<Complexity, Double> entry : residuals.entrySet()) {
+            if (entry.getKey() != best) runnerUp = Math.min(runnerUp, entry.getValue());
+        }
+        return new CurveFit(best, bestScale, 1 - residuals.get(best) / runnerUp, slope(sizes, costs), residuals);
+    }
+
+    // Step 3: Slope of the least-squares line through (ln n, ln cost)
+    private static double slope(int[] sizes, double[] costs) {
+        double meanX = 0, meanY = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            meanX += Math.log(sizes[i]);
+            meanY += Math.log(Math.max(1, costs[i]));
+        }
+        meanX /= sizes.length;
+        meanY /= sizes.length;
+
+        double covariance = 0, variance = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            double dx = Math.log(sizes[i]) - meanX;
+            covariance += dx * (Math.log(Math.max(1, costs[i])) - meanY);
+            variance += dx * dx;
+        }
+        return covariance / variance;
+    }
+
+    public double residual(Complexity model) {
+        return residuals.get(model.fittedAs());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (confidence %.2f, exponent %.2f)", model.getNotation(), confidence, exponent);
+    }
+}
@@ -1,16 +1,14 @@
 package com.example.arena.datastructures;
 
-import java.util.PriorityQueue;
-
 // 1. Extend the Abstract Class
 public class HeapSample extends BigODataStructures {
 
-    // Java's PriorityQueue is a Min-Heap by default (Smallest item at the top)
-    private final PriorityQueue<Integer> heap = new PriorityQueue<>();
+    // Primitive 4-ary Min-Heap (Smallest item at the top), no Integer boxing per element
+    private final IntHeap heap = new IntHeap();
 
     // 2. Call Parent Constructor
     public HeapSample() {
-        super("Min Heap (PriorityQueue)");
+        super("Min Heap (IntHeap)");
     }
 
     // --- BIG O CONTRACT IMPLEMENTATION ---
@@ -50,7 +48,7 @@ public class HeapSample extends BigODataStructures {
      */
     public void access() {
         if (!heap.isEmpty()) {
-            Integer min = heap.peek();
+            int min = heap.peek();
             System.out.println("Min Value (Peek): " + min);
         } else {
             System.out.println("Heap is empty.");
@@ -62,8 +60,8 @@ public class HeapSample extends BigODataStructures {
      * Heaps are not good for searching specific values other than the root.
      */
     public boolean search(int value) {
-        // contains() iterates through the underlying array
-        return heap.contains(value);
+        // search() iterates through the underlying array
+        return heap.search(value);
     }
 
     /**
@@ -71,7 +69,7 @@ public class HeapSample extends BigODataStructures {
      * Adds to the bottom and "bubbles up".
      */
     public void insertion(int value) {
-        heap.offer(value); // 'offer' is safer than 'add'
+        heap.offer(value);
         System.out.println("Inserted: " + value);
     }
 
@@ -81,7 +79,7 @@ public class HeapSample extends BigODataStructures {
      */
     public void deletion() {
         if (!heap.isEmpty()) {
-            Integer removed = heap.poll();
+            int removed = heap.poll();
             System.out.println("Removed Min: " + removed);
         } else {
             System.out.println("Cannot delete, heap is empty.");
@@ -0,0 +1,363 @@
+package com.example.arena.datastructures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * IntHeap
+ * Primitive int priority queue on a growable int[]: no Integer per element, unlike PriorityQueue<Integer>.
+ *
+ * - Layout:    d-ary with d a power of two. Binary (d = 2) does the fewest comparisons per poll; 4-ary
+ *              halves the tree height and keeps the children of a node in one cache line, which usually wins.
+ * - Order:     MIN or MAX. A MAX heap stores ~key (bitwise not reverses int order without overflow), so both
+ *              share the same min-heap code.
+ * - Indexed:   optional. Every element then also carries an id in [0, maxId), with a position index id -> slot,
+ *              so decreaseKey(id, key), contains(id) and keyOf(id) are O(log n) / O(1) (Dijkstra, Prim).
+ * - Bulk:      heapify from an array in O(n) (Floyd), offerAll() re-heapifies when that is cheaper than
+ *              sifting up one by one, pollAll() drains into a caller array.
+ */
+public class IntHeap extends BigODataStructures {
+
+    public enum Order { MIN, MAX }
+
+    public static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int shift;   // log2(arity): children of i are (i << shift) + 1 .. (i << shift) + arity
+    private final Order order;
+    private int[] keys;        // stored keys: key for MIN, ~key for MAX
+    private int size;
+
+    // Indexed mode only (null otherwise)
+    private int[] ids;         // id at each slot
+    private final int[] slotOf; // slot of each id, -1 when absent
+
+    // 1. Constructors
+    public IntHeap() {
+        this(DEFAULT_ARITY, Order.MIN);
+    }
+
+    public IntHeap(int arity, Order order) {
+        this(arity, order, DEFAULT_CAPACITY);
+    }
+
+    public IntHeap(int arity, Order order, int initialCapacity) {
+        this(arity, order, initialCapacity, 0);
+    }
+
+    /**
+     * maxId > 0 makes an indexed heap: elements are offered as (id, key) with 0 <= id < maxId.
+     */
+    public IntHeap(int arity, Order order, int initialCapacity, int maxId) {
+        super(arity + "-ary " + order + " Heap (primitive int" + (maxId > 0 ? ", indexed" : "") + ")");
+        if (arity < 2 || Integer.bitCount(arity) != 1) {
+            throw new IllegalArgumentException("arity must be a power of two >= 2: " + arity);
+        }
+        if (maxId < 0) throw new IllegalArgumentException("maxId must be >= 0: " + maxId);
+        this.shift = Integer.numberOfTrailingZeros(arity);
+        this.order = order;
+        this.keys = new int[Math.max(1, initialCapacity)];
+        if (maxId > 0) {
+            this.ids = new int[keys.length];
+            this.slotOf = new int[maxId];
+            Arrays.fill(slotOf, -1);
+        } else {
+            this.slotOf = null;
+        }
+    }
+
+    /**
+     * Heap of a copy of values, built bottom-up in O(n).
+     */
+    public static IntHeap heapify(int[] values, int arity, Order order) {
+        IntHeap heap = new IntHeap(arity, order, values.length);
+        for (int i = 0; i < values.length; i++) heap.keys[i] = heap.store(values[i]);
+        heap.size = values.length;
+        heap.buildHeap();
+        return heap;
+    }
+
+    // --- BIG O CONTRACT IMPLEMENTATION ---
+
+    @Override
+    public String getAvgAccess() { return "O(1)"; } // Peek
+
+    @Override
+    public String getAvgSearch() { return "O(n)"; } // By value; contains(id) on an indexed heap is O(1)
+
+    @Override
+    public String getAvgInsertion() { return "O(1)"; } // Random keys rise about one level on average
+
+    @Override
+    public String getAvgDeletion() { return "O(log n)"; } // Poll: arity comparisons per level, log_d(n) levels
+
+    @Override
+    public String getWorstAccess() { return "O(1)"; }
+
+    @Override
+    public String getWorstSearch() { return "O(n)"; }
+
+    @Override
+    public String getWorstInsertion() { return "O(log n)"; } // Amortized; growing the array copies it
+
+    @Override
+    public String getWorstDeletion() { return "O(log n)"; }
+
+    @Override
+    public String getSpaceComplexity() { return "O(n)"; } // 4 bytes per element (+ 4 + 4 per id when indexed)
+
+    // --- ACTUAL LOGIC ---
+
+    // 2. Plain heap
+
+    public void offer(int key) {
+        requireIndexed(false);
+        grow(size + 1);
+        keys[size] = store(key);
+        siftUp(size++);
+    }
+
+    /**
+     * Adds every value. When the batch is at least as large as the heap, appending and re-heapifying
+     * (O(n + m)) beats m sift-ups.
+     */
+    public void offerAll(int[] values) {
+        requireIndexed(false);
+        grow(size + values.length);
+        if (values.length >= size) {
+            for (int value : values) keys[size++] = store(value);
+            buildHeap();
+        } else {
+            for (int value : values) {
+                keys[size] = store(value);
+                siftUp(size++);
+            }
+        }
+    }
+
+    public int peek() {
+        if (size == 0) throw new NoSuchElementException("Heap is empty");
+        return load(keys[0]);
+    }
+
+    public int poll() {
+        int top = peek();
+        removeTop();
+        return top;
+    }
+
+    /**
+     * Polls up to dest.length elements into dest in heap order; returns how many were polled.
+     */
+    public int pollAll(int[] dest) {
+        int count = Math.min(dest.length, size);
+        for (int i = 0; i < count; i++) {
+            dest[i] = load(keys[0]);
+            removeTop();
+        }
+        return count;
+    }
+
+    /**
+     * Linear scan: a heap only orders parents against children.
+     */
+    public boolean search(int key) {
+        int stored = store(key);
+        for (int i = 0; i < size; i++) if (keys[i] == stored) return true;
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        if (slotOf != null) for (int i = 0; i < size; i++) slotOf[ids[i]] = -1;
+        size = 0;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    public int getArity() {
+        return 1 << shift;
+    }
+
+    // 3. Indexed heap
+
+    public void offer(int id, int key) {
+        requireIndexed(true);
+        if (slotOf[id] >= 0) throw new IllegalArgumentException("id " + id + " is already in the heap");
+        grow(size + 1);
+        keys[size] = store(key);
+        ids[size] = id;
+        slotOf[id] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Id of the top element (indexed heaps).
+     */
+    public int peekId() {
+        requireIndexed(true);
+        if (size == 0) throw new NoSuchElementException("Heap is empty");
+        return ids[0];
+    }
+
+    /**
+     * Removes the top element and returns its id (indexed heaps).
+     */
+    public int pollId() {
+        int id = peekId();
+        removeTop();
+        return id;
+    }
+
+    public boolean contains(int id) {
+        requireIndexed(true);
+        return slotOf[id] >= 0;
+    }
+
+    public int keyOf(int id) {
+        return load(keys[slotOfPresent(id)]);
+    }
+
+    /**
+     * Moves id towards the top: key must be <= its current key in a MIN heap, >= in a MAX heap.
+     */
+    public void decreaseKey(int id, int key) {
+        int slot = slotOfPresent(id);
+        int stored = store(key);
+        if (stored > keys[slot]) {
+            throw new IllegalArgumentException("decreaseKey would move id " + id + " away from the top: "
+                    + load(keys[slot]) + " -> " + key);
+        }
+        keys[slot] = stored;
+        siftUp(slot);
+    }
+
+    private int slotOfPresent(int id) {
+        requireIndexed(true);
+        int slot = slotOf[id];
+        if (slot < 0) throw new NoSuchElementException("id " + id + " is not in the heap");
+        return slot;
+    }
+
+    // --- HEAP MECHANICS (on stored keys, always a min-heap) ---
+
+    private int store(int key) {
+        return order == Order.MIN ? key : ~key;
+    }
+
+    private int load(int stored) {
+        return order == Order.MIN ? stored : ~stored;
+    }
+
+    private void removeTop() {
+        if (slotOf != null) slotOf[ids[0]] = -1;
+        size--;
+        if (size > 0) {
+            keys[0] = keys[size];
+            if (slotOf != null) {
+                ids[0] = ids[size];
+                slotOf[ids[0]] = 0;
+            }
+            siftDown(0);
+        }
+    }
+
+    // Hole-based: the rising element is written once, at its final slot
+    private void siftUp(int slot) {
+        int key = keys[slot];
+        int id = slotOf != null ? ids[slot] : 0;
+        while (slot > 0) {
+            int parent = (slot - 1) >>> shift;
+            if (keys[parent] <= key) break;
+            move(parent, slot);
+            slot = parent;
+        }
+        put(slot, key, id);
+    }
+
+    private void siftDown(int slot) {
+        int key = keys[slot];
+        int id = slotOf != null ? ids[slot] : 0;
+        while (true) {
+            int first = (slot << shift) + 1;
+            if (first >= size || first < 0) break; // first < 0: overflow past Integer.MAX_VALUE
+            int last = Math.min(first + (1 << shift), size);
+            int best = first;
+            for (int child = first + 1; child < last; child++) {
+                if (keys[child] < keys[best]) best = child;
+            }
+            if (key <= keys[best]) break;
+            move(best, slot);
+            slot = best;
+        }
+        put(slot, key, id);
+    }
+
+    private void buildHeap() {
+        for (int slot = (size - 2) >>> shift; size > 1 && slot >= 0; slot--) siftDown(slot);
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        if (slotOf != null) {
+            ids[to] = ids[from];
+            slotOf[ids[to]] = to;
+        }
+    }
+
+    private void put(int slot, int key, int id) {
+        keys[slot] = key;
+        if (slotOf != null) {
+            ids[slot] = id;
+            slotOf[id] = slot;
+        }
+    }
+
+    private void grow(int needed) {
+        if (needed <= keys.length) return;
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(needed, 2L * keys.length));
+        keys = Arrays.copyOf(keys, capacity);
+        if (ids != null) ids = Arrays.copyOf(ids, capacity);
+    }
+
+    private void requireIndexed(boolean indexed) {
+        if ((slotOf != null) != indexed) {
+            throw new IllegalStateException(indexed ? "Not an indexed heap: offer(key) only"
+                    : "Indexed heap: offer(id, key) only");
+        }
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        IntHeap heap = new IntHeap();
+        System.out.println(heap.bigOContract());
+        System.out.println();
+
+        heap.offerAll(new int[]{10, 5, 20, 1, 7});
+        System.out.println("Min (peek): " + heap.peek());
+        System.out.println("Found 20? " + heap.search(20));
+        int[] drained = new int[heap.size()];
+        heap.pollAll(drained);
+        System.out.println("Drained: " + Arrays.toString(drained));
+
+        IntHeap max = heapify(new int[]{3, Integer.MIN_VALUE, 9, Integer.MAX_VALUE}, 2, Order.MAX);
+        System.out.println("Max heap polls: " + max.poll() + ", " + max.poll() + ", " + max.poll() + ", " + max.poll());
+
+        // Indexed: distances of 3 vertices, then a shorter path to vertex 2 is found
+        IntHeap distances = new IntHeap(DEFAULT_ARITY, Order.MIN, 4, 3);
+        distances.offer(0, 7);
+        distances.offer(1, 4);
+        distances.offer(2, 9);
+        distances.decreaseKey(2, 1);
+        System.out.println("Closest vertex: " + distances.pollId() + ", next: " + distances.pollId());
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.arena.datastructures;
+
+import java.util.Arrays;
+
+/**
+ * IntIntOpenHashMap
+ * int -> int hash map without boxing: one int[] holding key, value, key, value, ... and nothing else.
+ * A HashMap<Integer, Integer> entry is a Node plus two Integers (about 50-60 bytes); here it is 8 bytes per slot.
+ *
+ * - Probing:   linear, over a power-of-two number of slots; a probe reads key and value from the same
+ *              cache line. Keys are spread by Fibonacci hashing (the top bits of key * 2^32 / phi).
+ * - Resizing:  doubles once size exceeds loadFactor * capacity (configurable, default 0.75).
+ * - Key 0:     marks an empty slot, so the entry for key 0 is kept in two fields beside the table.
+ * - Deletion:  backward shift: the entries after the removed one that belong earlier move back, so no
+ *              tombstones ever lengthen probes, however many puts and removes alternate.
+ * - Missing:   get() and remove() return the map's noEntryValue (default 0) when the key is absent;
+ *              containsKey() tells the two apart.
+ */
+public class IntIntOpenHashMap extends BigODataStructures {
+
+    public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final int MAX_CAPACITY = 1 << 29; // table = 2^30 ints
+
+    // Receives every entry of forEach()
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    private final float loadFactor;
+    private final int noEntryValue;
+
+    private int[] table;  // slot i: key at 2i, value at 2i + 1; key 0 = empty
+    private int mask;     // capacity - 1
+    private int shift;    // 32 - log2(capacity)
+    private int maxFill;
+    private int size;     // entries in the table (not counting key 0)
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    // 1. Constructors
+    public IntIntOpenHashMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    public IntIntOpenHashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntIntOpenHashMap(int expectedSize, float loadFactor) {
+        this(expectedSize, loadFactor, 0);
+    }
+
+    public IntIntOpenHashMap(int expectedSize, float loadFactor, int noEntryValue) {
+        super("Open Addressing Hash Map (int -> int, linear probing)");
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("loadFactor must be in (0, 1): " + loadFactor);
+        }
+        if (expectedSize < 0) throw new IllegalArgumentException("expectedSize must be >= 0: " + expectedSize);
+        this.loadFactor = loadFactor;
+        this.noEntryValue = noEntryValue;
+        allocate(capacityFor(expectedSize));
+    }
+
+    // --- BIG O CONTRACT ---
+
+    @Override
+    public String getAvgAccess() { return "O(1)"; }
+
+    @Override
+    public String getAvgSearch() { return "O(1)"; }
+
+    @Override
+    public String getAvgInsertion() { return "O(1)"; } // Amortized over the doublings
+
+    @Override
+    public String getAvgDeletion() { return "O(1)"; } // Backward shift moves at most one cluster
+
+    @Override
+    public String getWorstAccess() { return "O(n)"; } // Every key in one cluster
+
+    @Override
+    public String getWorstSearch() { return "O(n)"; }
+
+    @Override
+    public String getWorstInsertion() { return "O(n)"; } // Resizing rehashes everything
+
+    @Override
+    public String getWorstDeletion() { return "O(n)"; }
+
+    @Override
+    public String getSpaceComplexity() { return "O(n)"; } // 8 / loadFactor bytes per entry, no objects
+
+    // --- LOGIC ---
+
+    /**
+     * Maps key to value; returns the previous value, or noEntryValue if there was none.
+     */
+    public int put(int key, int value) {
+        if (key == 0) {
+            int previous = hasZeroKey ? zeroValue : noEntryValue;
+            hasZeroKey = true;
+            zeroValue = value;
+            return previous;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            int previous = table[2 * slot + 1];
+            table[2 * slot + 1] = value;
+            return previous;
+        }
+        insertAt(~slot, key, value);
+        return noEntryValue;
+    }
+
+    /**
+     * Adds delta to key's value (starting from 0 when absent) and returns the new value: a frequency count
+     * in one probe, where a HashMap needs getOrDefault + put (two lookups, two Integers).
+     */
+    public int addTo(int key, int delta) {
+        if (key == 0) {
+            zeroValue = (hasZeroKey ? zeroValue : 0) + delta;
+            hasZeroKey = true;
+            return zeroValue;
+        }
+        int slot = find(key);
+        if (slot >= 0) return table[2 * slot + 1] += delta;
+        insertAt(~slot, key, delta);
+        return delta;
+    }
+
+    public int get(int key) {
+        return getOrDefault(key, noEntryValue);
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) return hasZeroKey ? zeroValue : defaultValue;
+        int slot = find(key);
+        return slot >= 0 ? table[2 * slot + 1] : defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * Removes key; returns its value, or noEntryValue if it was absent.
+     */
+    public int remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) return noEntryValue;
+            hasZeroKey = false;
+            return zeroValue;
+        }
+        int slot = find(key);
+        if (slot < 0) return noEntryValue;
+        int previous = table[2 * slot + 1];
+        shiftBack(slot);
+        size--;
+        return previous;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) consumer.accept(0, zeroValue);
+        for (int slot = 0; slot <= mask; slot++) {
+            int key = table[2 * slot];
+            if (key != 0) consumer.accept(key, table[2 * slot + 1]);
+        }
+    }
+
+    public int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+        size = 0;
+        hasZeroKey = false;
+    }
+
+    /**
+     * Number of slots (a power of two).
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public float getLoadFactor() {
+        return loadFactor;
+    }
+
+    public int getNoEntryValue() {
+        return noEntryValue;
+    }
+
+    // --- PROBING ---
+
+    // Slot of key (>= 0), or ~(the empty slot where it would go) if absent. key != 0.
+    private int find(int key) {
+        for (int slot = home(key); ; slot = (slot + 1) & mask) {
+            int current = table[2 * slot];
+            if (current == key) return slot;
+            if (current == 0) return ~slot;
+        }
+    }
+
+    private int home(int key) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    private void insertAt(int slot, int key, int value) {
+        if (size >= maxFill) {
+            grow();
+            slot = ~find(key);
+        }
+        table[2 * slot] = key;
+        table[2 * slot + 1] = value;
+        size++;
+    }
+
+    // Empties slot, then moves back every later entry of the cluster whose home is not in (slot, its position]
+    private void shiftBack(int free) {
+        for (int slot = (free + 1) & mask; ; slot = (slot + 1) & mask) {
+            int key = table[2 * slot];
+            if (key == 0) break;
+            int home = home(key);
+            boolean movable = free <= slot ? home <= free || home > slot : home <= free && home > slot;
+            if (movable) {
+                table[2 * free] = key;
+                table[2 * free + 1] = table[2 * slot + 1];
+                free = slot;
+            }
+        }
+        table[2 * free] = 0;
+    }
+
+    // --- SIZING ---
+
+    private int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(Math.max(1, expectedSize) / (double) loadFactor) + 1;
+        if (needed > MAX_CAPACITY) throw new IllegalArgumentException("Too many entries: " + expectedSize);
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        table = new int[2 * capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(mask);
+        maxFill = Math.min(capacity - 1, (int) (capacity * (double) loadFactor));
+    }
+
+    private void grow() {
+        if (capacity() >= MAX_CAPACITY) throw new IllegalStateException("Map is full: " + size + " entries");
+        int[] old = table;
+        allocate(2 * capacity());
+        for (int i = 0; i < old.length; i += 2) {
+            int key = old[i];
+            if (key != 0) {
+                int slot = home(key);
+                while (table[2 * slot] != 0) slot = (slot + 1) & mask;
+                table[2 * slot] = key;
+                table[2 * slot + 1] = old[i + 1];
+            }
+        }
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        IntIntOpenHashMap map = new IntIntOpenHashMap();
+
+        System.out.println(map.bigOContract());
+        System.out.println();
+
+        System.out.println("Structure: " + map.getDataStructureName());
+
+        // Frequency count, the classic interview use of getOrDefault + put
+        int[] rolls = {3, 1, 3, 0, 6, 3, 1, 0};
+        for (int roll : rolls) map.addTo(roll, 1);
+        System.out.println("Count of 3: " + map.get(3) + ", of 0: " + map.get(0) + ", of 5: " + map.get(5));
+
+        map.remove(3);
+        System.out.println("Contains 3 after remove? " + map.containsKey(3));
+
+        StringBuilder entries = new StringBuilder();
+        map.forEach((key, value) -> entries.append(key).append(" -> ").append(value).append("; "));
+        System.out.println("Entries: " + entries);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.arena.datastructures;
+
+import java.lang.ref.Reference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * MapFootprint
+ * Retained heap per entry of HashMap<Integer, Integer> against IntIntOpenHashMap: used heap after a full GC,
+ * with and without the filled map alive, divided by the entry count. Values outside the Integer cache make
+ * the boxed map pay for both its Integers, as real data does.
+ *
+ * A size that does not fit the heap is reported as such instead of failing the whole run.
+ * Usage: MapFootprint [size ...]   (default 1_000_000 50_000_000)
+ */
+public class MapFootprint {
+
+    private static final int[] DEFAULT_SIZES = {1_000_000, 50_000_000};
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0 ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray() : DEFAULT_SIZES;
+        System.out.printf("Max heap: %,d MB%n", Runtime.getRuntime().maxMemory() >> 20);
+        System.out.println("--------------------------------------------------");
+
+        for (int size : sizes) {
+            System.out.printf("%,d entries%n", size);
+            report("HashMap<Integer, Integer>", size, n -> {
+                Map<Integer, Integer> map = new HashMap<>();
+                SplittableRandom random = new SplittableRandom(42);
+                for (int i = 0; i < n; i++) map.put(random.nextInt(), 1_000 + i);
+                return map;
+            });
+            report("IntIntOpenHashMap", size, n -> {
+                IntIntOpenHashMap map = new IntIntOpenHashMap();
+                SplittableRandom random = new SplittableRandom(42);
+                for (int i = 0; i < n; i++) map.put(random.nextInt(), 1_000 + i);
+                return map;
+            });
+            System.out.println("--------------------------------------------------");
+        }
+    }
+
+    private static void report(String name, int size, IntFunction<Object> fill) {
+        try {
+            long before = usedAfterGc();
+            Object map = fill.apply(size);
+            long after = usedAfterGc();
+            System.out.printf("  %-28s %8.1f bytes/entry %,10d MB%n", name, (after - before) / (double) size,
+                    (after - before) >> 20);
+            Reference.reachabilityFence(map); // map must stay alive through the second measurement
+        } catch (OutOfMemoryError e) {
+            System.out.printf("  %-28s does not fit in this heap%n", name);
+        }
+    }
+
+    private static long usedAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
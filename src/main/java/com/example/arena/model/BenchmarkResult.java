@@ -0,0 +1,65 @@
+package com.example.arena.model;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * BenchmarkResult
+ * One arena cell as data: which algorithm sorted which input at which size, how long it took
+ * (percentiles over the repetitions), what it did (operation counts) and what it allocated.
+ *
+ * Fields that were not measured (failed runs, algorithms without a counted run) hold UNAVAILABLE.
+ */
+public record BenchmarkResult(
+        String algorithm,
+        String distribution,
+        int size,
+        RunStatus status,
+        String detail,
+        int repetitions,
+        long minNanos,
+        long p50Nanos,
+        long p90Nanos,
+        long p99Nanos,
+        long maxNanos,
+        long comparisons,
+        long swaps,
+        long reads,
+        long writes,
+        long maxRecursionDepth,
+        long allocatedBytes,
+        Time time) {
+
+    public static final long UNAVAILABLE = -1;
+
+    /**
+     * Result of a cell that ran: the percentiles are computed from the raw per-repetition samples,
+     * which are not kept, so a long sweep only ever holds one cell's samples at a time.
+     */
+    public static BenchmarkResult measured(String algorithm, String distribution, int size, RunStatus status,
+                                           long[] sampleNanos, long comparisons, long swaps, long reads,
+                                           long writes, long maxRecursionDepth, long allocatedBytes,
+                                           Instant start, Instant end) {
+        long[] sorted = sampleNanos.clone();
+        Arrays.sort(sorted);
+        return new BenchmarkResult(algorithm, distribution, size, status, "", sorted.length,
+                sorted[0], percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                sorted[sorted.length - 1], comparisons, swaps, reads, writes, maxRecursionDepth, allocatedBytes,
+                new Time(start, end));
+    }
+
+    // Result of a cell that produced no timings (exception, timeout, ...)
+    public static BenchmarkResult failed(String algorithm, String distribution, int size, RunStatus status,
+                                         String detail, Instant start, Instant end) {
+        return new BenchmarkResult(algorithm, distribution, size, status, detail, 0,
+                UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE,
+                UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE,
+                new Time(start, end));
+    }
+
+    // Nearest-rank percentile of an ascending array
+    public static long percentile(long[] sorted, double percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.arena.model;
+
+// Outcome of one benchmark cell (one algorithm on one input)
+public enum RunStatus {
+    OK,            // sorted, output matched the reference
+    WRONG_RESULT,  // finished, but the output differs from the reference
+    FAILED,        // threw (StackOverflowError, OutOfMemoryError, UnsupportedOperationException, ...)
+    TIMED_OUT,     // still running when the per-cell timeout expired; cancelled and abandoned
+    SKIPPED        // not run: a smaller size of the same algorithm and input timed out or failed, or predicts a timeout
+}
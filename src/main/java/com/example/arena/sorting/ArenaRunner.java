@@ -0,0 +1,330 @@
+package com.example.arena.sorting;
+
+import com.example.arena.complexity.Complexity;
+import com.example.arena.model.BenchmarkResult;
+import com.example.arena.model.RunStatus;
+import com.example.arena.sorting.dataset.DatasetGenerator;
+import com.example.arena.sorting.dataset.Distribution;
+import com.example.arena.sorting.report.CsvResultSink;
+import com.example.arena.sorting.report.GraphSeriesSink;
+import com.example.arena.sorting.report.JsonLinesResultSink;
+import com.example.arena.sorting.report.ResultSink;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ArenaRunner
+ * Runs the full (algorithm x distribution x size) sweep concurrently, with a timeout per cell.
+ *
+ * - Lanes: every (algorithm, distribution) pair is one lane, a virtual thread that walks its sizes from small
+ *   to large. Lanes are independent of each other's results.
+ * - CPU slots: a fair semaphore with one permit per core. A lane takes a permit before starting a cell's
+ *   platform thread (with a deep stack for the recursive sorts), and that thread gives it back only when
+ *   its sort has really ended, so at most one sort runs per core and timings are not distorted by
+ *   oversubscription, abandoned sorts included.
+ * - Prediction: before each cell, the lane extrapolates its previous size's fastest run with the algorithm's
+ *   declared worst-case degree. A cell predicted to take longer than cellTimeout is reported as SKIPPED, together
+ *   with every larger size, without running: Insertion Sort at 1M or Quick Sort on sorted input never start,
+ *   so they never take a core from the fast lanes.
+ * - Timeout: the clock starts once the cell's input and reference result are prepared. Repetitions stop at
+ *   REPETITION_BUDGET_SHARE of the timeout, so a cell whose runs finish in time is never cut off for repeating.
+ *   A cell that still has not finished after cellTimeout (a misprediction) is interrupted, reported as
+ *   TIMED_OUT and abandoned (a running sort cannot be stopped from outside); it keeps its core until it ends,
+ *   and its lane reports the larger sizes as SKIPPED.
+ * - Streaming: every result goes to the ResultSink the moment its cell finishes. A failing sink stops every
+ *   lane at its next result and fails run() with the sink's IOException.
+ *
+ * Each cell creates a fresh algorithm instance through SortCatalog, since some sorts keep per-run state.
+ */
+public class ArenaRunner {
+
+    // Deep enough for the recursive sorts (Quick Sort on sorted input recurses n levels)
+    private static final long CELL_STACK_BYTES = 1L << 30;
+
+    private static final int DEFAULT_REPETITIONS = 5;
+    private static final Duration DEFAULT_CELL_TIMEOUT = Duration.ofSeconds(30);
+    // Share of the timeout a cell may spend on repetitions; the rest is headroom for the counted run and noise
+    private static final double REPETITION_BUDGET_SHARE = 0.5;
+    private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+
+    // Operation counts only when the plain run is fast enough for the several-times-slower counted run
+    private static final long COUNTING_BUDGET_NANOS = 500_000_000L;
+
+    private final List<String> algorithms;
+    private final List<DatasetGenerator> distributions;
+    private final int[] sizes;
+    private final Duration cellTimeout;
+    private final int repetitions;
+    private final Semaphore cpuSlots;
+
+    private final AtomicInteger abandoned = new AtomicInteger();
+
+    // 1. Constructors
+    public ArenaRunner(List<String> algorithms, List<DatasetGenerator> distributions, int[] sizes,
+                       Duration cellTimeout) {
+        this(algorithms, distributions, sizes, cellTimeout, DEFAULT_REPETITIONS,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    public ArenaRunner(List<String> algorithms, List<DatasetGenerator> distributions, int[] sizes,
+                       Duration cellTimeout, int repetitions, int cpuSlots) {
+        this.algorithms = List.copyOf(algorithms);
+        this.distributions = List.copyOf(distributions);
+        this.sizes = sizes.clone();
+        Arrays.sort(this.sizes); // lanes rely on small -> large
+        this.cellTimeout = cellTimeout;
+        this.repetitions = repetitions;
+        this.cpuSlots = new Semaphore(cpuSlots, true);
+    }
+
+    // 2. Logic
+    /**
+     * Runs every cell and streams the results to the sink. Returns when every lane has finished;
+     * abandoned (timed-out) sorts may still be burning CPU (and holding their CPU slot) at that point.
+     * Throws the first IOException of the sink, once every lane has stopped.
+     */
+    public void run(ResultSink sink) throws IOException, InterruptedException {
+        Object sinkLock = new Object();
+        AtomicReference<IOException> sinkFailure = new AtomicReference<>();
+        List<Thread> lanes = new ArrayList<>();
+
+        for (String algorithm : algorithms) {
+            for (DatasetGenerator distribution : distributions) {
+                lanes.add(Thread.ofVirtual()
+                        .name("lane-" + algorithm + "-" + distribution.getName())
+                        .start(() -> {
+                            try {
+                                runLane(algorithm, distribution, result -> {
+                                    synchronized (sinkLock) {
+                                        if (sinkFailure.get() != null) throw new IOException("result sink failed");
+                                        sink.accept(result);
+                                    }
+                                });
+                            } catch (IOException e) {
+                                sinkFailure.compareAndSet(null, e);
+                            }
+                        }));
+            }
+        }
+        for (Thread lane : lanes) lane.join();
+
+        IOException failure = sinkFailure.get();
+        if (failure != null) throw failure;
+    }
+
+    // Cells that were still running when they timed out
+    public int getAbandonedCells() {
+        return abandoned.get();
+    }
+
+    private interface ResultConsumer {
+        void accept(BenchmarkResult result) throws IOException;
+    }
+
+    /*
+     * One (algorithm, distribution) pair, sizes in ascending order. Stops running cells after the first bad one,
+     * or before the first one the previous size predicts to run past the timeout.
+     */
+    private void runLane(String algorithm, DatasetGenerator distribution, ResultConsumer results) throws IOException {
+        BigOSort prototype = SortCatalog.create(algorithm);
+        String sortName = prototype.getSortName();
+        // Undeclared or unparsable worst case: assume quadratic, like SmartSortCheck
+        double worstDegree = Complexity.parse(prototype.getWorstTime()).map(Complexity::getDegree).orElse(2.0);
+
+        String stopReason = null;
+        long previousNanos = 0;
+        int previousSize = 0;
+        for (int size : sizes) {
+            if (stopReason == null && previousNanos > 0) {
+                double predictedNanos = previousNanos * Math.pow((double) size / previousSize, worstDegree);
+                if (predictedNanos > cellTimeout.toNanos()) {
+                    stopReason = String.format("predicted %.0f s at n=%d", predictedNanos / 1e9, size);
+                }
+            }
+            if (stopReason != null) {
+                Instant now = Instant.now();
+                results.accept(BenchmarkResult.failed(sortName, distribution.getName(), size, RunStatus.SKIPPED,
+                        stopReason, now, now));
+                continue;
+            }
+
+            try {
+                cpuSlots.acquire(); // released by the cell's thread once its sort ends, see runWithTimeout
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            BenchmarkResult result = runWithTimeout(algorithm, sortName, distribution, size);
+
+            results.accept(result);
+            if (result.status() == RunStatus.TIMED_OUT || result.status() == RunStatus.FAILED) {
+                stopReason = result.status() + " at n=" + size;
+            } else if (result.time().duration().compareTo(cellTimeout) > 0) {
+                // Finished, but only after the deadline (see main() on safepoints): keep it, run nothing larger
+                stopReason = "over the timeout at n=" + size;
+            } else {
+                previousNanos = result.minNanos();
+                previousSize = size;
+            }
+        }
+    }
+
+    /*
+     * Called holding a CPU slot, which passes to the cell's thread: a timed-out sort keeps its core until it ends.
+     * The timeout counts from the moment the input and the reference result are ready: generating them is
+     * linear and not part of the cell.
+     */
+    private BenchmarkResult runWithTimeout(String algorithm, String sortName, DatasetGenerator distribution,
+                                           int size) {
+        CompletableFuture<Void> prepared = new CompletableFuture<>();
+        CompletableFuture<BenchmarkResult> outcome = new CompletableFuture<>();
+        long repetitionBudgetNanos = (long) (cellTimeout.toNanos() * REPETITION_BUDGET_SHARE);
+        Instant start = Instant.now();
+
+        Thread worker = Thread.ofPlatform()
+                .daemon(true)
+                .name("cell-" + algorithm + "-" + distribution.getName() + "-" + size)
+                .stackSize(CELL_STACK_BYTES)
+                .unstarted(() -> {
+                    try {
+                        BigOSort sort = SortCatalog.create(algorithm);
+                        int[] input = distribution.generate(size, Distribution.DEFAULT_SEED);
+                        int[] expected = input.clone();
+                        Arrays.sort(expected); // single-threaded: parallelSort would steal other cells' cores
+                        prepared.complete(null);
+                        outcome.complete(runCell(sort, distribution, input, expected, repetitions,
+                                repetitionBudgetNanos));
+                    } catch (Throwable t) {
+                        outcome.completeExceptionally(t);
+                    } finally {
+                        prepared.complete(null); // no-op unless preparing failed, which outcome reports
+                        cpuSlots.release();
+                    }
+                });
+        try {
+            worker.start();
+        } catch (OutOfMemoryError e) {
+            cpuSlots.release(); // no native thread: the slot would never come back
+            return BenchmarkResult.failed(sortName, distribution.getName(), size, RunStatus.FAILED,
+                    "could not start cell thread", start, Instant.now());
+        }
+
+        try {
+            prepared.get();
+            start = Instant.now();
+            return outcome.get(cellTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Best effort: runCell stops repeating once interrupted, but a sort in progress runs to its end
+            worker.interrupt();
+            abandoned.incrementAndGet();
+            return BenchmarkResult.failed(sortName, distribution.getName(), size, RunStatus.TIMED_OUT,
+                    "no result after " + cellTimeout.toSeconds() + " s", start, Instant.now());
+        } catch (ExecutionException e) {
+            return BenchmarkResult.failed(sortName, distribution.getName(), size, RunStatus.FAILED,
+                    e.getCause().getClass().getSimpleName(), start, Instant.now());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            worker.interrupt();
+            return BenchmarkResult.failed(sortName, distribution.getName(), size, RunStatus.FAILED,
+                    "interrupted", start, Instant.now());
+        }
+    }
+
+    /**
+     * One cell on the calling thread: a metered first run (time, allocation, operation counts, correctness check),
+     * then plain timed repetitions for the percentiles until 'repetitions' is reached, or another run as long as
+     * the last one would take the cell's run time past budgetNanos.
+     * Shared with SortingComparison, which runs the same cells sequentially.
+     */
+    static BenchmarkResult runCell(BigOSort algo, DatasetGenerator distribution, int[] input, int[] expected,
+                                   int repetitions, long budgetNanos) {
+        Instant start = Instant.now();
+        try {
+            int[] data = Arrays.copyOf(input, input.length);
+            SortMetrics metrics = SortMetrics.measure(algo, data, COUNTING_BUDGET_NANOS);
+            // Element-for-element check, catches lost or duplicated values that isSorted() would miss
+            RunStatus status = Arrays.equals(data, expected) ? RunStatus.OK : RunStatus.WRONG_RESULT;
+
+            long[] samples = new long[repetitions];
+            samples[0] = metrics.nanos();
+            long spent = metrics.nanos();
+            long lastRun = metrics.nanos();
+            int taken = 1;
+            while (taken < repetitions && spent + lastRun <= budgetNanos && !Thread.currentThread().isInterrupted()) {
+                data = Arrays.copyOf(input, input.length);
+                long begin = System.nanoTime();
+                algo.run(data);
+                lastRun = System.nanoTime() - begin;
+                samples[taken++] = lastRun;
+                spent += lastRun;
+            }
+
+            return BenchmarkResult.measured(algo.getSortName(), distribution.getName(), input.length, status,
+                    Arrays.copyOf(samples, taken), metrics.comparisons(), metrics.swaps(), metrics.reads(),
+                    metrics.writes(), metrics.maxRecursionDepth(), metrics.allocatedBytes(), start, Instant.now());
+        } catch (RuntimeException | StackOverflowError | OutOfMemoryError e) {
+            // Recursive overflow protection: e.g. Quick Sort on sorted input, Counting Sort on negatives
+            return BenchmarkResult.failed(algo.getSortName(), distribution.getName(), input.length, RunStatus.FAILED,
+                    e.getClass().getSimpleName(), start, Instant.now());
+        }
+    }
+
+    // --- TEST RUNNER (the full sweep) ---
+    // Usage: ArenaRunner [cellTimeoutSeconds]   (needs a large heap for the 10M cells, e.g. -Xmx8g)
+    //
+    // Timeouts are only as punctual as the JVM's safepoints: a JIT-compiled counted loop without safepoint
+    // polls (e.g. Bubble Sort's inner loop) can hold up every other thread, the timer included, for seconds.
+    // G1 enables loop strip mining by default; on Serial GC (small machines) pass
+    // -XX:+UseCountedLoopSafepoints -XX:LoopStripMiningIter=1000 to keep the deadlines tight.
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Duration timeout = args.length > 0 ? Duration.ofSeconds(Long.parseLong(args[0])) : DEFAULT_CELL_TIMEOUT;
+        ArenaRunner runner = new ArenaRunner(SortCatalog.names(), List.of(Distribution.values()), DEFAULT_SIZES,
+                timeout);
+
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path csv = Path.of("arena-results", "sweep-" + stamp + ".csv");
+        Path jsonl = Path.of("arena-results", "sweep-" + stamp + ".jsonl");
+        Path graphsJson = Path.of("arena-results", "sweep-" + stamp + "-graphs.json");
+        GraphSeriesSink graphs = new GraphSeriesSink();
+
+        ResultSink console = new ResultSink() {
+            @Override
+            public void accept(BenchmarkResult r) {
+                System.out.printf("%-45s %-30s %,12d  %-12s %10s%n", r.algorithm(), r.distribution(), r.size(),
+                        r.status(), r.status() == RunStatus.OK ? r.p50Nanos() / 1_000_000 + " ms" : r.detail());
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        long start = System.nanoTime();
+        try (ResultSink sink = ResultSink.tee(new CsvResultSink(csv), new JsonLinesResultSink(jsonl), graphs, console)) {
+            runner.run(sink);
+        }
+        graphs.writeJson(graphsJson);
+
+        System.out.println("--------------------------------------------------");
+        System.out.printf("Sweep finished in %d s, %d cell(s) abandoned after the %d s timeout%n",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), runner.getAbandonedCells(),
+                timeout.toSeconds());
+        System.out.println(graphs.getGraphs().size() + " size/time series: " + graphsJson.toAbsolutePath());
+        System.out.println("Results: " + csv.toAbsolutePath() + ", " + jsonl.toAbsolutePath());
+    }
+}
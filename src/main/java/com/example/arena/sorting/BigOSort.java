@@ -1,5 +1,9 @@
 package com.example.arena.sorting;
 
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Set;
+
 public abstract class BigOSort {
 
     private final String sortName;
@@ -16,6 +20,74 @@ public abstract class BigOSort {
     // Standard run method for all sorts
     public abstract void run(int[] arr);
 
+    // --- OTHER KEY TYPES ---
+    // Optional operations, in the java.util.Collection sense: the defaults below throw UnsupportedOperationException.
+    // supports(keyType) says which ones an algorithm has: it is true exactly for the key types whose entry point
+    // the algorithm overrides (SortCatalog rejects a sort that lists a key type without overriding its method),
+    // so callers check supports() first instead of catching the exception.
+
+    public Set<KeyType> getSupportedKeyTypes() {
+        return EnumSet.of(KeyType.INT);
+    }
+
+    public boolean supports(KeyType keyType) {
+        return getSupportedKeyTypes().contains(keyType);
+    }
+
+    public void run(long[] arr) {
+        throw unsupported(KeyType.LONG);
+    }
+
+    public void run(double[] arr) {
+        throw unsupported(KeyType.DOUBLE);
+    }
+
+    public void run(float[] arr) {
+        throw unsupported(KeyType.FLOAT);
+    }
+
+    public <T> void run(T[] arr, Comparator<? super T> comparator) {
+        throw unsupported(KeyType.OBJECT);
+    }
+
+    /**
+     * Index sort: returns the permutation p such that keys[p[0]] <= keys[p[1]] <= ...
+     * The keys (and whatever payload the caller keeps alongside them) are not moved.
+     * Optional: only when supports(KeyType.INDEX).
+     */
+    public int[] argsort(int[] keys) {
+        throw unsupported(KeyType.INDEX);
+    }
+
+    /**
+     * Free-form notes about the most recent run() on this instance (which code path ran, counters, ...).
+     * Empty for algorithms that have nothing to report. Not meaningful when one instance is shared by threads.
+     */
+    public String getLastRunDetails() {
+        return "";
+    }
+
+    // --- INSTRUMENTED MODE ---
+
+    /**
+     * Instrumented form of run(int[]): the same algorithm, with every comparison, swap, element read / write
+     * and recursion level recorded in the counter. An instrumented algorithm has this one implementation, and its
+     * run(int[]) calls it with {@link OpCounter#NONE}; there is no second, uncounted copy of the sort.
+     * Algorithms that do not override it (isInstrumented() == false) just sort, leaving the counter untouched.
+     * Use {@link SortMetrics#measure} to get the counts, time and allocation as one result.
+     */
+    public void run(int[] arr, OpCounter counter) {
+        run(arr);
+    }
+
+    public boolean isInstrumented() {
+        return false;
+    }
+
+    protected UnsupportedOperationException unsupported(KeyType keyType) {
+        return new UnsupportedOperationException(getSortName() + " does not support " + keyType.getDescription());
+    }
+
     // --- TIME COMPLEXITY ---
     public abstract String getBestTime();
     public abstract String getAverageTime();
@@ -1,5 +1,8 @@
 package com.example.arena.sorting;
 
+import java.util.Comparator;
+import java.util.Set;
+
 public class BigOTestDecorator extends BigOSort {
 
     // The sort algorithm we are wrapping (Decorating)
@@ -27,8 +30,58 @@ public class BigOTestDecorator extends BigOSort {
         System.out.printf("[%s] Execution Time: %.3f µs%n", algorithm.getSortName(), micros);
     }
 
+    // Structured alternative to the printout above: time, allocation and operation counts of one sort
+    public SortMetrics measure(int[] arr) {
+        return SortMetrics.measure(algorithm, arr);
+    }
+
     // --- DELEGATE EVERYTHING ELSE TO THE WRAPPED ALGORITHM ---
 
+    @Override
+    public Set<KeyType> getSupportedKeyTypes() {
+        return algorithm.getSupportedKeyTypes();
+    }
+
+    @Override
+    public void run(long[] arr) {
+        algorithm.run(arr);
+    }
+
+    @Override
+    public void run(double[] arr) {
+        algorithm.run(arr);
+    }
+
+    @Override
+    public void run(float[] arr) {
+        algorithm.run(arr);
+    }
+
+    @Override
+    public <T> void run(T[] arr, Comparator<? super T> comparator) {
+        algorithm.run(arr, comparator);
+    }
+
+    @Override
+    public int[] argsort(int[] keys) {
+        return algorithm.argsort(keys);
+    }
+
+    @Override
+    public void run(int[] arr, OpCounter counter) {
+        algorithm.run(arr, counter);
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return algorithm.isInstrumented();
+    }
+
+    @Override
+    public String getLastRunDetails() {
+        return algorithm.getLastRunDetails();
+    }
+
     @Override
     public String getBestTime() {
         return algorithm.getBestTime();
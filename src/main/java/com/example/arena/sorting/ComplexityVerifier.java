@@ -0,0 +1,274 @@
+package com.example.arena.sorting;
+
+import com.example.arena.complexity.Complexity;
+import com.example.arena.complexity.CurveFit;
+import com.example.arena.sorting.dataset.DatasetGenerator;
+import com.example.arena.sorting.dataset.Distribution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ComplexityVerifier
+ * Checks every BigOSort's declared getBestTime / getAverageTime / getWorstTime against measurements.
+ *
+ * For each distribution the algorithm is run over doubling sizes (until a per-curve time budget runs out),
+ * and both the wall-time curve and, for instrumented sorts, the operation-count curve
+ * (comparisons + reads + writes, see {@link OpCounter}) are fitted with {@link CurveFit}.
+ * Operation counts are exact, so they decide the verdict whenever they exist; time is the fallback.
+ *
+ * - average case: the UNIFORM curve
+ * - best case:    the distribution that costs the least relative to UNIFORM
+ * - worst case:   the distribution that costs the most relative to UNIFORM
+ * Costs are compared as the geometric mean of the cost ratios over the sizes both curves reached; equal costs go
+ * to the slower-growing curve for the best case and the faster-growing one for the worst, by
+ * {@link Complexity#byGrowth} over the measured sizes (not the order the models are declared in). The worst case
+ * is the costliest input, not the steepest curve: adaptive sorts lose their head start as n grows (Tim Sort on
+ * nearly sorted input climbs from 1.4 to 2.1 operations per n log2 n, against 5.5 on UNIFORM), and LSD radix
+ * passes switch on one by one as the value range of Organ Pipe input grows with n, both bending upwards while
+ * staying at or below the average case.
+ *
+ * A counted contract is VIOLATED when the measured model grows faster than the declared one, and the data
+ * prefers the measured model with at least MIN_CONFIDENCE. Wall time cannot tell log factors from cache misses
+ * (they add a log-like factor once the data spills out of cache), so a time-only curve is judged on its fitted
+ * exponent instead: it must be within TIME_EXPONENT_TOLERANCE of the declared model's exponent over the same
+ * sizes (1.10 for n log n from 1K to 1M). Arrays.sort on UNIFORM measures 1.26 to 1.30 between runs once the data
+ * outgrows the caches, so the tolerance cannot separate n^(5/4) from n log n, but catches n^(3/2) or n^2 against it.
+ * Run as a suite, main() exits with status 1 on any violation, which makes it usable as a regression gate.
+ *
+ * Only the input shapes of {@link Distribution} are tried, so a "best" or "worst" case that needs a
+ * hand-crafted input (e.g. a median-of-3 killer) is approximated by the closest distribution.
+ */
+public class ComplexityVerifier {
+
+    public enum Verdict {
+        CONFIRMED,  // measured growth matches the contract
+        VIOLATED,   // measured growth is higher than the contract allows
+        LOOSER,     // measured growth is lower: the contract holds, but is not tight on these inputs
+        UNCHECKED   // contract string outside the fitted models, or too few points to fit
+    }
+
+    /**
+     * One measured cost curve. opCounts is null for algorithms without a counted run.
+     */
+    public record Curve(DatasetGenerator input, int[] sizes, double[] nanos, double[] opCounts) {
+
+        public CurveFit timeFit() {
+            return CurveFit.fit(sizes, nanos);
+        }
+
+        public CurveFit opsFit() {
+            return opCounts == null ? null : CurveFit.fit(sizes, opCounts);
+        }
+
+        // The fit the verdict is based on: exact counts when available, otherwise time
+        public CurveFit primaryFit() {
+            return opCounts != null ? opsFit() : timeFit();
+        }
+    }
+
+    public record ContractCheck(String algorithm, String contract, String declared, Curve curve,
+                                Verdict verdict, double confidence) {
+
+        @Override
+        public String toString() {
+            String measured = curve.sizes().length < MIN_POINTS ? "too few points"
+                    : curve.primaryFit().model().getNotation() + (curve.opCounts() != null ? " [ops]"
+                    : String.format(" [time, n^%.2f]", curve.primaryFit().exponent()));
+            return String.format("%-8s declared %-16s measured %-24s on %-30s %-10s (%.2f)", contract, declared,
+                    measured, curve.input().getName(), verdict, confidence);
+        }
+    }
+
+    static final double MIN_CONFIDENCE = 0.5;
+    static final int MIN_POINTS = 4;
+    static final double TIME_EXPONENT_TOLERANCE = 0.3;
+
+    private static final int MIN_SIZE = 1 << 10;
+    private static final int MAX_SIZE = 1 << 20;
+    private static final int REPETITIONS = 3;
+    private static final int WARMUP_RUNS = 5;
+    private static final long MIN_POINT_NANOS = 20_000_000L;
+    private static final long DEFAULT_CURVE_BUDGET_NANOS = 1_000_000_000L;
+
+    private final long curveBudgetNanos;
+
+    // 1. Constructors
+    public ComplexityVerifier() {
+        this(DEFAULT_CURVE_BUDGET_NANOS);
+    }
+
+    public ComplexityVerifier(long curveBudgetNanos) {
+        this.curveBudgetNanos = curveBudgetNanos;
+    }
+
+    // 2. Logic
+    public List<ContractCheck> verify(BigOSort sort) {
+        List<Curve> curves = new ArrayList<>();
+        Curve uniform = null;
+        for (Distribution distribution : Distribution.values()) {
+            Curve curve = measure(sort, distribution);
+            if (curve.sizes().length < 2) continue; // failed right at MIN_SIZE, nothing to fit
+            curves.add(curve);
+            if (distribution == Distribution.UNIFORM) uniform = curve;
+        }
+        if (curves.isEmpty()) return List.of();
+
+        // Cheapest first (relative to UNIFORM, or to the first curve if UNIFORM failed); same cost -> slowest growth first
+        Curve reference = uniform != null ? uniform : curves.get(0);
+        Comparator<Curve> byCost = Comparator
+                .comparingDouble((Curve curve) -> costRatio(curve, reference))
+                .thenComparing(curve -> curve.primaryFit().model(), Complexity.byGrowth(MIN_SIZE, MAX_SIZE));
+        Curve best = curves.stream().min(byCost).orElseThrow();
+        Curve worst = curves.stream().max(byCost).orElseThrow();
+
+        List<ContractCheck> checks = new ArrayList<>();
+        checks.add(check(sort, "best", sort.getBestTime(), best));
+        if (uniform != null) checks.add(check(sort, "average", sort.getAverageTime(), uniform));
+        checks.add(check(sort, "worst", sort.getWorstTime(), worst));
+        return checks;
+    }
+
+    // Geometric mean of cost(a) / cost(b) over the sizes both reached (all curves start at MIN_SIZE and double)
+    private static double costRatio(Curve a, Curve b) {
+        int common = Math.min(a.sizes().length, b.sizes().length);
+        double[] costA = a.opCounts() != null ? a.opCounts() : a.nanos();
+        double[] costB = b.opCounts() != null ? b.opCounts() : b.nanos();
+        double logSum = 0;
+        for (int i = 0; i < common; i++) {
+            logSum += Math.log(Math.max(1, costA[i]) / Math.max(1, costB[i]));
+        }
+        return Math.exp(logSum / common);
+    }
+
+    /**
+     * Cost curve of one algorithm on one input shape: sizes MIN_SIZE, 2*MIN_SIZE, ... until MAX_SIZE,
+     * the time budget, or a failure (stack overflow, out of memory) ends it.
+     */
+    public Curve measure(BigOSort sort, DatasetGenerator input) {
+        boolean counted = sort.isInstrumented();
+        int[] sizes = new int[32];
+        double[] nanos = new double[32];
+        double[] ops = new double[32];
+        int points = 0;
+
+        try {
+            // Step 1: Warm up the JIT on the smallest size, so the first point is not interpreted code
+            int[] warmup = input.generate(MIN_SIZE, Distribution.DEFAULT_SEED);
+            for (int i = 0; i < WARMUP_RUNS; i++) sort.run(warmup.clone());
+
+            // Step 2: Doubling sizes. Growth is at most quadratic here, so the next size costs <= 4x the last
+            long spent = 0;
+            for (int n = MIN_SIZE; n <= MAX_SIZE; n *= 2) {
+                int[] data = input.generate(n, Distribution.DEFAULT_SEED);
+
+                // Best of at least REPETITIONS runs; tiny sizes repeat until MIN_POINT_NANOS to beat timer jitter
+                long bestNanos = Long.MAX_VALUE;
+                long pointNanos = 0;
+                for (int r = 0; r < REPETITIONS || pointNanos < MIN_POINT_NANOS; r++) {
+                    int[] copy = data.clone();
+                    long start = System.nanoTime();
+                    sort.run(copy);
+                    long elapsed = System.nanoTime() - start;
+                    bestNanos = Math.min(bestNanos, elapsed);
+                    pointNanos += elapsed;
+                }
+                spent += pointNanos;
+
+                double opCount = 0;
+                if (counted) {
+                    OpCounter counter = new OpCounter();
+                    long start = System.nanoTime();
+                    sort.run(data, counter);
+                    spent += System.nanoTime() - start;
+                    opCount = counter.getComparisons() + counter.getReads() + counter.getWrites();
+                }
+
+                sizes[points] = n;
+                nanos[points] = bestNanos;
+                ops[points] = opCount;
+                points++;
+
+                if (spent + 4 * REPETITIONS * bestNanos > curveBudgetNanos) break;
+            }
+        } catch (RuntimeException | StackOverflowError | OutOfMemoryError e) {
+            // The curve ends at the last size that completed (e.g. Quick Sort's recursion on sorted input)
+        }
+
+        return new Curve(input, Arrays.copyOf(sizes, points), Arrays.copyOf(nanos, points),
+                counted ? Arrays.copyOf(ops, points) : null);
+    }
+
+    private static ContractCheck check(BigOSort sort, String contract, String declared, Curve curve) {
+        Optional<Complexity> parsed = Complexity.parse(declared);
+        if (parsed.isEmpty() || curve.sizes().length < MIN_POINTS) {
+            return new ContractCheck(sort.getSortName(), contract, declared, curve, Verdict.UNCHECKED, 0);
+        }
+
+        CurveFit fit = curve.primaryFit();
+        Complexity expected = parsed.get();
+        Complexity measured = fit.model();
+        int[] sizes = curve.sizes();
+        double from = sizes[0];
+        double to = sizes[sizes.length - 1];
+
+        // Wall time: the curve's fitted exponent against the declared model's exponent over the same sizes
+        if (curve.opCounts() == null) {
+            double excess = fit.exponent() - expected.exponentOver(from, to);
+            if (Math.abs(excess) <= TIME_EXPONENT_TOLERANCE) {
+                return new ContractCheck(sort.getSortName(), contract, declared, curve, Verdict.CONFIRMED,
+                        1 - Math.abs(excess) / TIME_EXPONENT_TOLERANCE);
+            }
+            Verdict verdict = excess > 0 ? Verdict.VIOLATED : Verdict.LOOSER;
+            return new ContractCheck(sort.getSortName(), contract, declared, curve, verdict,
+                    Math.min(1, Math.abs(excess) / TIME_EXPONENT_TOLERANCE - 1));
+        }
+
+        if (measured == expected.fittedAs()) {
+            return new ContractCheck(sort.getSortName(), contract, declared, curve, Verdict.CONFIRMED, fit.confidence());
+        }
+
+        // How decisively the data prefers the measured model over the declared one
+        double preference = 1 - fit.residual(measured) / fit.residual(expected);
+        if (preference < MIN_CONFIDENCE) {
+            // The declared model explains the curve almost as well: not enough evidence against it
+            return new ContractCheck(sort.getSortName(), contract, declared, curve, Verdict.CONFIRMED, 1 - preference);
+        }
+
+        int growth = Complexity.byGrowth(from, to).compare(measured, expected);
+        Verdict verdict = growth > 0 ? Verdict.VIOLATED : Verdict.LOOSER;
+        return new ContractCheck(sort.getSortName(), contract, declared, curve, verdict, preference);
+    }
+
+    // --- TEST RUNNER (the suite) ---
+    // Usage: ComplexityVerifier [AlgorithmClassName ...]   (default: every algorithm in the catalog)
+    public static void main(String[] args) {
+        List<BigOSort> algorithms = args.length == 0
+                ? SortCatalog.all()
+                : Arrays.stream(args).map(SortCatalog::create).toList();
+
+        ComplexityVerifier verifier = new ComplexityVerifier();
+        List<ContractCheck> violations = new ArrayList<>();
+        for (BigOSort sort : algorithms) {
+            System.out.println(sort.getSortName());
+            for (ContractCheck check : verifier.verify(sort)) {
+                System.out.println("  " + check);
+                if (check.verdict() == Verdict.VIOLATED) violations.add(check);
+            }
+        }
+
+        System.out.println("--------------------------------------------------");
+        if (violations.isEmpty()) {
+            System.out.println("All checked contracts hold.");
+            return;
+        }
+        System.out.println(violations.size() + " contract(s) contradicted by measurements:");
+        for (ContractCheck violation : violations) {
+            System.out.println("  " + violation.algorithm() + ": " + violation);
+        }
+        System.exit(1);
+    }
+}
@@ -0,0 +1,356 @@
+package com.example.arena.sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * KWayMerge
+ * Merges k sorted int[] or long[] shards into a caller-provided buffer in one pass, through a loser tree:
+ * ceil(log2 k) comparisons per element and no temporary arrays, where repeated two-way merging (Merge, Cube, Tim)
+ * copies every element log2 k times through fresh temp arrays. long[] shards use {@link LoserTree}, int[] shards
+ * an inlined copy of it over packed keys.
+ *
+ * The parallel variants cut the output into equal, disjoint ranges first. The shard positions where a range starts
+ * are found by splitter search: a binary search over key values for the value at that output rank, then a
+ * binary search per shard for its position. Every range is then an independent k-way merge of shard slices.
+ *
+ * Equal keys come out in shard order (shard 0 first), in the sequential and the parallel variants alike.
+ */
+public final class KWayMerge {
+
+    // Below this many elements per worker, splitting costs more than it saves
+    private static final int MIN_PARALLEL_RANGE = 1 << 16;
+
+    private KWayMerge() {
+    }
+
+    // --- SEQUENTIAL ---
+
+    public static int[] merge(int[][] shards) {
+        int[] out = new int[Math.toIntExact(totalLength(shards))];
+        merge(shards, out, 0);
+        return out;
+    }
+
+    /**
+     * Merges every shard into out[offset, offset + total length).
+     */
+    public static void merge(int[][] shards, int[] out, int offset) {
+        checkCapacity(totalLength(shards), out.length, offset);
+        int[] from = new int[shards.length];
+        int[] to = new int[shards.length];
+        for (int s = 0; s < shards.length; s++) to[s] = shards[s].length;
+        mergeSlices(shards, from, to, out, offset);
+    }
+
+    public static long[] merge(long[][] shards) {
+        long[] out = new long[Math.toIntExact(totalLength(shards))];
+        merge(shards, out, 0);
+        return out;
+    }
+
+    public static void merge(long[][] shards, long[] out, int offset) {
+        checkCapacity(totalLength(shards), out.length, offset);
+        int[] from = new int[shards.length];
+        int[] to = new int[shards.length];
+        for (int s = 0; s < shards.length; s++) to[s] = shards[s].length;
+        mergeSlices(shards, from, to, out, offset);
+    }
+
+    /*
+     * Merges shards[s][from[s], to[s]) for every s into out starting at position.
+     *
+     * The int path plays the loser tree inline on composite keys (value << 32 | source): ties on the value are
+     * decided by the source in the low bits, an exhausted source is Long.MAX_VALUE, so every match is one long
+     * min/max (conditional moves) with no flags or index lookups. Two shards take a plain two-way merge.
+     */
+    private static void mergeSlices(int[][] shards, int[] from, int[] to, int[] out, int position) {
+        int k = shards.length;
+        if (k == 0) return;
+        if (k == 1) {
+            System.arraycopy(shards[0], from[0], out, position, to[0] - from[0]);
+            return;
+        }
+        if (k == 2) {
+            mergeTwo(shards[0], from[0], to[0], shards[1], from[1], to[1], out, position);
+            return;
+        }
+
+        int[] next = from.clone();
+        long[] winners = new long[2 * k];
+        for (int s = 0; s < k; s++) winners[k + s] = leaf(shards[s], next[s], to[s], s);
+        long[] losers = new long[k];
+        for (int node = k - 1; node >= 1; node--) {
+            long left = winners[2 * node];
+            long right = winners[2 * node + 1];
+            winners[node] = Math.min(left, right);
+            losers[node] = Math.max(left, right);
+        }
+
+        long winner = winners[1];
+        while (winner != Long.MAX_VALUE) {
+            int s = (int) winner;
+            out[position++] = (int) (winner >> 32);
+            long candidate = leaf(shards[s], ++next[s], to[s], s);
+            for (int node = (k + s) >>> 1; node >= 1; node >>>= 1) {
+                long loser = losers[node];
+                losers[node] = Math.max(loser, candidate);
+                candidate = Math.min(loser, candidate);
+            }
+            winner = candidate;
+        }
+    }
+
+    private static long leaf(int[] shard, int next, int to, int source) {
+        return next < to ? (long) shard[next] << 32 | source : Long.MAX_VALUE;
+    }
+
+    // Equal keys: left first, as in the loser tree
+    private static void mergeTwo(int[] left, int i, int leftTo, int[] right, int j, int rightTo, int[] out, int k) {
+        while (i < leftTo && j < rightTo) {
+            out[k++] = left[i] <= right[j] ? left[i++] : right[j++];
+        }
+        System.arraycopy(left, i, out, k, leftTo - i);
+        System.arraycopy(right, j, out, k + leftTo - i, rightTo - j);
+    }
+
+    private static void mergeSlices(long[][] shards, int[] from, int[] to, long[] out, int position) {
+        int k = shards.length;
+        if (k == 0) return;
+        if (k == 1) {
+            System.arraycopy(shards[0], from[0], out, position, to[0] - from[0]);
+            return;
+        }
+
+        int[] next = from.clone();
+        LoserTree tree = new LoserTree(k);
+        for (int s = 0; s < k; s++) {
+            if (next[s] < to[s]) tree.set(s, shards[s][next[s]]); else tree.exhaust(s);
+        }
+        tree.build();
+
+        while (!tree.isEmpty()) {
+            int s = tree.winner();
+            out[position++] = tree.winnerKey();
+            if (++next[s] < to[s]) tree.replaceWinner(shards[s][next[s]]); else tree.exhaustWinner();
+        }
+    }
+
+    // --- PARALLEL ---
+
+    public static void parallelMerge(int[][] shards, int[] out, int offset) {
+        parallelMerge(shards, out, offset, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Same result as merge(shards, out, offset), with the output split into pool.getParallelism() ranges
+     * that are merged concurrently.
+     */
+    public static void parallelMerge(int[][] shards, int[] out, int offset, ForkJoinPool pool) {
+        long total = totalLength(shards);
+        checkCapacity(total, out.length, offset);
+        int[][] splits = splitters(total, pool.getParallelism(), (s, value, upper) -> upper
+                ? upperBound(shards[s], value) : lowerBound(shards[s], value), shards.length, minKey(shards),
+                maxKey(shards));
+
+        List<RecursiveAction> ranges = new ArrayList<>();
+        for (int r = 0; r + 1 < splits.length; r++) {
+            int[] from = splits[r];
+            int[] to = splits[r + 1];
+            int position = offset + (int) rank(from);
+            ranges.add(action(() -> mergeSlices(shards, from, to, out, position)));
+        }
+        pool.invoke(action(() -> RecursiveAction.invokeAll(ranges)));
+    }
+
+    public static void parallelMerge(long[][] shards, long[] out, int offset) {
+        parallelMerge(shards, out, offset, ForkJoinPool.commonPool());
+    }
+
+    public static void parallelMerge(long[][] shards, long[] out, int offset, ForkJoinPool pool) {
+        long total = totalLength(shards);
+        checkCapacity(total, out.length, offset);
+        int[][] splits = splitters(total, pool.getParallelism(), (s, value, upper) -> upper
+                ? upperBound(shards[s], value) : lowerBound(shards[s], value), shards.length, minKey(shards),
+                maxKey(shards));
+
+        List<RecursiveAction> ranges = new ArrayList<>();
+        for (int r = 0; r + 1 < splits.length; r++) {
+            int[] from = splits[r];
+            int[] to = splits[r + 1];
+            int position = offset + (int) rank(from);
+            ranges.add(action(() -> mergeSlices(shards, from, to, out, position)));
+        }
+        pool.invoke(action(() -> RecursiveAction.invokeAll(ranges)));
+    }
+
+    // --- SPLITTER SEARCH ---
+
+    // Position of value in shard s: lowerBound (first >= value) or upperBound (first > value)
+    private interface ShardSearch {
+        int bound(int shard, long value, boolean upper);
+    }
+
+    /*
+     * splits[r][s] = where output range r starts in shard s, for ranks 0, total / parts, ..., total.
+     * For each rank: the smallest key v with at least rank keys <= v (binary search over the key range, every
+     * probe one binary search per shard), then all keys < v go left and the keys equal to v fill the rest of
+     * the rank in shard order, the same order the loser tree breaks ties in.
+     */
+    private static int[][] splitters(long total, int parallelism, ShardSearch search, int k, long min, long max) {
+        int parts = (int) Math.max(1, Math.min(parallelism, total / MIN_PARALLEL_RANGE));
+        int[][] splits = new int[parts + 1][k];
+        for (int s = 0; s < k; s++) splits[parts][s] = search.bound(s, max, true);
+
+        for (int r = 1; r < parts; r++) {
+            long rank = total * r / parts;
+            long lo = min;
+            long hi = max;
+            while (lo < hi) {
+                long mid = (lo & hi) + ((lo ^ hi) >> 1); // floor average, hi - lo may overflow for long keys
+                long atMost = 0;
+                for (int s = 0; s < k; s++) atMost += search.bound(s, mid, true);
+                if (atMost >= rank) hi = mid; else lo = mid + 1;
+            }
+
+            long need = rank;
+            int[] split = splits[r];
+            for (int s = 0; s < k; s++) {
+                split[s] = search.bound(s, lo, false);
+                need -= split[s];
+            }
+            for (int s = 0; s < k && need > 0; s++) {
+                int equal = search.bound(s, lo, true) - split[s];
+                int take = (int) Math.min(need, equal);
+                split[s] += take;
+                need -= take;
+            }
+        }
+        return splits;
+    }
+
+    private static long rank(int[] split) {
+        long rank = 0;
+        for (int position : split) rank += position;
+        return rank;
+    }
+
+    private static int lowerBound(int[] a, long value) {
+        int lo = 0;
+        int hi = a.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int upperBound(int[] a, long value) {
+        int lo = 0;
+        int hi = a.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] <= value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int lowerBound(long[] a, long value) {
+        int lo = 0;
+        int hi = a.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int upperBound(long[] a, long value) {
+        int lo = 0;
+        int hi = a.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] <= value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    // --- HELPERS ---
+
+    private static long minKey(int[][] shards) {
+        long min = Long.MAX_VALUE;
+        for (int[] shard : shards) if (shard.length > 0) min = Math.min(min, shard[0]);
+        return min;
+    }
+
+    private static long maxKey(int[][] shards) {
+        long max = Long.MIN_VALUE;
+        for (int[] shard : shards) if (shard.length > 0) max = Math.max(max, shard[shard.length - 1]);
+        return max;
+    }
+
+    private static long minKey(long[][] shards) {
+        long min = Long.MAX_VALUE;
+        for (long[] shard : shards) if (shard.length > 0) min = Math.min(min, shard[0]);
+        return min;
+    }
+
+    private static long maxKey(long[][] shards) {
+        long max = Long.MIN_VALUE;
+        for (long[] shard : shards) if (shard.length > 0) max = Math.max(max, shard[shard.length - 1]);
+        return max;
+    }
+
+    private static long totalLength(int[][] shards) {
+        long total = 0;
+        for (int[] shard : shards) total += shard.length;
+        return total;
+    }
+
+    private static long totalLength(long[][] shards) {
+        long total = 0;
+        for (long[] shard : shards) total += shard.length;
+        return total;
+    }
+
+    private static void checkCapacity(long total, int length, int offset) {
+        if (offset < 0 || total > length - (long) offset) {
+            throw new IllegalArgumentException("Output holds " + (length - offset) + " elements from offset " + offset
+                    + ", the shards have " + total);
+        }
+    }
+
+    private static RecursiveAction action(Runnable body) {
+        return new RecursiveAction() {
+            @Override
+            protected void compute() {
+                body.run();
+            }
+        };
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        for (int k : new int[]{1, 2, 7, 64, 500}) {
+            int[][] shards = new int[k][];
+            for (int s = 0; s < k; s++) {
+                shards[s] = random.ints(random.nextInt(20_000), -1_000, 1_000).sorted().toArray();
+            }
+            int[] expected = Arrays.stream(shards).flatMapToInt(Arrays::stream).sorted().toArray();
+
+            int[] sequential = merge(shards);
+            int[] parallel = new int[expected.length];
+            ForkJoinPool pool = new ForkJoinPool(4);
+            parallelMerge(shards, parallel, 0, pool);
+            pool.shutdown();
+
+            System.out.printf("k=%-4d n=%,-10d sequential %-5b parallel %-5b%n", k, expected.length,
+                    Arrays.equals(sequential, expected), Arrays.equals(parallel, expected));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.arena.sorting;
+
+/**
+ * KeyType
+ * The kinds of input a BigOSort can accept, so the arena can benchmark each one separately.
+ */
+public enum KeyType {
+    INT("int[]"),
+    LONG("long[]"),
+    DOUBLE("double[]"),
+    FLOAT("float[]"),
+    OBJECT("T[] + Comparator"),
+    INDEX("argsort(int[]) -> permutation");
+
+    private final String description;
+
+    KeyType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.arena.sorting;
+
+/**
+ * LoserTree
+ * Tournament tree over k sorted sources, the selection structure behind every k-way merge in the arena.
+ *
+ * Each internal node remembers the loser of the match played there, the overall winner sits at the top.
+ * Replacing the winner's key replays only the matches on its leaf-to-root path: ceil(log2 k) comparisons
+ * per merged element, against about 2 log2 k for a binary heap, and no sift-down branching on two children.
+ *
+ * Keys are longs so int sources widen without loss. Ties go to the lower source index, so a merge of
+ * runs in input order is stable. An exhausted source loses every match.
+ *
+ * Usage: set(...) / exhaust(...) every source, build(), then loop on winner() / replaceWinner() / exhaustWinner()
+ * until isEmpty().
+ */
+public final class LoserTree {
+
+    private final int k;
+    private final long[] keys;
+    private final boolean[] exhausted;
+
+    // tree[0] = winner, tree[1..k-1] = loser at each internal node; leaf of source s is node k + s
+    private final int[] tree;
+
+    // 1. Constructor
+    public LoserTree(int k) {
+        if (k < 1) throw new IllegalArgumentException("k must be >= 1: " + k);
+        this.k = k;
+        this.keys = new long[k];
+        this.exhausted = new boolean[k];
+        this.tree = new int[k];
+    }
+
+    // 2. Setup
+    public void set(int source, long key) {
+        keys[source] = key;
+        exhausted[source] = false;
+    }
+
+    public void exhaust(int source) {
+        exhausted[source] = true;
+    }
+
+    /**
+     * Plays every match once, bottom-up. O(k).
+     */
+    public void build() {
+        // winners[node] for the internal nodes, leaves are their own winners
+        int[] winners = new int[2 * k];
+        for (int s = 0; s < k; s++) winners[k + s] = s;
+        for (int node = k - 1; node >= 1; node--) {
+            int left = winners[2 * node];
+            int right = winners[2 * node + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = winners[1]; // node 1 is the root, or the only leaf when k = 1
+    }
+
+    // 3. Merge loop
+
+    public boolean isEmpty() {
+        return exhausted[tree[0]];
+    }
+
+    public int winner() {
+        return tree[0];
+    }
+
+    public long winnerKey() {
+        return keys[tree[0]];
+    }
+
+    /**
+     * The winning source moved on to key: replays its path to the root.
+     */
+    public void replaceWinner(long key) {
+        int source = tree[0];
+        keys[source] = key;
+        replay(source);
+    }
+
+    /**
+     * The winning source has no more keys: it now loses every match.
+     */
+    public void exhaustWinner() {
+        int source = tree[0];
+        exhausted[source] = true;
+        replay(source);
+    }
+
+    private void replay(int source) {
+        int winner = source;
+        for (int node = (k + source) >>> 1; node >= 1; node >>>= 1) {
+            int loser = tree[node];
+            if (beats(loser, winner)) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    // a wins against b: smaller key, then lower source index; exhausted sources always lose
+    private boolean beats(int a, int b) {
+        if (exhausted[a]) return false;
+        if (exhausted[b]) return true;
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+
+    public int size() {
+        return k;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.arena.sorting;
+
+/**
+ * OpCounter
+ * Counts the abstract operations of one sort, independent of JIT, caches and machine speed.
+ *
+ * - comparisons: key-versus-key tests
+ * - swaps:       exchanges of two elements (each also counts as 2 reads + 2 writes)
+ * - reads:       element loads from the array being sorted or from a scratch buffer
+ * - writes:      element stores into the array being sorted or into a scratch buffer
+ * - max depth:   deepest recursion level reached (0 for iterative algorithms)
+ *
+ * An instrumented sort has one implementation, BigOSort.run(int[], OpCounter), written as counter.read(arr, i)
+ * instead of arr[i]. Its run(int[]) passes NONE, which does the bare operation and counts nothing: the branch on
+ * the final flag is loop-invariant, so the JIT unswitches it out of the hot loops. Not thread-safe, except NONE.
+ */
+public final class OpCounter {
+
+    /**
+     * Counts nothing. Shared by every uncounted run; parallel sorts only fork while counting is off.
+     */
+    public static final OpCounter NONE = new OpCounter(false);
+
+    private final boolean counting;
+
+    private long comparisons;
+    private long swaps;
+    private long reads;
+    private long writes;
+    private int depth;
+    private int maxDepth;
+
+    public OpCounter() {
+        this(true);
+    }
+
+    private OpCounter(boolean counting) {
+        this.counting = counting;
+    }
+
+    // False for NONE only
+    public boolean isCounting() {
+        return counting;
+    }
+
+    // --- COUNTED OPERATIONS ---
+
+    // Same contract as Integer.compare(x, y)
+    public int compare(int x, int y) {
+        if (counting) comparisons++;
+        return Integer.compare(x, y);
+    }
+
+    // x < y as one comparison. The sorts use it instead of compare(x, y) < 0: C2 in JDK 21 does not
+    // fold the three-way result of Integer.compare back into a single test
+    public boolean less(int x, int y) {
+        if (counting) comparisons++;
+        return x < y;
+    }
+
+    // x == y as one comparison
+    public boolean equal(int x, int y) {
+        if (counting) comparisons++;
+        return x == y;
+    }
+
+    public int read(int[] arr, int i) {
+        if (counting) reads++;
+        return arr[i];
+    }
+
+    public void write(int[] arr, int i, int value) {
+        if (counting) writes++;
+        arr[i] = value;
+    }
+
+    public void swap(int[] arr, int i, int j) {
+        if (counting) {
+            swaps++;
+            reads += 2;
+            writes += 2;
+        }
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    // System.arraycopy, counted element by element
+    public void copy(int[] src, int srcPos, int[] dst, int dstPos, int length) {
+        if (counting) {
+            reads += length;
+            writes += length;
+        }
+        System.arraycopy(src, srcPos, dst, dstPos, length);
+    }
+
+    // Bulk form for work that is not one int access at a time, e.g. the lanes of a vector sorting network
+    public void add(long comparisons, long reads, long writes) {
+        if (!counting) return;
+        this.comparisons += comparisons;
+        this.reads += reads;
+        this.writes += writes;
+    }
+
+    // Call on entry to / exit from every recursive call
+    public void enter() {
+        if (counting && ++depth > maxDepth) maxDepth = depth;
+    }
+
+    public void exit() {
+        if (counting) depth--;
+    }
+
+    // --- RESULTS ---
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public long getSwaps() {
+        return swaps;
+    }
+
+    public long getReads() {
+        return reads;
+    }
+
+    public long getWrites() {
+        return writes;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public void reset() {
+        comparisons = 0;
+        swaps = 0;
+        reads = 0;
+        writes = 0;
+        depth = 0;
+        maxDepth = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "comparisons=" + comparisons + ", swaps=" + swaps + ", reads=" + reads
+                + ", writes=" + writes + ", maxDepth=" + maxDepth;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.arena.sorting;
+
+import com.example.arena.sorting.algorithms.ParallelMerge;
+import com.example.arena.sorting.algorithms.SampleSort;
+import com.example.arena.sorting.dataset.Distribution;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * ParallelScaling
+ * Scaling curve of the parallel sorts: SampleSort, ParallelMerge and Arrays.parallelSort on pools of
+ * 1, 2, 4, ... up to every core, wall time (best of REPETITIONS) and speedup over the same sort on one worker.
+ *
+ * Arrays.parallelSort always targets the common pool, but forks into the calling pool when called from one
+ * of its workers, so it is run from inside each pool. It sorts sequentially whenever the common pool has a
+ * parallelism of 1 (a single-core machine), whatever pool calls it.
+ * Usage: ParallelScaling [size] [distribution]   (default 10_000_000 UNIFORM)
+ */
+public class ParallelScaling {
+
+    private static final int DEFAULT_N = 10_000_000;
+    private static final int REPETITIONS = 5;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_N;
+        Distribution distribution = args.length > 1 ? Distribution.valueOf(args[1]) : Distribution.UNIFORM;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        int[] input = distribution.generate(n, Distribution.DEFAULT_SEED);
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        System.out.println("Parallel scaling, " + distribution.getName() + ", n = " + n + ", " + cores + " core(s)");
+        System.out.println("--------------------------------------------------");
+
+        Map<String, Long> singleWorker = new LinkedHashMap<>();
+        for (int workers = 1; ; workers = Math.min(2 * workers, cores)) {
+            ForkJoinPool pool = new ForkJoinPool(workers);
+            try {
+                Map<String, Consumer<int[]>> sorts = new LinkedHashMap<>();
+                sorts.put(new SampleSort(pool).getSortName(), new SampleSort(pool)::run);
+                sorts.put(new ParallelMerge(ParallelMerge.DEFAULT_SEQUENTIAL_CUTOFF, pool).getSortName(),
+                        new ParallelMerge(ParallelMerge.DEFAULT_SEQUENTIAL_CUTOFF, pool)::run);
+                sorts.put("Java Library Sort (Arrays.parallelSort)",
+                        data -> pool.submit(() -> Arrays.parallelSort(data)).join());
+
+                System.out.println(workers + " worker(s)");
+                for (Map.Entry<String, Consumer<int[]>> sort : sorts.entrySet()) {
+                    long bestNanos = Long.MAX_VALUE;
+                    boolean sorted = true;
+                    for (int r = 0; r < REPETITIONS; r++) {
+                        int[] data = input.clone();
+                        long start = System.nanoTime();
+                        sort.getValue().accept(data);
+                        bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+                        sorted &= Arrays.equals(data, expected);
+                    }
+                    singleWorker.putIfAbsent(sort.getKey(), bestNanos);
+                    long baseline = singleWorker.get(sort.getKey());
+
+                    System.out.printf("  %-42s %-12s %9.2f ms  speedup %5.2fx%n", sort.getKey(),
+                            sorted ? "sorted" : "WRONG RESULT", bestNanos / 1_000_000.0, (double) baseline / bestNanos);
+                }
+            } finally {
+                pool.shutdown();
+            }
+            if (workers == cores) break;
+        }
+        System.out.println("--------------------------------------------------");
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.arena.sorting;
+
+import com.example.arena.sorting.algorithms.Shell;
+import com.example.arena.sorting.dataset.Distribution;
+import com.example.arena.sorting.shell.Gaps;
+
+import java.util.Arrays;
+
+/**
+ * ShellGapComparison
+ * Every gap sequence against every input distribution: comparisons, moves (element writes) and wall time.
+ *
+ * Operation counts come from a counted pass (machine independent), the time from a separate uncounted pass
+ * (best of REPETITIONS), so the counters never distort the clock.
+ * Usage: ShellGapComparison [size]   (default 100_000)
+ */
+public class ShellGapComparison {
+
+    private static final int DEFAULT_N = 100_000;
+    private static final int REPETITIONS = 3;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_N;
+        System.out.println("Shell Sort gap sequences, n = " + n);
+        System.out.println("--------------------------------------------------");
+
+        for (Distribution distribution : Distribution.values()) {
+            int[] input = distribution.generate(n, Distribution.DEFAULT_SEED);
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+
+            System.out.println(distribution.getName());
+            Gaps fastest = null;
+            long fastestNanos = Long.MAX_VALUE;
+
+            for (Gaps sequence : Gaps.values()) {
+                Shell sorter = new Shell(sequence);
+
+                // Step 1: Counted pass (also the correctness check)
+                int[] data = input.clone();
+                OpCounter counter = new OpCounter();
+                sorter.run(data, counter);
+                String outcome = Arrays.equals(data, expected) ? "sorted" : "WRONG RESULT";
+
+                // Step 2: Uncounted passes for the wall time
+                long bestNanos = Long.MAX_VALUE;
+                for (int r = 0; r < REPETITIONS; r++) {
+                    data = input.clone();
+                    long start = System.nanoTime();
+                    sorter.run(data);
+                    bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+                }
+                if (bestNanos < fastestNanos) {
+                    fastestNanos = bestNanos;
+                    fastest = sequence;
+                }
+
+                System.out.printf("  %-30s %-12s %,16d cmp %,16d moves %8.2f ms%n", sequence.getName(), outcome,
+                        counter.getComparisons(), counter.getWrites(), bestNanos / 1_000_000.0);
+            }
+            System.out.println("  Fastest: " + fastest.getName());
+            System.out.println("--------------------------------------------------");
+        }
+    }
+}
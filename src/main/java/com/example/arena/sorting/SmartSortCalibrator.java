@@ -0,0 +1,218 @@
+package com.example.arena.sorting;
+
+import com.example.arena.sorting.algorithms.Bucket;
+import com.example.arena.sorting.algorithms.Counting;
+import com.example.arena.sorting.algorithms.Insertion;
+import com.example.arena.sorting.algorithms.Intro;
+import com.example.arena.sorting.algorithms.LsdRadix;
+import com.example.arena.sorting.algorithms.Smart;
+import com.example.arena.sorting.algorithms.Tim;
+import com.example.arena.sorting.dataset.Distribution;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * SmartSortCalibrator
+ * Measures the crossover points between Smart's delegates on this machine and writes them to smartsort.properties.
+ *
+ * Each threshold comes from a sweep over one input property, with everything else held fixed:
+ * - radix.min.size:            full-range input, n = 2^6..2^20     LsdRadix vs Intro
+ * - counting.max.range.factor: n = 2^20, values in [0, f * n)      Counting vs the best of LsdRadix / Intro
+ * - presorted.max.disorder:    n = 2^14, 2^17, 2^20, sorted + random swaps   Tim vs the best of the others
+ * - few.unique.min.duplicates: n = 2^18, k distinct full-range values   Bucket vs the best of LsdRadix / Intro
+ * - insertion.max.size:        uniform input, n = 8..128           Insertion vs profiling + the dispatch above
+ *
+ * The disorder and duplicate thresholds are expressed in Smart's own sampled units (Smart.Profile),
+ * so the dispatch compares like with like. Rerun after changing any delegate or moving to new hardware.
+ */
+public class SmartSortCalibrator {
+
+    public static final Path DEFAULT_OUTPUT = Path.of("src", "main", "resources", "smartsort.properties");
+
+    private static final int SWEEP_SIZE = 1 << 18;
+    // Counting's histogram outgrows the caches long after Radix's digit tables do, so its crossover moves with n:
+    // measured at the top of the arena's usual sizes, where picking the wrong one costs the most
+    private static final int COUNTING_SWEEP_SIZE = 1 << 20;
+    // Tim's cost grows with n log(runs) and the others' with n, so the presorted crossover falls as n grows:
+    // swept at several sizes, the smallest crossover wins
+    private static final int[] PRESORTED_SWEEP_SIZES = {1 << 14, 1 << 17, 1 << 20};
+
+    // Within 5% counts as a tie, and ties keep the sweep going: single timings are noisier than that
+    private static final double TIE_MARGIN = 1.05;
+
+    // Every timing sorts at least this many elements in total (many copies of small inputs), and repeats
+    private static final int MIN_BATCH_ELEMENTS = 1 << 16;
+    private static final int REPETITIONS = 5;
+    // Warm-up batches run until both limits are reached, so every delegate is C2-compiled before timing
+    private static final int MIN_WARMUP_RUNS = 3;
+    private static final long MIN_WARMUP_NANOS = 200_000_000L;
+
+    /**
+     * Fastest time for one sort of input, in nanoseconds: the best of REPETITIONS timed batches,
+     * where small inputs are sorted as a batch of copies so the timer resolution does not dominate.
+     */
+    static double nanosPerSort(BigOSort sort, int[] input) {
+        int copies = Math.max(1, MIN_BATCH_ELEMENTS / Math.max(1, input.length));
+        int[][] batch = new int[copies][input.length];
+
+        long warmupStart = System.nanoTime();
+        for (int r = 0; r < MIN_WARMUP_RUNS || System.nanoTime() - warmupStart < MIN_WARMUP_NANOS; r++) {
+            timeBatch(sort, input, batch);
+        }
+
+        double best = Double.MAX_VALUE;
+        for (int r = 0; r < REPETITIONS; r++) {
+            best = Math.min(best, (double) timeBatch(sort, input, batch) / copies);
+        }
+        return best;
+    }
+
+    private static long timeBatch(BigOSort sort, int[] input, int[][] batch) {
+        for (int[] copy : batch) System.arraycopy(input, 0, copy, 0, input.length);
+        long start = System.nanoTime();
+        for (int[] copy : batch) sort.run(copy);
+        return System.nanoTime() - start;
+    }
+
+    // 1. insertion.max.size: the last size (from the bottom) at which plain Insertion beats profiling + dispatch
+    static int calibrateInsertion(Smart.Thresholds others) {
+        Smart profiled = new Smart(new Smart.Thresholds(0, others.presortedMaxDisorder(),
+                others.countingMaxRangeFactor(), others.fewUniqueMinDuplicates(), others.radixMinSize()));
+        int threshold = 0;
+        Random random = new Random(Distribution.DEFAULT_SEED);
+        for (int n : new int[]{8, 12, 16, 24, 32, 48, 64, 96, 128}) {
+            int[] input = random.ints(n, 0, 1_000_000).toArray();
+            double insertion = nanosPerSort(new Insertion(), input);
+            double smart = nanosPerSort(profiled, input);
+            System.out.printf("  n=%-8d insertion %10.0f ns   profiled %10.0f ns%n", n, insertion, smart);
+            if (insertion > smart * TIE_MARGIN) break;
+            threshold = n;
+        }
+        return threshold;
+    }
+
+    // 2. radix.min.size: the first size from which LsdRadix wins at every larger size
+    static int calibrateRadix() {
+        int threshold = Integer.MAX_VALUE;
+        for (int n = 1 << 20; n >= 1 << 6; n >>= 1) {
+            int[] input = Distribution.FULL_RANGE.generate(n, Distribution.DEFAULT_SEED);
+            double radix = nanosPerSort(new LsdRadix(), input);
+            double intro = nanosPerSort(new Intro(), input);
+            System.out.printf("  n=%-8d radix %12.0f ns   intro %12.0f ns%n", n, radix, intro);
+            if (radix > intro * TIE_MARGIN) break;
+            threshold = n;
+        }
+        return threshold;
+    }
+
+    // 3. counting.max.range.factor: the largest range / n at which Counting (fallback disabled) still wins
+    static double calibrateCounting() {
+        double threshold = 0;
+        Random random = new Random(Distribution.DEFAULT_SEED);
+        for (double factor : new double[]{0.25, 0.5, 1, 2, 4, 8, 16, 32, 64}) {
+            int bound = (int) (factor * COUNTING_SWEEP_SIZE);
+            int[] input = random.ints(COUNTING_SWEEP_SIZE, 0, bound).toArray();
+            double counting = nanosPerSort(new Counting(Double.MAX_VALUE), input);
+            double others = Math.min(nanosPerSort(new LsdRadix(), input), nanosPerSort(new Intro(), input));
+            System.out.printf("  range=%-5s x n  counting %12.0f ns   best other %12.0f ns%n", factor, counting, others);
+            if (counting > others * TIE_MARGIN) break;
+            threshold = factor;
+        }
+        return threshold;
+    }
+
+    // 4. presorted.max.disorder: the largest sampled disorder at which Tim still wins, at the size where that is lowest
+    static double calibratePresorted() {
+        double threshold = Double.MAX_VALUE;
+        for (int n : PRESORTED_SWEEP_SIZES) threshold = Math.min(threshold, calibratePresorted(n));
+        return threshold;
+    }
+
+    private static double calibratePresorted(int n) {
+        double threshold = 0;
+        Smart probe = new Smart();
+        for (double swapShare : new double[]{0.0001, 0.0005, 0.001, 0.002, 0.005, 0.01, 0.02, 0.05, 0.1}) {
+            int swaps = (int) (swapShare * n);
+            int[] input = Distribution.nearlySorted(swaps).generate(n, Distribution.DEFAULT_SEED);
+            probe.choose(input);
+            double disorder = probe.getLastProfile().disorder();
+
+            double tim = nanosPerSort(new Tim(), input);
+            double others = bestOf(input, Counting::new, LsdRadix::new, Intro::new);
+            System.out.printf("  n=%-8d swaps=%-7d disorder %.4f  tim %12.0f ns   best other %12.0f ns%n", n, swaps,
+                    disorder, tim, others);
+            if (tim > others) break; // no tie margin: Tim's lead shrinks with every step up
+            threshold = Math.max(threshold, disorder);
+        }
+        return threshold;
+    }
+
+    // 5. few.unique.min.duplicates: the lowest sampled duplicate ratio from which Bucket wins at every higher one
+    static double calibrateFewUnique() {
+        double threshold = 1.0; // never: no duplicate ratio below 1 reaches it
+        Smart probe = new Smart();
+        Random random = new Random(Distribution.DEFAULT_SEED);
+        for (int distinct : new int[]{2, 8, 32, 128, 512, 2048, 8192, 65536}) {
+            int[] values = random.ints(distinct).toArray(); // full int range, so Counting is never an option
+            int[] input = new int[SWEEP_SIZE];
+            for (int i = 0; i < SWEEP_SIZE; i++) input[i] = values[random.nextInt(distinct)];
+            probe.choose(input);
+            double duplicates = probe.getLastProfile().duplicates();
+
+            double bucket = nanosPerSort(new Bucket(), input);
+            double others = bestOf(input, LsdRadix::new, Intro::new);
+            System.out.printf("  distinct=%-6d duplicates %.3f  bucket %12.0f ns   best other %12.0f ns%n", distinct,
+                    duplicates, bucket, others);
+            if (bucket > others * TIE_MARGIN) break;
+            threshold = duplicates;
+        }
+        return threshold;
+    }
+
+    @SafeVarargs
+    private static double bestOf(int[] input, Supplier<BigOSort>... sorts) {
+        double best = Double.MAX_VALUE;
+        for (Supplier<BigOSort> sort : sorts) best = Math.min(best, nanosPerSort(sort.get(), input));
+        return best;
+    }
+
+    // --- TEST RUNNER (writes the properties file) ---
+    // Usage: SmartSortCalibrator [output.properties]   (default: src/main/resources/smartsort.properties)
+    public static void main(String[] args) throws IOException {
+        Path output = args.length > 0 ? Path.of(args[0]) : DEFAULT_OUTPUT;
+
+        // The others first: insertion.max.size is measured against the dispatch they configure
+        System.out.println("radix.min.size");
+        int radixMinSize = calibrateRadix();
+        System.out.println("counting.max.range.factor");
+        double countingMaxRangeFactor = calibrateCounting();
+        System.out.println("presorted.max.disorder");
+        double presortedMaxDisorder = calibratePresorted();
+        System.out.println("few.unique.min.duplicates");
+        double fewUniqueMinDuplicates = calibrateFewUnique();
+        Smart.Thresholds others = new Smart.Thresholds(0, presortedMaxDisorder, countingMaxRangeFactor,
+                fewUniqueMinDuplicates, radixMinSize);
+        System.out.println("insertion.max.size");
+        int insertionMaxSize = calibrateInsertion(others);
+
+        Smart.Thresholds thresholds = new Smart.Thresholds(insertionMaxSize, presortedMaxDisorder,
+                countingMaxRangeFactor, fewUniqueMinDuplicates, radixMinSize);
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (Writer out = Files.newBufferedWriter(output)) {
+            int cores = Runtime.getRuntime().availableProcessors();
+            thresholds.toProperties().store(out, "Smart sort dispatch thresholds, written by SmartSortCalibrator on "
+                    + cores + " core(s), Java " + Runtime.version()
+                    + (cores == 1 ? "\nCalibrated on a single core, where every timing shares the core with the JIT"
+                    + " and GC threads: rerun SmartSortCalibrator on the target machine" : ""));
+        }
+        System.out.println("--------------------------------------------------");
+        System.out.println(thresholds);
+        System.out.println("Written to " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.arena.sorting;
+
+import com.example.arena.complexity.Complexity;
+import com.example.arena.sorting.algorithms.Smart;
+import com.example.arena.sorting.dataset.Distribution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SmartSortCheck
+ * Regression gate for Smart's dispatch: on every standard distribution and size, Smart must be
+ * within MAX_SLOWDOWN of the fastest single-threaded algorithm in the catalog.
+ *
+ * Candidates walk the sizes from small to large and drop out once their declared worst case predicts
+ * a run longer than CANDIDATE_CAP_NANOS (Bubble Sort at 1M, Quick Sort on sorted input), so the
+ * check finishes in minutes. Smart and the candidates are timed in SAMPLES interleaved rounds, after one
+ * warm-up round, and every contender is judged on the median of its rounds: one pre-declared sample per cell,
+ * with no retries and no exemptions. The median is not flattered by one lucky round the way the best time is,
+ * which matters most for the candidate that wins a cell by a nose. Exits with status 1 when any cell is too
+ * slow, like ComplexityVerifier.
+ */
+public class SmartSortCheck {
+
+    static final double MAX_SLOWDOWN = 1.10;
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000, 1_000_000};
+    private static final long CANDIDATE_CAP_NANOS = 1_000_000_000L;
+
+    private static final int SAMPLES = 7;
+    private static final int MIN_BATCH_ELEMENTS = 1 << 16;
+    private static final int WARMUP_SIZE = 1 << 14;
+
+    public record Cell(Distribution distribution, int size, double smartNanos, String bestName, double bestNanos,
+                       Smart.Choice choice) {
+
+        public double slowdown() {
+            return smartNanos / bestNanos;
+        }
+
+        public boolean passed() {
+            return slowdown() <= MAX_SLOWDOWN;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-30s %,10d  smart %11.0f ns (%-9s)  best %11.0f ns %-40s %5.2fx %s",
+                    distribution.getName(), size, smartNanos, choice, bestNanos, bestName, slowdown(),
+                    passed() ? "ok" : "TOO SLOW");
+        }
+    }
+
+    public static List<Cell> check() {
+        // Smart is single-threaded, so it is compared with single-threaded sorts only
+        List<BigOSort> candidates = new ArrayList<>();
+        for (BigOSort sort : SortCatalog.all()) {
+            if (sort instanceof Smart || sort.getSortName().contains("Parallel")) continue;
+            candidates.add(sort);
+        }
+        Smart smart = new Smart();
+
+        // Every contender reaches its steady-state compiled code before the first cell. Smart is warmed on every
+        // distribution, at the smallest size and at WARMUP_SIZE: each input shape takes its own dispatch branch
+        // (small inputs their own profiling path), and a branch the JIT has never seen taken deoptimizes the
+        // compiled profile on first use, which the few rounds of a large cell never recover from
+        int[] warmup = Distribution.UNIFORM.generate(WARMUP_SIZE, Distribution.DEFAULT_SEED);
+        for (Distribution distribution : Distribution.values()) {
+            for (int size : new int[]{SIZES[0], WARMUP_SIZE}) {
+                SmartSortCalibrator.nanosPerSort(smart, distribution.generate(size, Distribution.DEFAULT_SEED));
+            }
+        }
+        for (BigOSort candidate : candidates) SmartSortCalibrator.nanosPerSort(candidate, warmup);
+
+        List<Cell> cells = new ArrayList<>();
+        for (Distribution distribution : Distribution.values()) {
+            // Last measured time per candidate on this distribution; absent = dropped out
+            Map<BigOSort, Double> lastNanos = new HashMap<>();
+            for (BigOSort candidate : candidates) lastNanos.put(candidate, 0.0);
+            int previousSize = SIZES[0];
+
+            for (int size : SIZES) {
+                int[] input = distribution.generate(size, Distribution.DEFAULT_SEED);
+
+                List<BigOSort> contenders = new ArrayList<>();
+                contenders.add(smart);
+                for (BigOSort candidate : candidates) {
+                    Double last = lastNanos.get(candidate);
+                    if (last == null) continue;
+                    double degree = Complexity.parse(candidate.getWorstTime()).map(Complexity::getDegree).orElse(2.0);
+                    if (last * Math.pow((double) size / previousSize, degree) > CANDIDATE_CAP_NANOS) {
+                        lastNanos.remove(candidate);
+                    } else {
+                        contenders.add(candidate);
+                    }
+                }
+
+                Map<BigOSort, Double> nanos = measureInterleaved(contenders, input);
+                BigOSort best = null;
+                double bestNanos = Double.MAX_VALUE;
+                for (BigOSort candidate : contenders) {
+                    if (candidate == smart) continue;
+                    Double time = nanos.get(candidate);
+                    if (time == null) {
+                        lastNanos.remove(candidate); // failed, e.g. Quick Sort's recursion on sorted input
+                        continue;
+                    }
+                    lastNanos.put(candidate, time);
+                    if (time < bestNanos) {
+                        bestNanos = time;
+                        best = candidate;
+                    }
+                }
+
+                double smartNanos = nanos.get(smart);
+                Cell cell = new Cell(distribution, size, smartNanos, best.getSortName(), bestNanos, smart.choose(input));
+                System.out.println(cell);
+                cells.add(cell);
+                previousSize = size;
+            }
+        }
+        return cells;
+    }
+
+    /*
+     * Median time per sort of input for every contender, over SAMPLES rounds. The contenders take turns within
+     * each round, so drift (JIT, frequency scaling, a noisy neighbour) hits all of them alike instead of whoever
+     * happened to be measured at the time. Each round starts one contender further along, so going first
+     * (right after another sort's garbage) is no one's fixed lot. Small inputs are sorted as a batch of copies.
+     * A contender that throws is left out of the result.
+     */
+    private static Map<BigOSort, Double> measureInterleaved(List<BigOSort> contenders, int[] input) {
+        int copies = Math.max(1, MIN_BATCH_ELEMENTS / input.length);
+        int[][] batch = new int[copies][input.length];
+
+        Map<BigOSort, double[]> samples = new HashMap<>();
+        List<BigOSort> alive = new ArrayList<>(contenders);
+        for (int round = 0; round <= SAMPLES; round++) {
+            List<BigOSort> order = new ArrayList<>(alive);
+            Collections.rotate(order, -round);
+            for (BigOSort sort : order) {
+                for (int[] copy : batch) System.arraycopy(input, 0, copy, 0, input.length);
+                try {
+                    long start = System.nanoTime();
+                    for (int[] copy : batch) sort.run(copy);
+                    double nanos = (double) (System.nanoTime() - start) / copies;
+                    if (round == 0) continue; // round 0 only warms up
+                    samples.computeIfAbsent(sort, key -> new double[SAMPLES])[round - 1] = nanos;
+                } catch (RuntimeException | StackOverflowError e) {
+                    alive.remove(sort);
+                    samples.remove(sort);
+                }
+            }
+        }
+        Map<BigOSort, Double> median = new HashMap<>();
+        samples.forEach((sort, nanos) -> {
+            Arrays.sort(nanos);
+            median.put(sort, nanos[SAMPLES / 2]);
+        });
+        return median;
+    }
+
+    // --- TEST RUNNER (the gate) ---
+    public static void main(String[] args) {
+        System.out.println("Thresholds: " + new Smart().getThresholds());
+        List<Cell> failed = check().stream().filter(cell -> !cell.passed()).toList();
+
+        System.out.println("--------------------------------------------------");
+        if (failed.isEmpty()) {
+            System.out.printf("Smart Sort is within %.0f%% of the best algorithm everywhere.%n", (MAX_SLOWDOWN - 1) * 100);
+            return;
+        }
+        System.out.println(failed.size() + " cell(s) where Smart Sort is too slow:");
+        failed.forEach(cell -> System.out.println("  " + cell));
+        System.exit(1);
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.arena.sorting;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+/**
+ * SortCatalog
+ * Discovers every concrete BigOSort in the algorithms package at runtime,
+ * so the arena and the JMH benchmarks never need a hand-maintained list.
+ *
+ * Works from an exploded classes directory (IDE / gradle run) and from a jar (JMH uber-jar).
+ * Every instance it hands out has been checked to override the entry point of each key type it supports.
+ */
+public final class SortCatalog {
+
+    public static final String ALGORITHMS_PACKAGE = "com.example.arena.sorting.algorithms";
+
+    private SortCatalog() {
+    }
+
+    /**
+     * Simple class names of every discoverable algorithm, sorted alphabetically.
+     * These are the keys accepted by {@link #create(String)}.
+     */
+    public static List<String> names() {
+        List<String> names = new ArrayList<>();
+        for (Class<? extends BigOSort> type : discover()) {
+            names.add(type.getSimpleName());
+        }
+        return names;
+    }
+
+    /**
+     * A fresh instance of every discoverable algorithm.
+     * Each call returns new objects, so callers may keep per-run state on them.
+     */
+    public static List<BigOSort> all() {
+        List<BigOSort> sorts = new ArrayList<>();
+        for (Class<? extends BigOSort> type : discover()) {
+            sorts.add(instantiate(type));
+        }
+        return sorts;
+    }
+
+    /**
+     * Creates an algorithm by simple class name (e.g. "Quick") or fully qualified name.
+     */
+    public static BigOSort create(String name) {
+        String className = name.contains(".") ? name : ALGORITHMS_PACKAGE + "." + name;
+        try {
+            Class<?> type = Class.forName(className);
+            if (!isSortable(type)) {
+                throw new IllegalArgumentException(name + " is not a concrete BigOSort with a public no-arg constructor");
+            }
+            return instantiate(type.asSubclass(BigOSort.class));
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown sort algorithm: " + name, e);
+        }
+    }
+
+    /**
+     * Scans the algorithms package (top level only, sub-packages are experiments) for BigOSort subclasses.
+     */
+    public static List<Class<? extends BigOSort>> discover() {
+        TreeSet<String> classNames = new TreeSet<>();
+        String path = ALGORITHMS_PACKAGE.replace('.', '/');
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) loader = SortCatalog.class.getClassLoader();
+
+        try {
+            Enumeration<URL> roots = loader.getResources(path);
+            while (roots.hasMoreElements()) {
+                URL root = roots.nextElement();
+                switch (root.getProtocol()) {
+                    case "file" -> scanDirectory(root, classNames);
+                    case "jar" -> scanJar(root, path, classNames);
+                    default -> { /* unknown class source: nothing we can list */ }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not scan " + ALGORITHMS_PACKAGE, e);
+        }
+
+        List<Class<? extends BigOSort>> types = new ArrayList<>();
+        for (String className : classNames) {
+            try {
+                Class<?> type = Class.forName(className, false, loader);
+                if (isSortable(type)) {
+                    types.add(type.asSubclass(BigOSort.class));
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                // A class that cannot be loaded is simply not part of the arena.
+            }
+        }
+        types.sort(Comparator.comparing(Class::getSimpleName));
+        return types;
+    }
+
+    // --- HELPERS ---
+
+    private static void scanDirectory(URL root, TreeSet<String> classNames) {
+        File dir;
+        try {
+            dir = Path.of(root.toURI()).toFile();
+        } catch (URISyntaxException e) {
+            return;
+        }
+        File[] files = dir.listFiles();
+        if (files == null) return;
+        for (File file : files) {
+            addIfTopLevelClass(file.getName(), classNames);
+        }
+    }
+
+    private static void scanJar(URL root, String path, TreeSet<String> classNames) throws IOException {
+        JarURLConnection connection = (JarURLConnection) root.openConnection();
+        connection.setUseCaches(false);
+        try (JarFile jar = connection.getJarFile()) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String entry = entries.nextElement().getName();
+                int slash = entry.lastIndexOf('/');
+                if (slash > 0 && entry.substring(0, slash).equals(path)) {
+                    addIfTopLevelClass(entry.substring(slash + 1), classNames);
+                }
+            }
+        }
+    }
+
+    private static void addIfTopLevelClass(String fileName, TreeSet<String> classNames) {
+        // Skip nested/anonymous classes (Tree$Node.class) and anything that is not bytecode
+        if (fileName.endsWith(".class") && fileName.indexOf('$') < 0) {
+            classNames.add(ALGORITHMS_PACKAGE + "." + fileName.substring(0, fileName.length() - ".class".length()));
+        }
+    }
+
+    private static boolean isSortable(Class<?> type) {
+        if (!BigOSort.class.isAssignableFrom(type)) return false;
+        int modifiers = type.getModifiers();
+        if (Modifier.isAbstract(modifiers) || !Modifier.isPublic(modifiers)) return false;
+        try {
+            return Modifier.isPublic(type.getConstructor().getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static BigOSort instantiate(Class<? extends BigOSort> type) {
+        BigOSort sort;
+        try {
+            Constructor<? extends BigOSort> constructor = type.getConstructor();
+            sort = constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not instantiate " + type.getName(), e);
+        }
+        checkKeyTypes(sort);
+        return sort;
+    }
+
+    // supports(k) must mean the entry point for k is overridden: BigOSort's default only throws
+    private static void checkKeyTypes(BigOSort sort) {
+        for (KeyType keyType : sort.getSupportedKeyTypes()) {
+            Method method = entryPoint(sort.getClass(), keyType);
+            if (method.getDeclaringClass() == BigOSort.class) {
+                throw new IllegalStateException(sort.getClass().getName() + " supports " + keyType.getDescription()
+                        + " but does not override " + method.getName() + Arrays.stream(method.getParameterTypes())
+                        .map(Class::getSimpleName).collect(Collectors.joining(", ", "(", ")")));
+            }
+        }
+    }
+
+    // The public method of type that sorts one key type: BigOSort's own default unless type overrides it
+    private static Method entryPoint(Class<? extends BigOSort> type, KeyType keyType) {
+        try {
+            return switch (keyType) {
+                case INT -> type.getMethod("run", int[].class);
+                case LONG -> type.getMethod("run", long[].class);
+                case DOUBLE -> type.getMethod("run", double[].class);
+                case FLOAT -> type.getMethod("run", float[].class);
+                case OBJECT -> type.getMethod("run", Object[].class, Comparator.class);
+                case INDEX -> type.getMethod("argsort", int[].class);
+            };
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("BigOSort has no entry point for " + keyType, e);
+        }
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        for (BigOSort sort : all()) {
+            System.out.println(sort.getClass().getSimpleName() + " -> " + sort.getSortName());
+        }
+    }
+}
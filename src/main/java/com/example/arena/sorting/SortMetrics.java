@@ -0,0 +1,92 @@
+package com.example.arena.sorting;
+
+import com.example.arena.sorting.dataset.Distribution;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * SortMetrics
+ * The result of one instrumented sort: wall time, bytes allocated and the operation counts of {@link OpCounter}.
+ *
+ * measure() sorts the input twice. An uncounted run on a copy provides the time and the allocated bytes
+ * (so neither includes counter overhead), then the counted run sorts the caller's array for the counts.
+ * Algorithms without a counted run report UNAVAILABLE counters and counted = false.
+ *
+ * allocatedBytes covers the calling thread only: for fork/join sorts (ParallelMerge, AmericanFlag, ...)
+ * the work done by pool threads is not included.
+ */
+public record SortMetrics(
+        String algorithm,
+        int size,
+        long nanos,
+        long allocatedBytes,
+        boolean counted,
+        long comparisons,
+        long swaps,
+        long reads,
+        long writes,
+        int maxRecursionDepth) {
+
+    public static final int UNAVAILABLE = -1;
+
+    // null when the JVM cannot attribute allocations to threads (non-HotSpot VMs)
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    public static SortMetrics measure(BigOSort sort, int[] arr) {
+        return measure(sort, arr, Long.MAX_VALUE);
+    }
+
+    /**
+     * Like measure(sort, arr), but the counted run (several times slower than run(int[])) is skipped
+     * when the uncounted run already took longer than countingBudgetNanos; counters are then UNAVAILABLE.
+     */
+    public static SortMetrics measure(BigOSort sort, int[] arr, long countingBudgetNanos) {
+        // Step 1: Uncounted run on a copy (cloned before the meter starts) for time and allocation
+        int[] copy = arr.clone();
+        long allocatedBefore = currentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        sort.run(copy);
+        long nanos = System.nanoTime() - start;
+        long allocatedAfter = currentThreadAllocatedBytes();
+        long allocated = allocatedBefore == UNAVAILABLE ? UNAVAILABLE : allocatedAfter - allocatedBefore;
+
+        // Step 2: Counted run on the caller's array (or just hand back the sorted copy)
+        if (!sort.isInstrumented() || nanos > countingBudgetNanos) {
+            System.arraycopy(copy, 0, arr, 0, arr.length);
+            return new SortMetrics(sort.getSortName(), arr.length, nanos, allocated, false,
+                    UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE);
+        }
+        OpCounter counter = new OpCounter();
+        sort.run(arr, counter);
+        return new SortMetrics(sort.getSortName(), arr.length, nanos, allocated, true,
+                counter.getComparisons(), counter.getSwaps(), counter.getReads(), counter.getWrites(),
+                counter.getMaxDepth());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return THREADS == null ? UNAVAILABLE : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        int n = 10_000;
+        int[] input = Distribution.UNIFORM.generate(n, Distribution.DEFAULT_SEED);
+
+        for (BigOSort sort : SortCatalog.all()) {
+            SortMetrics metrics = measure(sort, input.clone());
+            System.out.printf("%-45s %8.2f ms %,12d B  cmp=%,d swaps=%,d reads=%,d writes=%,d depth=%d%n",
+                    metrics.algorithm(), metrics.nanos() / 1_000_000.0, metrics.allocatedBytes(),
+                    metrics.comparisons(), metrics.swaps(), metrics.reads(), metrics.writes(),
+                    metrics.maxRecursionDepth());
+        }
+    }
+}
@@ -1,70 +1,188 @@
 package com.example.arena.sorting;
 
-import com.example.arena.sorting.algorithms.*; // assumes Bubble, Quick, Tim, Tree, etc.
+import com.example.arena.model.BenchmarkResult;
+import com.example.arena.sorting.dataset.DatasetGenerator;
+import com.example.arena.sorting.dataset.Distribution;
+import com.example.arena.sorting.dataset.KeyDatasets;
+import com.example.arena.sorting.report.CsvResultSink;
+import com.example.arena.sorting.report.GraphSeriesSink;
+import com.example.arena.sorting.report.JsonLinesResultSink;
+import com.example.arena.sorting.report.ResultSink;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Random;
 
 public class SortingComparison {
 
     private static final int N = 50_000;
 
-    public static void main(String[] args) {
-        int[] base = createRandomArray(N, 0, 1_000_000);
-
-        List<BigOSort> algorithms = List.of(
-                new Bubble(),
-                new Bucket(),
-                new Counting(),
-                new Cube(),
-                new Heap(),
-                new Insertion(),
-                new Merge(),
-                new Quick(),
-                new Radix(),
-                new Selection(),
-                new Shell(),
-                new Sort(),
-                new Tim(),
-                new Tree()
-        );
-
-        for (BigOSort algo : algorithms) {
-            int[] data = Arrays.copyOf(base, base.length);
-
-            System.out.println(algo.bigOContract());
+    // Timed repetitions per cell, cut short before one would take the cell past CELL_BUDGET_NANOS (quadratic sorts)
+    private static final int REPETITIONS = 5;
+    private static final long CELL_BUDGET_NANOS = 2_000_000_000L;
+
+    private static final Path RESULTS_DIRECTORY = Path.of("arena-results");
+
+    public static void main(String[] args) throws IOException {
+        // Every BigOSort in the algorithms package, no hand-maintained list
+        List<BigOSort> algorithms = SortCatalog.all();
+        List<DatasetGenerator> distributions = List.of(Distribution.values());
+
+        // Reference results: Arrays.parallelSort both checks every algorithm's output and sets the pace
+        int[][] inputs = new int[distributions.size()][];
+        int[][] expected = new int[distributions.size()][];
+        long[] referenceNanos = new long[distributions.size()];
+
+        System.out.println("Reference: Arrays.parallelSort");
+        for (int d = 0; d < distributions.size(); d++) {
+            // Same seed for every algorithm, so they all sort identical data
+            inputs[d] = distributions.get(d).generate(N, Distribution.DEFAULT_SEED);
+            expected[d] = Arrays.copyOf(inputs[d], N);
+
             long start = System.nanoTime();
-            algo.run(data);
-            long end = System.nanoTime();
+            Arrays.parallelSort(expected[d]);
+            referenceNanos[d] = System.nanoTime() - start;
 
-            long durationMillis = (end - start) / 1_000_000;
+            System.out.printf("  %-30s %-30s %6d ms%n", distributions.get(d).getName(), "reference",
+                    referenceNanos[d] / 1_000_000);
+        }
+        System.out.println("--------------------------------------------------");
 
-            // Optional: verify sorted
-            boolean sorted = isSorted(data);
+        // Every cell is streamed to disk as soon as it finishes
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path csv = RESULTS_DIRECTORY.resolve("sorting-" + stamp + ".csv");
+        Path jsonl = RESULTS_DIRECTORY.resolve("sorting-" + stamp + ".jsonl");
+        Path graphsJson = RESULTS_DIRECTORY.resolve("sorting-" + stamp + "-graphs.json");
+        GraphSeriesSink graphs = new GraphSeriesSink();
 
-            System.out.println("Sorted correctly: " + sorted);
-            System.out.println("Runtime:          " + durationMillis + " ms");
-            System.out.println("Sample output:    " +
-                    Arrays.toString(Arrays.copyOf(data, Math.min(10, data.length))));
-            System.out.println("--------------------------------------------------");
+        try (ResultSink sink = ResultSink.tee(new CsvResultSink(csv), new JsonLinesResultSink(jsonl), graphs)) {
+            for (BigOSort algo : algorithms) {
+                System.out.println(algo.bigOContract());
+
+                for (int d = 0; d < distributions.size(); d++) {
+                    BenchmarkResult result = ArenaRunner.runCell(algo, distributions.get(d), inputs[d], expected[d],
+                            REPETITIONS, CELL_BUDGET_NANOS);
+                    sink.accept(result);
+
+                    String outcome = switch (result.status()) {
+                        case OK -> "sorted";
+                        case WRONG_RESULT -> "WRONG RESULT";
+                        default -> "FAILED (" + result.detail() + ")";
+                    };
+                    long median = Math.max(0, result.p50Nanos());
+                    System.out.printf("  %-30s %-30s %6d ms  (%.1fx parallelSort)%n", distributions.get(d).getName(),
+                            outcome, median / 1_000_000, (double) median / Math.max(1, referenceNanos[d]));
+                    if (!algo.getLastRunDetails().isEmpty()) {
+                        System.out.printf("  %-30s %s%n", "", algo.getLastRunDetails());
+                    }
+                }
+                System.out.println("--------------------------------------------------");
+            }
         }
+        graphs.writeJson(graphsJson);
+        System.out.println("Results: " + csv.toAbsolutePath() + ", " + jsonl.toAbsolutePath() + ", "
+                + graphsJson.toAbsolutePath());
+
+        compareKeyTypes(algorithms, distributions);
     }
 
-    private static int[] createRandomArray(int n, int min, int max) {
-        Random random = new Random(42); // deterministic
-        int[] arr = new int[n];
-        for (int i = 0; i < n; i++) {
-            arr[i] = random.nextInt(max - min + 1) + min;
+    /**
+     * Every non-int key type, benchmarked separately over the algorithms that declare support for it.
+     */
+    private static void compareKeyTypes(List<BigOSort> algorithms, List<DatasetGenerator> distributions) {
+        for (KeyType keyType : KeyType.values()) {
+            if (keyType == KeyType.INT) continue;
+
+            System.out.println("Key type: " + keyType.getDescription());
+            for (BigOSort algo : algorithms) {
+                if (!algo.supports(keyType)) continue;
+
+                System.out.println("  " + algo.getSortName());
+                for (DatasetGenerator distribution : distributions) {
+                    String outcome;
+                    long durationMillis = 0;
+                    try {
+                        KeyTypeRun result = runKeyType(algo, keyType, distribution);
+                        outcome = result.correct() ? "sorted" : "WRONG RESULT";
+                        durationMillis = result.nanos() / 1_000_000;
+                    } catch (RuntimeException | StackOverflowError | OutOfMemoryError e) {
+                        outcome = "FAILED (" + e.getClass().getSimpleName() + ")";
+                    }
+
+                    System.out.printf("    %-30s %-30s %6d ms%n", distribution.getName(), outcome, durationMillis);
+                }
+            }
+            System.out.println("--------------------------------------------------");
         }
-        return arr;
     }
 
-    private static boolean isSorted(int[] arr) {
-        for (int i = 1; i < arr.length; i++) {
-            if (arr[i] < arr[i - 1]) {
-                return false;
+    private record KeyTypeRun(boolean correct, long nanos) {
+    }
+
+    // Runs one cell (only the sort itself is timed) and checks it against the library sort of the same data
+    private static KeyTypeRun runKeyType(BigOSort algo, KeyType keyType, DatasetGenerator distribution) {
+        long seed = Distribution.DEFAULT_SEED;
+        switch (keyType) {
+            case LONG -> {
+                long[] data = KeyDatasets.longs(distribution, N, seed);
+                long[] expected = data.clone();
+                Arrays.sort(expected);
+                long start = System.nanoTime();
+                algo.run(data);
+                long nanos = System.nanoTime() - start;
+                return new KeyTypeRun(Arrays.equals(data, expected), nanos);
+            }
+            case DOUBLE -> {
+                double[] data = KeyDatasets.doubles(distribution, N, seed);
+                double[] expected = data.clone();
+                Arrays.sort(expected);
+                long start = System.nanoTime();
+                algo.run(data);
+                long nanos = System.nanoTime() - start;
+                return new KeyTypeRun(Arrays.equals(data, expected), nanos);
             }
+            case FLOAT -> {
+                float[] data = KeyDatasets.floats(distribution, N, seed);
+                float[] expected = data.clone();
+                Arrays.sort(expected);
+                long start = System.nanoTime();
+                algo.run(data);
+                long nanos = System.nanoTime() - start;
+                return new KeyTypeRun(Arrays.equals(data, expected), nanos);
+            }
+            case OBJECT -> {
+                Integer[] data = KeyDatasets.objects(distribution, N, seed);
+                Integer[] expected = data.clone();
+                Arrays.sort(expected, Comparator.naturalOrder());
+                long start = System.nanoTime();
+                algo.run(data, Comparator.naturalOrder());
+                long nanos = System.nanoTime() - start;
+                return new KeyTypeRun(Arrays.equals(data, expected), nanos);
+            }
+            case INDEX -> {
+                int[] keys = distribution.generate(N, seed);
+                long start = System.nanoTime();
+                int[] permutation = algo.argsort(keys);
+                long nanos = System.nanoTime() - start;
+                return new KeyTypeRun(isSortedPermutation(keys, permutation), nanos);
+            }
+            default -> throw new IllegalArgumentException("Not a secondary key type: " + keyType);
+        }
+    }
+
+    // A valid argsort result: every index exactly once, and the keys in that order are non-decreasing
+    private static boolean isSortedPermutation(int[] keys, int[] permutation) {
+        if (permutation.length != keys.length) return false;
+        boolean[] seen = new boolean[keys.length];
+        for (int i = 0; i < permutation.length; i++) {
+            int index = permutation[i];
+            if (index < 0 || index >= keys.length || seen[index]) return false;
+            seen[index] = true;
+            if (i > 0 && keys[index] < keys[permutation[i - 1]]) return false;
         }
         return true;
     }
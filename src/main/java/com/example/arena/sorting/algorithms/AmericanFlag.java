@@ -0,0 +1,339 @@
+package com.example.arena.sorting.algorithms;
+
+import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.KeyType;
+import com.example.arena.sorting.OpCounter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * AmericanFlag
+ * In-place MSD radix sort (McIlroy, Bostic &amp; McIlroy's "American flag sort"), base 256.
+ *
+ * Where {@link LsdRadix} streams the whole array through a scratch buffer four times,
+ * this permutes elements into their top-byte bucket in place (cycle leader swaps, no scratch array),
+ * then recurses into each bucket on the next byte. Once a bucket is finished it stays in cache,
+ * and independent buckets are sorted concurrently on the ForkJoin pool.
+ *
+ * Handles int[] (4 levels) and long[] (8 levels); signed order via a sign-bit flip on the top byte.
+ */
+public class AmericanFlag extends BigOSort {
+
+    private static final int RADIX = 256;
+
+    // Buckets this small are finished with insertion sort
+    private static final int INSERTION_THRESHOLD = 32;
+
+    // Buckets this large are handed to the pool as their own task
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final ForkJoinPool pool;
+
+    // 1. Constructors
+    public AmericanFlag() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public AmericanFlag(ForkJoinPool pool) {
+        super("American Flag Sort (Parallel MSD Radix)");
+        this.pool = pool;
+    }
+
+    // 2. Logic (int keys)
+    @Override
+    public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter).
+    // A counted run stays on the calling thread (OpCounter is not thread-safe): same counts, not the same wall time.
+    @Override
+    public void run(int[] arr, OpCounter counter) {
+        if (arr.length < 2) return;
+        if (arr.length < PARALLEL_THRESHOLD || counter.isCounting()) {
+            sortInts(arr, 0, arr.length, 0, new Scratch(4), null, counter);
+        } else {
+            pool.invoke(new IntBucketTask(arr, 0, arr.length, 0));
+        }
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
+
+    // 3. Logic (long keys)
+    @Override
+    public void run(long[] arr) {
+        if (arr.length < 2) return;
+        if (arr.length < PARALLEL_THRESHOLD) {
+            sortLongs(arr, 0, arr.length, 0, new Scratch(8), null);
+        } else {
+            pool.invoke(new LongBucketTask(arr, 0, arr.length, 0));
+        }
+    }
+
+    @Override
+    public Set<KeyType> getSupportedKeyTypes() {
+        return EnumSet.of(KeyType.INT, KeyType.LONG);
+    }
+
+    // --- INT IMPLEMENTATION ---
+
+    // Level 0 is the most significant byte. Sign bit flipped so negatives land in the low buckets.
+    private static int intDigit(int v, int level) {
+        return ((v ^ Integer.MIN_VALUE) >>> (24 - 8 * level)) & 0xFF;
+    }
+
+    /*
+     * Per-level count/next/end arrays, allocated once per task (or serial call) and reused by every bucket
+     * of that level: the recursion is depth-first, so only one bucket per level is active at a time.
+     * The count arrays are left zeroed after each use.
+     */
+    private static final class Scratch {
+        final int[][] count, next, end;
+
+        Scratch(int levels) {
+            count = new int[levels][RADIX];
+            next = new int[levels][RADIX];
+            end = new int[levels][RADIX];
+        }
+    }
+
+    /*
+     * Sorts arr[from, to) starting at byte 'level'.
+     * When 'forks' is non-null (we are inside a pool task), large buckets are collected there
+     * as new tasks instead of being recursed into.
+     */
+    private static void sortInts(int[] arr, int from, int to, int level, Scratch scratch,
+                                 List<ForkJoinTask<?>> forks, OpCounter counter) {
+        counter.enter();
+        while (true) {
+            if (to - from <= INSERTION_THRESHOLD) {
+                Insertion.sortRange(arr, from, to, counter);
+                break;
+            }
+
+            // Step 1: Histogram of this byte
+            int[] count = scratch.count[level];
+            for (int i = from; i < to; i++) {
+                count[intDigit(counter.read(arr, i), level)]++;
+            }
+
+            // All elements share this byte: nothing to permute, go straight to the next one
+            int only = intDigit(counter.read(arr, from), level);
+            if (count[only] == to - from) {
+                count[only] = 0;
+                if (level == 3) break;
+                level++;
+                continue;
+            }
+
+            // Step 2: Bucket boundaries. next[b] is the first slot of bucket b not yet holding a b-element
+            int[] next = scratch.next[level];
+            int[] end = scratch.end[level];
+            int offset = from;
+            for (int b = 0; b < RADIX; b++) {
+                next[b] = offset;
+                offset += count[b];
+                count[b] = 0;
+                end[b] = offset;
+            }
+
+            // Step 3: Cycle-leader permutation, every element moves at most once
+            for (int b = 0; b < RADIX; b++) {
+                while (next[b] < end[b]) {
+                    int v = counter.read(arr, next[b]);
+                    int d = intDigit(v, level);
+                    while (d != b) {
+                        int displaced = counter.read(arr, next[d]);
+                        counter.write(arr, next[d]++, v);
+                        v = displaced;
+                        d = intDigit(v, level);
+                    }
+                    counter.write(arr, next[b]++, v);
+                }
+            }
+
+            // Step 4: Recurse into every bucket on the next byte
+            if (level == 3) break;
+            int start = from;
+            for (int b = 0; b < RADIX; b++) {
+                int bucketEnd = end[b];
+                if (bucketEnd - start > 1) {
+                    if (forks != null && bucketEnd - start >= PARALLEL_THRESHOLD) {
+                        forks.add(new IntBucketTask(arr, start, bucketEnd, level + 1).fork());
+                    } else {
+                        sortInts(arr, start, bucketEnd, level + 1, scratch, forks, counter);
+                    }
+                }
+                start = bucketEnd;
+            }
+            break;
+        }
+        counter.exit();
+    }
+
+    @SuppressWarnings("serial")
+    private static final class IntBucketTask extends RecursiveAction {
+        private final int[] arr;
+        private final int from, to, level;
+
+        IntBucketTask(int[] arr, int from, int to, int level) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.level = level;
+        }
+
+        @Override
+        protected void compute() {
+            List<ForkJoinTask<?>> forks = new ArrayList<>();
+            sortInts(arr, from, to, level, new Scratch(4), forks, OpCounter.NONE);
+            for (ForkJoinTask<?> fork : forks) fork.join();
+        }
+    }
+
+    // --- LONG IMPLEMENTATION (same algorithm, 8 levels) ---
+
+    private static int longDigit(long v, int level) {
+        return (int) (((v ^ Long.MIN_VALUE) >>> (56 - 8 * level)) & 0xFF);
+    }
+
+    private static void sortLongs(long[] arr, int from, int to, int level, Scratch scratch,
+                                  List<ForkJoinTask<?>> forks) {
+        while (true) {
+            if (to - from <= INSERTION_THRESHOLD) {
+                insertionSort(arr, from, to);
+                return;
+            }
+
+            int[] count = scratch.count[level];
+            for (int i = from; i < to; i++) {
+                count[longDigit(arr[i], level)]++;
+            }
+
+            int only = longDigit(arr[from], level);
+            if (count[only] == to - from) {
+                count[only] = 0;
+                if (level == 7) return;
+                level++;
+                continue;
+            }
+
+            int[] next = scratch.next[level];
+            int[] end = scratch.end[level];
+            int offset = from;
+            for (int b = 0; b < RADIX; b++) {
+                next[b] = offset;
+                offset += count[b];
+                count[b] = 0;
+                end[b] = offset;
+            }
+
+            for (int b = 0; b < RADIX; b++) {
+                while (next[b] < end[b]) {
+                    long v = arr[next[b]];
+                    int d = longDigit(v, level);
+                    while (d != b) {
+                        long displaced = arr[next[d]];
+                        arr[next[d]++] = v;
+                        v = displaced;
+                        d = longDigit(v, level);
+                    }
+                    arr[next[b]++] = v;
+                }
+            }
+
+            if (level == 7) return;
+            int start = from;
+            for (int b = 0; b < RADIX; b++) {
+                int bucketEnd = end[b];
+                if (bucketEnd - start > 1) {
+                    if (forks != null && bucketEnd - start >= PARALLEL_THRESHOLD) {
+                        forks.add(new LongBucketTask(arr, start, bucketEnd, level + 1).fork());
+                    } else {
+                        sortLongs(arr, start, bucketEnd, level + 1, scratch, forks);
+                    }
+                }
+                start = bucketEnd;
+            }
+            return;
+        }
+    }
+
+    private static void insertionSort(long[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = arr[i];
+            int j = i - 1;
+            while (j >= from && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class LongBucketTask extends RecursiveAction {
+        private final long[] arr;
+        private final int from, to, level;
+
+        LongBucketTask(long[] arr, int from, int to, int level) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.level = level;
+        }
+
+        @Override
+        protected void compute() {
+            List<ForkJoinTask<?>> forks = new ArrayList<>();
+            sortLongs(arr, from, to, level, new Scratch(8), forks);
+            for (ForkJoinTask<?> fork : forks) fork.join();
+        }
+    }
+
+    // --- BIG O CONTRACT ---
+
+    @Override
+    public String getBestTime() {
+        return "O(n)"; // Buckets collapse to insertion sort after the first byte
+    }
+
+    @Override
+    public String getAverageTime() {
+        return "O(nk)"; // k = bytes per key (4 for int, 8 for long)
+    }
+
+    @Override
+    public String getWorstTime() {
+        return "O(nk)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(k)"; // In place: 3 x 256 counters per level, per task
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        AmericanFlag sorter = new AmericanFlag();
+        int[] ints = {170, -45, 75, -90, 802, 24, Integer.MIN_VALUE, 2, Integer.MAX_VALUE, 66};
+        long[] longs = {1L << 40, -3L, 7L, Long.MIN_VALUE, 0L, Long.MAX_VALUE, -(1L << 40)};
+
+        System.out.println("Running " + sorter.getSortName());
+        sorter.run(ints);
+        sorter.run(longs);
+
+        System.out.println("Sorted ints:  " + Arrays.toString(ints));
+        System.out.println("Sorted longs: " + Arrays.toString(longs));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.arena.sorting.algorithms;
 
 // IMPORT the sorting class
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
 import java.util.Arrays;
 
 public class Bubble extends BigOSort {
@@ -12,16 +13,19 @@ public class Bubble extends BigOSort {
 
     @Override
     public void run(int[] arr) {
-        // ... (Your implementation logic stays the same) ...
+        run(arr, OpCounter.NONE);
+    }
+
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
         int n = arr.length;
         boolean swapped;
         for (int i = 0; i < n - 1; i++) {
             swapped = false;
             for (int j = 0; j < n - i - 1; j++) {
-                if (arr[j] > arr[j + 1]) {
-                    int temp = arr[j];
-                    arr[j] = arr[j + 1];
-                    arr[j + 1] = temp;
+                if (counter.less(counter.read(arr, j + 1), counter.read(arr, j))) {
+                    counter.swap(arr, j, j + 1);
                     swapped = true;
                 }
             }
@@ -29,6 +33,9 @@ public class Bubble extends BigOSort {
         }
     }
 
+    @Override
+    public boolean isInstrumented() { return true; }
+
     @Override
     public String getBestTime() { return "O(n)"; }
 
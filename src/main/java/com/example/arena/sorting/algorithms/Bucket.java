@@ -2,51 +2,108 @@ package com.example.arena.sorting.algorithms;
 
 // 1. Point to the correct Parent package
 import com.example.arena.sorting.BigOSort;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
+import com.example.arena.sorting.OpCounter;
+
+/**
+ * Bucket
+ * Two-pass bucket sort over primitive storage.
+ *
+ * Pass 1 builds a histogram of bucket sizes and turns it into offsets into ONE flat int[] scratch array,
+ * pass 2 scatters every value straight to its slot. No List<List<Integer>>, no boxing, no per-bucket objects.
+ * The bucket count follows the observed min/max (and handles negatives via long offsets); small buckets
+ * are finished with insertion sort, large ones are bucketed again on their own narrower range
+ * (effectively an MSD radix step), so skewed data cannot degrade into one giant bucket.
+ */
 public class Bucket extends BigOSort {
 
+    // Buckets at or below this size are finished with insertion sort
+    private static final int INSERTION_THRESHOLD = 32;
+
+    // Aim for about this many elements per bucket: small enough for insertion sort to be cheap
+    private static final int TARGET_BUCKET_SIZE = 16;
+
     public Bucket() {
         super("Bucket Sort");
     }
 
     @Override
     public void run(int[] arr) {
-        int n = arr.length;
-        if (n <= 0) return;
+        run(arr, OpCounter.NONE);
+    }
 
-        // Step 1: Find Max
-        int maxVal = arr[0];
-        for (int value : arr) {
-            if (value > maxVal) maxVal = value;
-        }
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
+        int n = arr.length;
+        if (n < 2) return;
 
-        // Step 2: Create Buckets
-        int numberOfBuckets = (int) Math.sqrt(n);
-        if (numberOfBuckets == 0) numberOfBuckets = 1;
+        // The single scratch buffer, shared by every level of the recursion
+        int[] scratch = new int[n];
+        sort(arr, scratch, 0, n, counter);
+    }
 
-        List<List<Integer>> buckets = new ArrayList<>(numberOfBuckets);
-        for (int i = 0; i < numberOfBuckets; i++) {
-            buckets.add(new ArrayList<>());
+    // Sorts arr[from, to), using scratch[from, to) as the scatter target
+    private void sort(int[] arr, int[] scratch, int from, int to, OpCounter counter) {
+        int n = to - from;
+        if (n <= INSERTION_THRESHOLD) {
+            Insertion.sortRange(arr, from, to, counter);
+            return;
+        }
+        counter.enter();
+
+        // Step 1: Find Min and Max of this range
+        int minVal = counter.read(arr, from);
+        int maxVal = minVal;
+        for (int i = from + 1; i < to; i++) {
+            int value = counter.read(arr, i);
+            if (counter.less(value, minVal)) minVal = value;
+            else if (counter.less(maxVal, value)) maxVal = value;
+        }
+        if (minVal == maxVal) { // All equal: already sorted
+            counter.exit();
+            return;
         }
 
-        // Step 3: Distribute
-        for (int value : arr) {
-            // Safe casting to prevent overflow before division
-            int bucketIndex = (int) ((long) value * numberOfBuckets / (maxVal + 1));
-            buckets.get(bucketIndex).add(value);
+        // Step 2: Choose the bucket count from the observed range.
+        // Buckets are a power of two wide, so the bucket index is a shift instead of a division.
+        long span = (long) maxVal - minVal; // long: maxVal - minVal can overflow int
+        int wantedBits = 31 - Integer.numberOfLeadingZeros(Math.max(2, n / TARGET_BUCKET_SIZE));
+        int spanBits = 64 - Long.numberOfLeadingZeros(span);
+        int shift = Math.max(0, spanBits - wantedBits);
+        int numberOfBuckets = (int) (span >>> shift) + 1;
+
+        // Step 3: Histogram pass -> bucket start offsets
+        int[] offsets = new int[numberOfBuckets + 1];
+        for (int i = from; i < to; i++) {
+            offsets[(int) (((long) counter.read(arr, i) - minVal) >>> shift) + 1]++;
+        }
+        for (int b = 0; b < numberOfBuckets; b++) {
+            offsets[b + 1] += offsets[b];
         }
 
-        // Step 4: Sort & Merge
-        int index = 0;
-        for (List<Integer> bucket : buckets) {
-            Collections.sort(bucket);
-            for (int value : bucket) {
-                arr[index++] = value;
+        // Step 4: Scatter pass into the flat scratch array, then copy back in bucket order
+        int[] next = new int[numberOfBuckets];
+        System.arraycopy(offsets, 0, next, 0, numberOfBuckets);
+        for (int i = from; i < to; i++) {
+            int value = counter.read(arr, i);
+            counter.write(scratch, from + next[(int) (((long) value - minVal) >>> shift)]++, value);
+        }
+        counter.copy(scratch, from, arr, from, n);
+
+        // Step 5: Sort every bucket in place (insertion sort, or another bucket pass if it is still large)
+        for (int b = 0; b < numberOfBuckets; b++) {
+            int bucketFrom = from + offsets[b];
+            int bucketTo = from + offsets[b + 1];
+            if (bucketTo - bucketFrom > 1) {
+                sort(arr, scratch, bucketFrom, bucketTo, counter);
             }
         }
+        counter.exit();
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return true;
     }
 
     // --- BIG O CONTRACT (Updated to match Parent) ---
@@ -63,7 +120,7 @@ public class Bucket extends BigOSort {
 
     @Override
     public String getWorstTime() {
-        return "O(n^2)";
+        return "O(nk)"; // Oversized buckets recurse on a narrower range: at most ~32 / log2(buckets) levels
     }
 
     @Override
@@ -74,7 +131,7 @@ public class Bucket extends BigOSort {
     // --- TEST RUNNER ---
     public static void main(String[] args) {
         Bucket sorter = new Bucket();
-        int[] input = {29, 25, 3, 49, 9, 37, 21, 43};
+        int[] input = {29, -25, 3, 49, 9, -37, 21, 43};
 
         System.out.println("Running " + sorter.getSortName());
         sorter.run(input);
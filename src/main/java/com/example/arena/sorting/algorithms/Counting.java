@@ -2,53 +2,123 @@ package com.example.arena.sorting.algorithms;
 
 // 1. Point to the correct Parent
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
 import java.util.Arrays;
 
 public class Counting extends BigOSort {
 
-    // 2. Constructor
+    // Counting only while the value range stays within this multiple of n, otherwise Radix is cheaper
+    public static final double DEFAULT_MAX_RANGE_FACTOR = 4.0;
+
+    // One count buffer per thread, grown on demand and left all-zero after every run,
+    // so back-to-back sorts never allocate. Only buffers up to MAX_RETAINED_COUNTS are kept:
+    // a larger range gets a buffer for that run alone, so one 10M sort does not pin 40 MB to the thread for good.
+    private static final ThreadLocal<int[]> COUNT_BUFFER = ThreadLocal.withInitial(() -> new int[0]);
+    private static final int MAX_RETAINED_COUNTS = 1 << 20; // 4 MB per thread
+
+    public enum Path { COUNTING, RADIX_FALLBACK }
+
+    private final double maxRangeFactor;
+    private final BigOSort fallback = new LsdRadix();
+
+    private Path lastPath = Path.COUNTING;
+    private long lastRange;
+
+    // 2. Constructors
     public Counting() {
+        this(DEFAULT_MAX_RANGE_FACTOR);
+    }
+
+    public Counting(double maxRangeFactor) {
         super("Counting Sort");
+        if (maxRangeFactor <= 0) {
+            throw new IllegalArgumentException("maxRangeFactor must be positive: " + maxRangeFactor);
+        }
+        this.maxRangeFactor = maxRangeFactor;
     }
 
     // 3. The Actual Implementation (For Integers)
     @Override
     public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter).
+    // The scan of the count buffer is counted as reads, so the k of O(n + k) shows up in the totals.
+    @Override
+    public void run(int[] arr, OpCounter counter) {
         int n = arr.length;
-        if (n == 0) return;
+        lastPath = Path.COUNTING;
+        lastRange = 0;
+        if (n < 2) return;
+
+        // Step 1: Find min AND max in one pass, so negative values work via an offset
+        int min = counter.read(arr, 0);
+        int max = min;
+        for (int i = 1; i < n; i++) {
+            int v = counter.read(arr, i);
+            if (counter.less(v, min)) min = v;
+            else if (counter.less(max, v)) max = v;
+        }
+        run(arr, min, max, counter);
+    }
 
-        // Step 1: Find the Maximum value to know the range (k)
-        int max = Arrays.stream(arr).max().orElse(0);
-        // Note: Counting sort usually assumes non-negative integers.
-        // If negatives exist, we'd need to find 'min' and use an offset.
+    // Steps 2-4, for a caller that has already walked arr and knows its exact min and max (Smart)
+    void run(int[] arr, int min, int max) {
+        run(arr, min, max, OpCounter.NONE);
+    }
 
-        // Step 2: Create Count Array
-        int[] count = new int[max + 1];
+    void run(int[] arr, int min, int max, OpCounter counter) {
+        int n = arr.length;
+        lastPath = Path.COUNTING;
+
+        // Step 2: Wide range (k >> n)? The count array would dwarf the input, delegate to Radix
+        long range = (long) max - min + 1; // long: Integer.MAX_VALUE - Integer.MIN_VALUE overflows int
+        lastRange = range;
+        if (range > maxRangeFactor * n) {
+            lastPath = Path.RADIX_FALLBACK;
+            fallback.run(arr, counter);
+            return;
+        }
 
-        // Step 3: Store count of each number
+        // Step 3: Store count of each number (offset by min)
+        int k = (int) range;
+        int[] count = COUNT_BUFFER.get();
+        if (count.length < k) {
+            count = new int[k];
+            if (k <= MAX_RETAINED_COUNTS) COUNT_BUFFER.set(count);
+        }
         for (int i = 0; i < n; i++) {
-            count[arr[i]]++;
+            count[counter.read(arr, i) - min]++;
         }
 
-        // Step 4: Calculate Cumulative Count (Prefix Sum)
-        // This allows us to place elements directly into their sorted position.
-        for (int i = 1; i <= max; i++) {
-            count[i] += count[i - 1];
+        // Step 4: Expand the counts straight back into arr. For plain ints equal keys are
+        // indistinguishable, so no prefix sums or output array are needed for stability.
+        // Each counter is reset as it is consumed, leaving the buffer clean for the next run.
+        int index = 0;
+        for (int v = 0; v < k; v++) {
+            int c = counter.read(count, v);
+            if (c != 0) {
+                Arrays.fill(arr, index, index + c, v + min);
+                counter.add(0, 0, c);
+                index += c;
+                count[v] = 0;
+            }
         }
+    }
 
-        // Step 5: Build the Output Array
-        // We iterate backwards to maintain Stability (order of duplicate items).
-        int[] output = new int[n];
-        for (int i = n - 1; i >= 0; i--) {
-            int currentVal = arr[i];
-            int position = count[currentVal] - 1;
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
 
-            output[position] = currentVal;
-            count[currentVal]--; // Decrement count for next duplicate
-        }
+    public Path getLastPath() {
+        return lastPath;
+    }
 
-        // Step 6: Copy Sorted Output back to Original Array
-        System.arraycopy(output, 0, arr, 0, n);
+    @Override
+    public String getLastRunDetails() {
+        return "path=" + lastPath + ", range=" + lastRange + ", limit=" + maxRangeFactor + " x n";
     }
 
     // --- BIG O CONTRACT (Updated to match Parent) ---
@@ -70,13 +140,13 @@ public class Counting extends BigOSort {
 
     @Override
     public String getSpaceComplexity() {
-        return "O(k)"; // We need an array of size 'max'
+        return "O(k)"; // Count array of size max - min + 1 (at most maxRangeFactor * n, else Radix)
     }
 
     // --- TEST RUNNER ---
     public static void main(String[] args) {
         Counting sorter = new Counting();
-        int[] input = {4, 2, 2, 8, 3, 3, 1};
+        int[] input = {4, 2, -2, 8, 3, 3, -1};
 
         System.out.println("Running " + sorter.getSortName());
         System.out.println("Original: " + Arrays.toString(input));
@@ -84,5 +154,6 @@ public class Counting extends BigOSort {
         sorter.run(input);
 
         System.out.println("Sorted:   " + Arrays.toString(input));
+        System.out.println("Details:  " + sorter.getLastRunDetails());
     }
 }
\ No newline at end of file
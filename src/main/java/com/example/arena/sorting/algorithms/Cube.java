@@ -1,26 +1,50 @@
 package com.example.arena.sorting.algorithms;
 
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
+import com.example.arena.sorting.smallsort.SmallSort;
+import com.example.arena.sorting.smallsort.SmallSorts;
 import java.util.Arrays;
 
 public class Cube extends BigOSort {
 
-    // 1. Constructor
+    // Blocks of leaves.maxLength() are sorted first and the merge passes start from that width
+    private final SmallSort leaves;
+
+    // 1. Constructors
     public Cube() {
         super("Cube Sort (Simulated as Merge Sort)");
+        this.leaves = SmallSorts.NONE;
+    }
+
+    public Cube(SmallSort leaves) {
+        super("Cube Sort (Simulated as Merge Sort, " + leaves.getName() + " leaves)");
+        this.leaves = leaves;
     }
 
     // 2. Logic: Implementing Bottom-Up Merge Sort
     // (This fits the O(n log n) profile and O(n) space complexity you defined)
     @Override
     public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
         int n = arr.length;
         if (n < 2) return;
 
         int[] temp = new int[n];
 
-        // Width of the sub-arrays to merge: 1, 2, 4, 8...
-        for (int width = 1; width < n; width *= 2) {
+        // Leaf blocks (width 1 with SmallSorts.NONE: single elements, nothing to do)
+        int leafWidth = leaves.maxLength();
+        for (int i = 0; i < n; i += leafWidth) {
+            leaves.sort(arr, i, Math.min(i + leafWidth, n), counter);
+        }
+
+        // Width of the sub-arrays to merge: leafWidth, 2 * leafWidth, 4 * leafWidth...
+        for (int width = leafWidth; width < n; width *= 2) {
 
             // Merge subarrays in pairs
             for (int i = 0; i < n; i += 2 * width) {
@@ -28,37 +52,46 @@ public class Cube extends BigOSort {
                 int mid = Math.min(i + width, n);
                 int right = Math.min(i + 2 * width, n);
 
-                merge(arr, temp, left, mid, right);
+                merge(arr, temp, left, mid, right, counter);
             }
 
             // Copy sorted temp back to arr for next pass
-            System.arraycopy(temp, 0, arr, 0, n);
+            counter.copy(temp, 0, arr, 0, n);
         }
     }
 
     // Standard Merge Helper
-    private void merge(int[] arr, int[] temp, int left, int mid, int right) {
+    private void merge(int[] arr, int[] temp, int left, int mid, int right, OpCounter counter) {
         int i = left;   // Left subarray index
         int j = mid;    // Right subarray index
         int k = left;   // Temp array index
 
         while (i < mid && j < right) {
-            if (arr[i] <= arr[j]) {
-                temp[k++] = arr[i++];
+            int a = counter.read(arr, i);
+            int b = counter.read(arr, j);
+            if (!counter.less(b, a)) {
+                counter.write(temp, k++, a);
+                i++;
             } else {
-                temp[k++] = arr[j++];
+                counter.write(temp, k++, b);
+                j++;
             }
         }
 
-        while (i < mid)   temp[k++] = arr[i++];
-        while (j < right) temp[k++] = arr[j++];
+        while (i < mid)   counter.write(temp, k++, counter.read(arr, i++));
+        while (j < right) counter.write(temp, k++, counter.read(arr, j++));
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return true;
     }
 
     // --- BIG O CONTRACT (Updated names) ---
 
     @Override
     public String getBestTime() {
-        return "O(n)"; // (If optimized check is added, typically O(n log n))
+        return "O(n log n)"; // Bottom-up passes never skip, even on sorted input
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.example.arena.sorting.algorithms;
 
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
 import java.util.Arrays;
 
 public class Heap extends BigOSort {
@@ -12,51 +13,91 @@ public class Heap extends BigOSort {
 
     @Override
     public void run(int[] arr) {
-        int n = arr.length;
+        sortRange(arr, 0, arr.length, OpCounter.NONE);
+    }
+
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
+        sortRange(arr, 0, arr.length, counter);
+    }
+
+    /**
+     * Heap sort of arr[from, to) only.
+     * Also the worst-case fallback of Intro Sort and IntSelect, which need to sort a sub-range in place.
+     */
+    public static void sortRange(int[] arr, int from, int to) {
+        sortRange(arr, from, to, OpCounter.NONE);
+    }
+
+    // Same, recording the work in the counter of Intro Sort's own run(int[], OpCounter)
+    public static void sortRange(int[] arr, int from, int to, OpCounter counter) {
+        int n = to - from;
 
         // Step 1: Build heap (rearrange array)
         // Start from the last non-leaf node and heapify down
         for (int i = n / 2 - 1; i >= 0; i--)
-            heapify(arr, n, i);
+            heapify(arr, from, n, i, counter);
 
         // Step 2: One by one extract an element from heap
         for (int i = n - 1; i > 0; i--) {
             // Move current root (Maximum value) to the end
-            int temp = arr[0];
-            arr[0] = arr[i];
-            arr[i] = temp;
+            counter.swap(arr, from, from + i);
 
             // Call max heapify on the reduced heap
-            heapify(arr, i, 0);
+            heapify(arr, from, i, 0, counter);
+        }
+    }
+
+    /**
+     * Partial heap sort: stops after k extractions, so only the k largest elements end up sorted,
+     * ascending in arr[n - k, n); the rest of arr is left in heap order. O(n + k log n).
+     */
+    public static void sortLargest(int[] arr, int k) {
+        int n = arr.length;
+        if (k < 0 || k > n) throw new IllegalArgumentException("k must be in [0, " + n + "]: " + k);
+
+        for (int i = n / 2 - 1; i >= 0; i--)
+            heapify(arr, 0, n, i, OpCounter.NONE);
+
+        for (int i = n - 1; i >= n - k && i > 0; i--) {
+            OpCounter.NONE.swap(arr, 0, i);
+            heapify(arr, 0, i, 0, OpCounter.NONE);
         }
     }
 
     // Helper: To heapify a subtree rooted with node i
-    // n is size of heap
-    private void heapify(int[] arr, int n, int i) {
-        int largest = i;    // Initialize largest as root
-        int l = 2 * i + 1;  // left = 2*i + 1
-        int r = 2 * i + 2;  // right = 2*i + 2
-
-        // If left child is larger than root
-        if (l < n && arr[l] > arr[largest])
-            largest = l;
-
-        // If right child is larger than largest so far
-        if (r < n && arr[r] > arr[largest])
-            largest = r;
-
-        // If largest is not root
-        if (largest != i) {
-            int swap = arr[i];
-            arr[i] = arr[largest];
-            arr[largest] = swap;
-
-            // Recursively heapify the affected sub-tree
-            heapify(arr, n, largest);
+    // n is size of heap, 'base' is where the heap starts inside arr
+    // Iterative sift-down: same steps as the recursive version, without the call stack
+    private static void heapify(int[] arr, int base, int n, int i, OpCounter counter) {
+        while (true) {
+            int largest = i;    // Initialize largest as root
+            int l = 2 * i + 1;  // left = 2*i + 1
+            int r = 2 * i + 2;  // right = 2*i + 2
+
+            // If left child is larger than root
+            if (l < n && counter.less(counter.read(arr, base + largest), counter.read(arr, base + l)))
+                largest = l;
+
+            // If right child is larger than largest so far
+            if (r < n && counter.less(counter.read(arr, base + largest), counter.read(arr, base + r)))
+                largest = r;
+
+            // If largest is root, the subtree is a heap again
+            if (largest == i) return;
+
+            counter.swap(arr, base + i, base + largest);
+
+            // Continue with the affected sub-tree
+            i = largest;
         }
     }
 
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
+
     // --- BIG O CONTRACT (Updated to match Parent) ---
 
     @Override
@@ -1,6 +1,7 @@
 package com.example.arena.sorting.algorithms;
 
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
 import java.util.Arrays;
 
 public class Insertion extends BigOSort {
@@ -13,24 +14,46 @@ public class Insertion extends BigOSort {
     // 2. Logic (Standard Java Syntax int[] arr)
     @Override
     public void run(int[] arr) {
-        int n = arr.length;
+        sortRange(arr, 0, arr.length, OpCounter.NONE);
+    }
 
-        // Start from the second element (Index 1)
-        for (int i = 1; i < n; ++i) {
-            int key = arr[i];
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
+        sortRange(arr, 0, arr.length, counter);
+    }
+
+    /**
+     * Insertion sort of arr[from, to) only.
+     * Shared base case for the hybrid sorts (Intro, ParallelMerge, ...): on tiny ranges nothing beats it.
+     */
+    public static void sortRange(int[] arr, int from, int to) {
+        sortRange(arr, from, to, OpCounter.NONE);
+    }
+
+    // Same, recording the work in the counter of the hybrid's own run(int[], OpCounter)
+    public static void sortRange(int[] arr, int from, int to, OpCounter counter) {
+        // Start from the second element
+        for (int i = from + 1; i < to; ++i) {
+            int key = counter.read(arr, i);
             int j = i - 1;
 
-            /* Move elements of arr[0..i-1], that are
+            /* Move elements of arr[from..i-1], that are
                greater than key, to one position ahead
                of their current position */
-            while (j >= 0 && arr[j] > key) {
-                arr[j + 1] = arr[j];
+            while (j >= from && counter.less(key, counter.read(arr, j))) {
+                counter.write(arr, j + 1, counter.read(arr, j));
                 j = j - 1;
             }
-            arr[j + 1] = key;
+            counter.write(arr, j + 1, key);
         }
     }
 
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
+
     // --- BIG O CONTRACT (Updated to match Parent) ---
 
     @Override
@@ -0,0 +1,191 @@
+package com.example.arena.sorting.algorithms;
+
+import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
+import com.example.arena.sorting.smallsort.SmallSort;
+import com.example.arena.sorting.smallsort.SmallSorts;
+
+import java.util.Arrays;
+
+/**
+ * Intro
+ * The production-grade Quick Sort.
+ *
+ * Fixes every failure mode of {@link Quick}:
+ * - Sorted / reversed input:  median-of-three (ninther on large ranges) instead of arr[high] as pivot.
+ * - Many duplicates:          Bentley-McIlroy 3-way partitioning, equal keys are never touched again.
+ * - Adversarial input:        after 2*log2(n) levels the range is finished with Heap Sort (O(n log n) worst case).
+ * - Stack overflow:           recurse into the smaller side only and loop on the larger one (O(log n) stack).
+ * - Tiny ranges:              insertion sort below INSERTION_THRESHOLD, or any {@link SmallSort} kernel.
+ */
+public class Intro extends BigOSort {
+
+    // Ranges this small are faster with insertion sort than with another partition
+    private static final int INSERTION_THRESHOLD = 24;
+
+    // Ranges this large get a ninther (median of three medians) instead of a plain median-of-three
+    private static final int NINTHER_THRESHOLD = 128;
+
+    // Base case: ranges up to leaves.maxLength() skip partitioning
+    private final SmallSort leaves;
+
+    // 1. Constructors
+    public Intro() {
+        super("Intro Sort (Quick + Heap fallback)");
+        this.leaves = SmallSorts.insertion(INSERTION_THRESHOLD);
+    }
+
+    public Intro(SmallSort leaves) {
+        super("Intro Sort (Quick + Heap fallback, " + leaves.getName() + " leaves)");
+        this.leaves = leaves;
+    }
+
+    // 2. Main Entry Point
+    @Override
+    public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
+        int n = arr.length;
+        if (n < 2) return;
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(n)); // 2 * floor(log2(n))
+        sort(arr, 0, n - 1, depthLimit, counter);
+    }
+
+    /*
+     * Sorts arr[low..high] (inclusive).
+     * Only the smaller partition is recursed into; the larger one is handled by the loop,
+     * so the stack never grows beyond log2(n) frames.
+     */
+    private void sort(int[] arr, int low, int high, int depthLimit, OpCounter counter) {
+        counter.enter();
+        while (high - low + 1 > leaves.maxLength()) {
+            if (depthLimit-- == 0) {
+                // Too many unbalanced partitions: this input is hostile to Quick Sort
+                Heap.sortRange(arr, low, high + 1, counter);
+                counter.exit();
+                return;
+            }
+
+            counter.swap(arr, low, choosePivot(arr, low, high, counter));
+            long bounds = partition3(arr, low, high, counter);
+            int lt = (int) (bounds >>> 32);  // last index of the "< pivot" block
+            int gt = (int) bounds;           // first index of the "> pivot" block
+
+            if (lt - low < high - gt) {
+                sort(arr, low, lt, depthLimit, counter);
+                low = gt;
+            } else {
+                sort(arr, gt, high, depthLimit, counter);
+                high = lt;
+            }
+        }
+        leaves.sort(arr, low, high + 1, counter);
+        counter.exit();
+    }
+
+    // --- PIVOT SELECTION ---
+
+    private static int choosePivot(int[] arr, int low, int high, OpCounter counter) {
+        int mid = low + ((high - low) >>> 1);
+        if (high - low + 1 < NINTHER_THRESHOLD) {
+            return medianOfThree(arr, low, mid, high, counter);
+        }
+        // Tukey's ninther: median of the medians of three spread-out triples
+        int step = (high - low + 1) >>> 3;
+        int m1 = medianOfThree(arr, low, low + step, low + 2 * step, counter);
+        int m2 = medianOfThree(arr, mid - step, mid, mid + step, counter);
+        int m3 = medianOfThree(arr, high - 2 * step, high - step, high, counter);
+        return medianOfThree(arr, m1, m2, m3, counter);
+    }
+
+    // Index of the median of arr[a], arr[b], arr[c]
+    private static int medianOfThree(int[] arr, int a, int b, int c, OpCounter counter) {
+        int x = counter.read(arr, a);
+        int y = counter.read(arr, b);
+        int z = counter.read(arr, c);
+        return counter.less(x, y)
+                ? (counter.less(y, z) ? b : counter.less(x, z) ? c : a)
+                : (counter.less(z, y) ? b : counter.less(z, x) ? c : a);
+    }
+
+    // --- PARTITIONING ---
+
+    /*
+     * Bentley-McIlroy 3-way partition around the pivot at arr[low].
+     * Keys equal to the pivot are parked at both ends while scanning, then swapped into the middle:
+     *   [low..lt] < pivot,  [lt+1..gt-1] == pivot,  [gt..high] > pivot
+     * Returns lt and gt packed into one long, to avoid allocating a result object per partition.
+     */
+    private static long partition3(int[] arr, int low, int high, OpCounter counter) {
+        int pivot = counter.read(arr, low);
+        int i = low, j = high + 1;
+        int p = low, q = high + 1;
+
+        while (true) {
+            while (counter.less(counter.read(arr, ++i), pivot)) {
+                if (i == high) break;
+            }
+            while (counter.less(pivot, counter.read(arr, --j))) {
+                if (j == low) break;
+            }
+
+            // Pointers crossed on an equal key: park it on the left
+            if (i == j && counter.equal(counter.read(arr, i), pivot)) counter.swap(arr, ++p, i);
+            if (i >= j) break;
+
+            counter.swap(arr, i, j);
+            if (counter.equal(counter.read(arr, i), pivot)) counter.swap(arr, ++p, i);
+            if (counter.equal(counter.read(arr, j), pivot)) counter.swap(arr, --q, j);
+        }
+
+        // Move the parked equal keys from both ends into the middle
+        i = j + 1;
+        for (int k = low; k <= p; k++) counter.swap(arr, k, j--);
+        for (int k = high; k >= q; k--) counter.swap(arr, k, i++);
+
+        return ((long) j << 32) | (i & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
+
+    // --- BIG O CONTRACT ---
+
+    @Override
+    public String getBestTime() {
+        return "O(n)"; // All keys equal: a single 3-way partition finishes the job
+    }
+
+    @Override
+    public String getAverageTime() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getWorstTime() {
+        return "O(n log n)"; // Heap Sort takes over past the depth limit
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(log n)"; // Recursion only into the smaller side
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        Intro sorter = new Intro();
+        int[] input = {10, 7, 8, 9, 1, 5, 7, 7, 3, 10};
+
+        System.out.println(sorter.bigOContract());
+        System.out.println();
+
+        sorter.run(input);
+        System.out.println("Sorted: " + Arrays.toString(input));
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.arena.sorting.algorithms;
+
+import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.KeyType;
+import com.example.arena.sorting.OpCounter;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * LsdRadix
+ * Byte-wise (base 256) LSD radix sort for the full 32-bit int range.
+ *
+ * Compared to the classic base-10 {@link Radix}:
+ * - 4 fixed passes of shifts and masks instead of up to 10 passes of division and modulo.
+ * - The sign bit is flipped while extracting the top byte, so negatives sort before positives.
+ * - All four histograms are built in ONE read pass (optionally split across the ForkJoin pool).
+ * - A pass whose byte is identical for every element is skipped (small ranges often need only 1-2 passes).
+ * - One scratch buffer for the whole sort; source and destination swap roles after each pass.
+ *
+ * The same passes sort long[] (8 bytes), double[] / float[] (IEEE bits mapped to an order-preserving
+ * unsigned key, same order as Arrays.sort: -0.0 before 0.0, NaN last) and produce argsort permutations
+ * (LSD is stable, so moving indices instead of keys is exact).
+ */
+public class LsdRadix extends BigOSort {
+
+    private static final int RADIX = 256;
+    private static final int PASSES = 4;
+    private static final int LONG_PASSES = 8;
+
+    // Splitting the histogram pass only pays off once every worker gets a decent chunk
+    private static final int PARALLEL_HISTOGRAM_THRESHOLD = 1 << 16;
+
+    private final boolean parallelHistograms;
+
+    // 1. Constructors
+    public LsdRadix() {
+        this(false);
+    }
+
+    public LsdRadix(boolean parallelHistograms) {
+        super(parallelHistograms ? "LSD Radix Sort (Base 256, Parallel Histograms)" : "LSD Radix Sort (Base 256)");
+        this.parallelHistograms = parallelHistograms;
+    }
+
+    // 2. Logic
+    @Override
+    public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // No comparisons: one read per element for the histograms, then a read and a write per element per pass.
+    // The passes are counted in bulk, see BigOSort.run(int[], OpCounter), so the hot loops stay plain array code
+    // and the parallel histogram needs no thread-safe counter.
+    @Override
+    public void run(int[] arr, OpCounter counter) {
+        int n = arr.length;
+        if (n < 2) return;
+
+        // Step 1: Histogram of every byte position, flattened as [pass * 256 + byteValue]
+        int[] counts = parallelHistograms && n >= PARALLEL_HISTOGRAM_THRESHOLD
+                ? ForkJoinPool.commonPool().invoke(new HistogramTask(arr, 0, n))
+                : histogram(arr, 0, n);
+        counter.add(0, n, 0);
+
+        // Step 2: One scatter pass per byte, least significant first
+        int[] src = arr;
+        int[] dst = null;
+        for (int pass = 0; pass < PASSES; pass++) {
+            int base = pass * RADIX;
+            int shift = pass * 8;
+
+            // Every element has the same byte here: the pass would be an identity permutation
+            if (counts[base + digit(arr[0], shift)] == n) continue;
+
+            if (dst == null) dst = new int[n]; // the single scratch buffer
+
+            // Exclusive prefix sum turns counts into starting offsets
+            toOffsets(counts, base);
+
+            for (int i = 0; i < n; i++) {
+                int v = src[i];
+                dst[counts[base + digit(v, shift)]++] = v;
+            }
+            counter.add(0, n, n);
+
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+
+        // Step 3: After an odd number of executed passes the result sits in the scratch buffer
+        if (src != arr) {
+            counter.copy(src, 0, arr, 0, n);
+        }
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
+
+    // --- OTHER KEY TYPES ---
+
+    @Override
+    public Set<KeyType> getSupportedKeyTypes() {
+        return EnumSet.of(KeyType.INT, KeyType.LONG, KeyType.DOUBLE, KeyType.FLOAT, KeyType.INDEX);
+    }
+
+    @Override
+    public void run(long[] arr) {
+        int n = arr.length;
+        if (n < 2) return;
+
+        int[] counts = new int[LONG_PASSES * RADIX];
+        for (long v : arr) {
+            for (int pass = 0; pass < LONG_PASSES; pass++) {
+                counts[pass * RADIX + longDigit(v, pass * 8)]++;
+            }
+        }
+
+        long[] src = arr;
+        long[] dst = null;
+        for (int pass = 0; pass < LONG_PASSES; pass++) {
+            int base = pass * RADIX;
+            int shift = pass * 8;
+            if (counts[base + longDigit(arr[0], shift)] == n) continue;
+
+            if (dst == null) dst = new long[n];
+            toOffsets(counts, base);
+            for (int i = 0; i < n; i++) {
+                long v = src[i];
+                dst[counts[base + longDigit(v, shift)]++] = v;
+            }
+            long[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        if (src != arr) System.arraycopy(src, 0, arr, 0, n);
+    }
+
+    @Override
+    public void run(double[] arr) {
+        int n = arr.length;
+        if (n < 2) return;
+
+        int[] counts = new int[LONG_PASSES * RADIX];
+        for (double v : arr) {
+            long key = sortableBits(v);
+            for (int pass = 0; pass < LONG_PASSES; pass++) {
+                counts[pass * RADIX + (int) ((key >>> (pass * 8)) & 0xFF)]++;
+            }
+        }
+
+        double[] src = arr;
+        double[] dst = null;
+        for (int pass = 0; pass < LONG_PASSES; pass++) {
+            int base = pass * RADIX;
+            int shift = pass * 8;
+            if (counts[base + (int) ((sortableBits(arr[0]) >>> shift) & 0xFF)] == n) continue;
+
+            if (dst == null) dst = new double[n];
+            toOffsets(counts, base);
+            for (int i = 0; i < n; i++) {
+                double v = src[i];
+                dst[counts[base + (int) ((sortableBits(v) >>> shift) & 0xFF)]++] = v;
+            }
+            double[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        if (src != arr) System.arraycopy(src, 0, arr, 0, n);
+    }
+
+    @Override
+    public void run(float[] arr) {
+        int n = arr.length;
+        if (n < 2) return;
+
+        int[] counts = new int[PASSES * RADIX];
+        for (float v : arr) {
+            int key = sortableBits(v);
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass * RADIX + ((key >>> (pass * 8)) & 0xFF)]++;
+            }
+        }
+
+        float[] src = arr;
+        float[] dst = null;
+        for (int pass = 0; pass < PASSES; pass++) {
+            int base = pass * RADIX;
+            int shift = pass * 8;
+            if (counts[base + ((sortableBits(arr[0]) >>> shift) & 0xFF)] == n) continue;
+
+            if (dst == null) dst = new float[n];
+            toOffsets(counts, base);
+            for (int i = 0; i < n; i++) {
+                float v = src[i];
+                dst[counts[base + ((sortableBits(v) >>> shift) & 0xFF)]++] = v;
+            }
+            float[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        if (src != arr) System.arraycopy(src, 0, arr, 0, n);
+    }
+
+    // Same passes over int keys, but the values being scattered are indices into 'keys'
+    @Override
+    public int[] argsort(int[] keys) {
+        int n = keys.length;
+        int[] src = new int[n];
+        for (int i = 0; i < n; i++) src[i] = i;
+        if (n < 2) return src;
+
+        int[] counts = histogram(keys, 0, n);
+        int[] dst = null;
+        for (int pass = 0; pass < PASSES; pass++) {
+            int base = pass * RADIX;
+            int shift = pass * 8;
+            if (counts[base + digit(keys[0], shift)] == n) continue;
+
+            if (dst == null) dst = new int[n];
+            toOffsets(counts, base);
+            for (int i = 0; i < n; i++) {
+                int index = src[i];
+                dst[counts[base + digit(keys[index], shift)]++] = index;
+            }
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        return src;
+    }
+
+    // Exclusive prefix sum over one pass's 256 counters
+    private static void toOffsets(int[] counts, int base) {
+        int sum = 0;
+        for (int b = base; b < base + RADIX; b++) {
+            int c = counts[b];
+            counts[b] = sum;
+            sum += c;
+        }
+    }
+
+    private static int longDigit(long v, int shift) {
+        return (int) (((v ^ Long.MIN_VALUE) >>> shift) & 0xFF);
+    }
+
+    // IEEE 754 -> unsigned order: flip all bits of negatives, only the sign bit of positives.
+    // doubleToLongBits (not the raw variant) collapses every NaN into one positive NaN, which sorts last.
+    private static long sortableBits(double v) {
+        long bits = Double.doubleToLongBits(v);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    private static int sortableBits(float v) {
+        int bits = Float.floatToIntBits(v);
+        return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+    }
+
+    // Byte 'shift/8' of v, with the sign bit flipped so that the int order matches the unsigned byte order
+    private static int digit(int v, int shift) {
+        return ((v ^ Integer.MIN_VALUE) >>> shift) & 0xFF;
+    }
+
+    private static int[] histogram(int[] arr, int from, int to) {
+        int[] counts = new int[PASSES * RADIX];
+        for (int i = from; i < to; i++) {
+            int key = arr[i] ^ Integer.MIN_VALUE;
+            counts[key & 0xFF]++;
+            counts[RADIX + ((key >>> 8) & 0xFF)]++;
+            counts[2 * RADIX + ((key >>> 16) & 0xFF)]++;
+            counts[3 * RADIX + (key >>> 24)]++;
+        }
+        return counts;
+    }
+
+    // Splits the histogram pass in halves until chunks are small, then sums the partial histograms
+    @SuppressWarnings("serial")
+    private static final class HistogramTask extends RecursiveTask<int[]> {
+        private final int[] arr;
+        private final int from, to;
+
+        HistogramTask(int[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= PARALLEL_HISTOGRAM_THRESHOLD) {
+                return histogram(arr, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            HistogramTask right = new HistogramTask(arr, mid, to);
+            right.fork();
+            int[] counts = new HistogramTask(arr, from, mid).compute();
+            int[] other = right.join();
+            for (int b = 0; b < counts.length; b++) {
+                counts[b] += other[b];
+            }
+            return counts;
+        }
+    }
+
+    // --- BIG O CONTRACT ---
+
+    @Override
+    public String getBestTime() {
+        return "O(nk)"; // k = 4 byte passes at most, fewer when the high bytes are constant
+    }
+
+    @Override
+    public String getAverageTime() {
+        return "O(nk)";
+    }
+
+    @Override
+    public String getWorstTime() {
+        return "O(nk)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n + k)"; // One scratch buffer + (4 or 8) x 256 counters
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        LsdRadix sorter = new LsdRadix();
+        // Unlike the base-10 Radix, negatives and Integer.MIN_VALUE / MAX_VALUE are fine
+        int[] input = {170, -45, 75, -90, 802, 24, Integer.MIN_VALUE, 2, Integer.MAX_VALUE, 66};
+
+        System.out.println("Running " + sorter.getSortName());
+        sorter.run(input);
+
+        System.out.println("Sorted: " + Arrays.toString(input));
+    }
+}
@@ -1,44 +1,72 @@
 package com.example.arena.sorting.algorithms;
 
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
+import com.example.arena.sorting.KeyType;
+import com.example.arena.sorting.smallsort.SmallSort;
+import com.example.arena.sorting.smallsort.SmallSorts;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Set;
 
 public class Merge extends BigOSort {
 
-    // 1. Constructor
+    // Base case of the int[] sort: ranges up to leaves.maxLength() (SmallSorts.NONE: single elements)
+    private final SmallSort leaves;
+
+    // 1. Constructors
     public Merge() {
         super("Merge Sort");
+        this.leaves = SmallSorts.NONE;
+    }
+
+    public Merge(SmallSort leaves) {
+        super("Merge Sort (" + leaves.getName() + " leaves)");
+        this.leaves = leaves;
     }
 
     // 2. Main Entry Point (Called by Test Runner)
     @Override
     public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
         if (arr.length > 1) {
             // Kick off recursive sort from index 0 to end
-            sort(arr, 0, arr.length - 1);
+            sort(arr, 0, arr.length - 1, counter);
         }
     }
 
     // Helper: Recursive Sort Function
-    private void sort(int[] arr, int l, int r) {
-        if (l < r) {
+    private void sort(int[] arr, int l, int r, OpCounter counter) {
+        counter.enter();
+
+        // Short ranges are finished by the leaf kernel
+        if (r - l + 1 <= leaves.maxLength()) {
+            leaves.sort(arr, l, r + 1, counter);
+        } else {
             // Find the middle point
             // Optimization: Use (l + (r - l) / 2) to avoid integer overflow for huge arrays
             int m = l + (r - l) / 2;
 
             // Sort first and second halves
-            sort(arr, l, m);
-            sort(arr, m + 1, r);
+            sort(arr, l, m, counter);
+            sort(arr, m + 1, r, counter);
 
             // Merge the sorted halves
-            merge(arr, l, m, r);
+            merge(arr, l, m, r, counter);
         }
+        counter.exit();
     }
 
     // Helper: Merges two subarrays of arr[]
     // First subarray is arr[l..m]
     // Second subarray is arr[m+1..r]
-    private void merge(int[] arr, int l, int m, int r) {
+    private void merge(int[] arr, int l, int m, int r, OpCounter counter) {
         // Find sizes of two subarrays to be merged
         int n1 = m - l + 1;
         int n2 = r - m;
@@ -48,10 +76,8 @@ public class Merge extends BigOSort {
         int[] R = new int[n2];
 
         /* Copy data to temp arrays */
-        for (int i = 0; i < n1; ++i)
-            L[i] = arr[l + i];
-        for (int j = 0; j < n2; ++j)
-            R[j] = arr[m + 1 + j];
+        counter.copy(arr, l, L, 0, n1);
+        counter.copy(arr, m + 1, R, 0, n2);
 
         /* Merge the temp arrays */
         int i = 0, j = 0;
@@ -59,29 +85,92 @@ public class Merge extends BigOSort {
         // Initial index of merged subarray array
         int k = l;
         while (i < n1 && j < n2) {
-            if (L[i] <= R[j]) {
-                arr[k] = L[i];
+            int left = counter.read(L, i);
+            int right = counter.read(R, j);
+            if (!counter.less(right, left)) {
+                counter.write(arr, k, left);
                 i++;
             } else {
-                arr[k] = R[j];
+                counter.write(arr, k, right);
                 j++;
             }
             k++;
         }
 
-        /* Copy remaining elements of L[] if any */
-        while (i < n1) {
-            arr[k] = L[i];
-            i++;
-            k++;
+        /* Copy remaining elements of L[] and R[] if any */
+        counter.copy(L, i, arr, k, n1 - i);
+        counter.copy(R, j, arr, k + n1 - i, n2 - j);
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
+
+    // --- OTHER KEY TYPES ---
+    // Merge Sort is stable, which makes it the natural choice for records and index sorts.
+
+    @Override
+    public Set<KeyType> getSupportedKeyTypes() {
+        return EnumSet.of(KeyType.INT, KeyType.OBJECT, KeyType.INDEX);
+    }
+
+    @Override
+    public <T> void run(T[] arr, Comparator<? super T> comparator) {
+        if (arr.length > 1) {
+            // One auxiliary array for the whole sort instead of L[] / R[] per merge
+            T[] aux = arr.clone();
+            sort(arr, aux, 0, arr.length, comparator);
         }
+    }
 
-        /* Copy remaining elements of R[] if any */
-        while (j < n2) {
-            arr[k] = R[j];
-            j++;
-            k++;
+    // Sorts arr[lo, hi) using aux as scratch
+    private <T> void sort(T[] arr, T[] aux, int lo, int hi, Comparator<? super T> comparator) {
+        if (hi - lo < 2) return;
+        int mid = (lo + hi) >>> 1;
+        sort(arr, aux, lo, mid, comparator);
+        sort(arr, aux, mid, hi, comparator);
+
+        // Halves already in order: nothing to merge
+        if (comparator.compare(arr[mid - 1], arr[mid]) <= 0) return;
+
+        System.arraycopy(arr, lo, aux, lo, hi - lo);
+        int i = lo, j = mid, k = lo;
+        while (i < mid && j < hi) {
+            // '<=' keeps equal elements in input order (stability)
+            arr[k++] = comparator.compare(aux[i], aux[j]) <= 0 ? aux[i++] : aux[j++];
+        }
+        while (i < mid) arr[k++] = aux[i++];
+        while (j < hi) arr[k++] = aux[j++];
+    }
+
+    @Override
+    public int[] argsort(int[] keys) {
+        int n = keys.length;
+        int[] permutation = new int[n];
+        for (int i = 0; i < n; i++) permutation[i] = i;
+        if (n > 1) {
+            sortIndices(keys, permutation, new int[n], 0, n);
+        }
+        return permutation;
+    }
+
+    // Same merge as above, but the elements being moved are indices into 'keys'
+    private void sortIndices(int[] keys, int[] idx, int[] aux, int lo, int hi) {
+        if (hi - lo < 2) return;
+        int mid = (lo + hi) >>> 1;
+        sortIndices(keys, idx, aux, lo, mid);
+        sortIndices(keys, idx, aux, mid, hi);
+
+        if (keys[idx[mid - 1]] <= keys[idx[mid]]) return;
+
+        System.arraycopy(idx, lo, aux, lo, hi - lo);
+        int i = lo, j = mid, k = lo;
+        while (i < mid && j < hi) {
+            idx[k++] = keys[aux[i]] <= keys[aux[j]] ? aux[i++] : aux[j++];
         }
+        while (i < mid) idx[k++] = aux[i++];
+        while (j < hi) idx[k++] = aux[j++];
     }
 
     // --- BIG O CONTRACT (Updated to match Parent) ---
@@ -0,0 +1,218 @@
+package com.example.arena.sorting.algorithms;
+
+import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelMerge extends BigOSort {
+
+    // Below this many elements a task stops forking and sorts sequentially
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 8_192;
+
+    // Below this many elements the sequential recursion hands over to insertion sort
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private final int sequentialCutoff;
+    private final ForkJoinPool pool;
+
+    // 1. Constructors
+    public ParallelMerge() {
+        this(DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    public ParallelMerge(int sequentialCutoff) {
+        this(sequentialCutoff, ForkJoinPool.commonPool());
+    }
+
+    public ParallelMerge(int sequentialCutoff, ForkJoinPool pool) {
+        super("Parallel Merge Sort (Fork/Join)");
+        if (sequentialCutoff < INSERTION_THRESHOLD) {
+            throw new IllegalArgumentException("sequentialCutoff must be >= " + INSERTION_THRESHOLD + ": " + sequentialCutoff);
+        }
+        this.sequentialCutoff = sequentialCutoff;
+        this.pool = pool;
+    }
+
+    public int getSequentialCutoff() {
+        return sequentialCutoff;
+    }
+
+    // 2. Logic
+    // One scratch buffer for the whole sort. Both arrays start with identical contents and every
+    // recursion level swaps their roles ("ping-pong"), so no merge ever allocates or copies back.
+    @Override
+    public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter).
+    // A counted run takes the sequential path (OpCounter is not thread-safe): same counts, not the same wall time.
+    @Override
+    public void run(int[] arr, OpCounter counter) {
+        int n = arr.length;
+        if (n < 2) return;
+
+        int[] buffer = Arrays.copyOf(arr, n);
+        counter.add(0, n, n);
+        if (n <= sequentialCutoff || counter.isCounting()) {
+            sortSequential(buffer, arr, 0, n, counter);
+        } else {
+            pool.invoke(new SortTask(buffer, arr, 0, n));
+        }
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
+
+    // Sorts src[lo, hi) into dst[lo, hi). Precondition: both hold the same elements in that range.
+    private static void sortSequential(int[] src, int[] dst, int lo, int hi, OpCounter counter) {
+        if (hi - lo <= INSERTION_THRESHOLD) {
+            Insertion.sortRange(dst, lo, hi, counter);
+            return;
+        }
+        counter.enter();
+        int mid = (lo + hi) >>> 1;
+        sortSequential(dst, src, lo, mid, counter);
+        sortSequential(dst, src, mid, hi, counter);
+        mergeSequential(src, lo, mid, mid, hi, dst, lo, counter);
+        counter.exit();
+    }
+
+    // Standard two-way merge of src[lo1, hi1) and src[lo2, hi2) into dst starting at 'out'
+    private static void mergeSequential(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out,
+                                        OpCounter counter) {
+        // Already in order (common on presorted input): a straight copy beats a merge
+        if (hi1 == lo2 && lo1 < hi1 && lo2 < hi2
+                && !counter.less(counter.read(src, lo2), counter.read(src, hi1 - 1))) {
+            counter.copy(src, lo1, dst, out, hi2 - lo1);
+            return;
+        }
+        int i = lo1, j = lo2, k = out;
+        while (i < hi1 && j < hi2) {
+            int left = counter.read(src, i);
+            int right = counter.read(src, j);
+            boolean takeLeft = !counter.less(right, left); // ties go left: stable
+            counter.write(dst, k++, takeLeft ? left : right);
+            i += takeLeft ? 1 : 0;
+            j += takeLeft ? 0 : 1;
+        }
+        if (i < hi1) counter.copy(src, i, dst, k, hi1 - i);
+        if (j < hi2) counter.copy(src, j, dst, k, hi2 - j);
+    }
+
+    // First index in src[lo, hi) whose value is >= key
+    private static int lowerBound(int[] src, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (src[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // --- FORK/JOIN TASKS ---
+
+    @SuppressWarnings("serial")
+    private final class SortTask extends RecursiveAction {
+        private final int[] src, dst;
+        private final int lo, hi;
+
+        SortTask(int[] src, int[] dst, int lo, int hi) {
+            this.src = src;
+            this.dst = dst;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= sequentialCutoff) {
+                sortSequential(src, dst, lo, hi, OpCounter.NONE);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            // Halves land in src (roles swapped), then get merged into dst
+            invokeAll(new SortTask(dst, src, lo, mid), new SortTask(dst, src, mid, hi));
+            new MergeTask(src, lo, mid, mid, hi, dst, lo).compute();
+        }
+    }
+
+    // Parallel merge: split the larger run at its median, binary search the split point in the other run,
+    // and merge the two independent halves concurrently. Without this the top-level O(n) merge is serial.
+    @SuppressWarnings("serial")
+    private final class MergeTask extends RecursiveAction {
+        private final int[] src, dst;
+        private final int lo1, hi1, lo2, hi2, out;
+
+        MergeTask(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int len1 = hi1 - lo1;
+            int len2 = hi2 - lo2;
+            if (len1 + len2 <= sequentialCutoff) {
+                mergeSequential(src, lo1, hi1, lo2, hi2, dst, out, OpCounter.NONE);
+                return;
+            }
+            if (len1 < len2) {
+                // Always split the larger run so each half shrinks
+                new MergeTask(src, lo2, hi2, lo1, hi1, dst, out).compute();
+                return;
+            }
+            int mid1 = (lo1 + hi1) >>> 1;
+            int mid2 = lowerBound(src, lo2, hi2, src[mid1]);
+            int outMid = out + (mid1 - lo1) + (mid2 - lo2);
+            invokeAll(new MergeTask(src, lo1, mid1, lo2, mid2, dst, out),
+                      new MergeTask(src, mid1, hi1, mid2, hi2, dst, outMid));
+        }
+    }
+
+    // --- BIG O CONTRACT ---
+
+    @Override
+    public String getBestTime() {
+        return "O(n log n)"; // Work; span is O(log^3 n) with the parallel merge
+    }
+
+    @Override
+    public String getAverageTime() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getWorstTime() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)"; // One ping-pong buffer for the whole sort
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        ParallelMerge sorter = new ParallelMerge(64);
+        int[] input = new Random(7).ints(1_000, -500, 500).toArray();
+        int[] expected = input.clone();
+        Arrays.parallelSort(expected);
+
+        System.out.println("Running " + sorter.getSortName());
+        sorter.run(input);
+
+        System.out.println("Matches Arrays.parallelSort: " + Arrays.equals(input, expected));
+    }
+}
@@ -1,20 +1,38 @@
 package com.example.arena.sorting.algorithms;
 
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
+import com.example.arena.sorting.smallsort.SmallSort;
+import com.example.arena.sorting.smallsort.SmallSorts;
 import java.util.Arrays;
 
 public class Quick extends BigOSort {
 
-    // 1. Constructor
+    // Base case: ranges up to leaves.maxLength() (SmallSorts.NONE: only single elements, the textbook version)
+    private final SmallSort leaves;
+
+    // 1. Constructors
     public Quick() {
         super("Quick Sort");
+        this.leaves = SmallSorts.NONE;
+    }
+
+    public Quick(SmallSort leaves) {
+        super("Quick Sort (" + leaves.getName() + " leaves)");
+        this.leaves = leaves;
     }
 
     // 2. Main Entry Point
     @Override
     public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
         if (arr.length > 1) {
-            sort(arr, 0, arr.length - 1);
+            sort(arr, 0, arr.length - 1, counter);
         }
     }
 
@@ -24,26 +42,22 @@ public class Quick extends BigOSort {
      * correct position in sorted array, and places all smaller elements
      * to left of pivot and all greater elements to right of pivot.
      */
-    private int partition(int[] arr, int low, int high) {
-        int pivot = arr[high];
+    private int partition(int[] arr, int low, int high, OpCounter counter) {
+        int pivot = counter.read(arr, high);
         int i = (low - 1); // index of smaller element
 
         for (int j = low; j < high; j++) {
             // If current element is smaller than or equal to pivot
-            if (arr[j] <= pivot) {
+            if (!counter.less(pivot, counter.read(arr, j))) {
                 i++;
 
                 // swap arr[i] and arr[j]
-                int temp = arr[i];
-                arr[i] = arr[j];
-                arr[j] = temp;
+                counter.swap(arr, i, j);
             }
         }
 
         // swap arr[i+1] and arr[high] (or pivot)
-        int temp = arr[i + 1];
-        arr[i + 1] = arr[high];
-        arr[high] = temp;
+        counter.swap(arr, i + 1, high);
 
         return i + 1;
     }
@@ -53,18 +67,29 @@ public class Quick extends BigOSort {
      * arr[] --> Array to be sorted,
      * low --> Starting index, high --> Ending index
      */
-    private void sort(int[] arr, int low, int high) {
-        if (low < high) {
+    private void sort(int[] arr, int low, int high, OpCounter counter) {
+        counter.enter();
+
+        // Short ranges are finished by the leaf kernel
+        if (high - low + 1 <= leaves.maxLength()) {
+            leaves.sort(arr, low, high + 1, counter);
+        } else {
             /*
              * pi is partitioning index, arr[pi] is now at right place
              */
-            int pi = partition(arr, low, high);
+            int pi = partition(arr, low, high, counter);
 
             // Recursively sort elements before
             // partition and after partition
-            sort(arr, low, pi - 1);
-            sort(arr, pi + 1, high);
+            sort(arr, low, pi - 1, counter);
+            sort(arr, pi + 1, high, counter);
         }
+        counter.exit();
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return true;
     }
 
     // --- BIG O CONTRACT (Updated to match Parent) ---
@@ -1,6 +1,7 @@
 package com.example.arena.sorting.algorithms;
 
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
 import java.util.Arrays;
 
 public class Radix extends BigOSort {
@@ -13,32 +14,39 @@ public class Radix extends BigOSort {
     // 2. Main Entry Point
     @Override
     public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
         if (arr.length == 0) return;
-        radixsort(arr, arr.length);
+        radixsort(arr, arr.length, counter);
     }
 
     // --- HELPER METHODS ---
 
     // A utility function to get maximum value in arr[]
     // Needed to know how many digits we are dealing with.
-    private int getMax(int[] arr, int n) {
-        int mx = arr[0];
-        for (int i = 1; i < n; i++)
-            if (arr[i] > mx)
-                mx = arr[i];
+    private int getMax(int[] arr, int n, OpCounter counter) {
+        int mx = counter.read(arr, 0);
+        for (int i = 1; i < n; i++) {
+            int v = counter.read(arr, i);
+            if (counter.less(mx, v))
+                mx = v;
+        }
         return mx;
     }
 
     // A function to do counting sort of arr[] according to
     // the digit represented by exp.
-    private void countSort(int[] arr, int n, int exp) {
+    private void countSort(int[] arr, int n, int exp, OpCounter counter) {
         int[] output = new int[n]; // output array
         int[] count = new int[10]; // 0-9 digits
-        Arrays.fill(count, 0);
 
         // Store count of occurrences in count[]
         for (int i = 0; i < n; i++)
-            count[(arr[i] / exp) % 10]++;
+            count[(counter.read(arr, i) / exp) % 10]++;
 
         // Change count[i] so that count[i] now contains
         // actual position of this digit in output[]
@@ -47,26 +55,30 @@ public class Radix extends BigOSort {
 
         // Build the output array
         for (int i = n - 1; i >= 0; i--) {
-            output[count[(arr[i] / exp) % 10] - 1] = arr[i];
-            count[(arr[i] / exp) % 10]--;
+            int v = counter.read(arr, i);
+            counter.write(output, --count[(v / exp) % 10], v);
         }
 
         // Copy the output array to arr[], so that arr[] now
         // contains sorted numbers according to current digit
-        for (int i = 0; i < n; i++)
-            arr[i] = output[i];
+        counter.copy(output, 0, arr, 0, n);
     }
 
     // The main function that sorts arr[] of size n using Radix Sort
-    private void radixsort(int[] arr, int n) {
+    private void radixsort(int[] arr, int n, OpCounter counter) {
         // Find the maximum number to know number of digits
-        int m = getMax(arr, n);
+        int m = getMax(arr, n, counter);
 
         // Do counting sort for every digit. Note that instead
         // of passing digit number, exp is passed. exp is 10^i
         // where i is current digit number
         for (int exp = 1; m / exp > 0; exp *= 10)
-            countSort(arr, n, exp);
+            countSort(arr, n, exp, counter);
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return true;
     }
 
     // --- BIG O CONTRACT (Updated to match Parent) ---
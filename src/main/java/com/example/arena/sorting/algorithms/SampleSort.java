@@ -0,0 +1,277 @@
+package com.example.arena.sorting.algorithms;
+
+import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * SampleSort
+ * Parallel-first distribution sort: one pass sends every element straight to its final bucket, then the buckets
+ * are sorted concurrently. No merge phase at all, unlike ParallelMerge.
+ *
+ * - Splitters:  OVERSAMPLING * buckets random elements (seeded, so every run picks the same ones) are sorted,
+ *               every OVERSAMPLING-th becomes a splitter, which keeps the buckets close to n / buckets.
+ * - Classify:   the buckets - 1 splitters form an implicit binary search tree (Eytzinger layout); an element
+ *               descends it with j = 2j + (x > splitter[j]), log2(buckets) steps and no data-dependent branch.
+ * - Scatter:    the input is cut into one block per worker; each worker counts its bucket sizes, a prefix sum
+ *               gives every (worker, bucket) pair its own contiguous slice, and the workers scatter without locks.
+ * - Buckets:    sorted concurrently with Intro, then copied back.
+ *
+ * Many equal keys all land in one bucket (equal keys cannot be split); Intro's 3-way partitioning still
+ * finishes that bucket in linear time, but on one thread.
+ */
+public class SampleSort extends BigOSort {
+
+    public static final long DEFAULT_SEED = 42L;
+
+    // Below this many elements the parallel phases cost more than they save: plain Intro
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 15;
+
+    // Buckets per worker (more than one, so an unlucky bucket does not hold up the last phase alone)
+    private static final int BUCKETS_PER_WORKER = 4;
+    // The classification oracle stores bucket numbers in a byte
+    private static final int MAX_BUCKETS = 256;
+    private static final int OVERSAMPLING = 16;
+
+    private final ForkJoinPool pool;
+    private final long seed;
+    private final Intro bucketSort = new Intro();
+
+    // Statistics of the last run(), reported to the arena
+    private int lastBuckets;
+    private int lastLargestBucket;
+
+    // 1. Constructors
+    public SampleSort() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public SampleSort(ForkJoinPool pool) {
+        this(pool, DEFAULT_SEED);
+    }
+
+    public SampleSort(ForkJoinPool pool, long seed) {
+        super("Parallel Sample Sort (Fork/Join)");
+        this.pool = pool;
+        this.seed = seed;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    // 2. Logic
+    @Override
+    public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    /*
+     * A counted run takes the same path as run(int[]) on this pool, but every phase runs on the calling thread
+     * (OpCounter is not thread-safe). Classification and scatter are counted in bulk: per element one read and
+     * log2(buckets) comparisons, then one read and one write; the buckets count through Intro.
+     * The splitter sample is a fixed OVERSAMPLING * buckets elements, its reads are counted, its Arrays.sort is not.
+     */
+    @Override
+    public void run(int[] arr, OpCounter counter) {
+        int n = arr.length;
+        int workers = pool.getParallelism();
+        lastBuckets = 1;
+        lastLargestBucket = n;
+        if (n < SEQUENTIAL_THRESHOLD || workers == 1) {
+            bucketSort.run(arr, counter);
+            return;
+        }
+
+        // Step 1: Splitters from a seeded oversample, laid out as an implicit search tree
+        int levels = 32 - Integer.numberOfLeadingZeros(Math.min(MAX_BUCKETS, workers * BUCKETS_PER_WORKER) - 1);
+        int buckets = 1 << levels;
+        int[] tree = splitterTree(arr, buckets);
+        counter.add(0, (long) buckets * OVERSAMPLING, 0);
+
+        // Step 2: Classify and count per worker block (the bucket of every element is kept in the oracle)
+        int blocks = Math.min(workers, n / (SEQUENTIAL_THRESHOLD / 4));
+        int[][] counts = new int[blocks][buckets];
+        byte[] oracle = new byte[n];
+        forEachBlock(blocks, n, (block, from, to) -> classify(arr, from, to, tree, levels, oracle, counts[block]),
+                counter);
+        counter.add((long) n * levels, n, 0);
+
+        // Step 3: Prefix sums: bucket b of block t starts after all smaller buckets and bucket b of blocks < t
+        int[] bucketStart = new int[buckets + 1];
+        int[][] offsets = new int[blocks][buckets];
+        int position = 0;
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b] = position;
+            for (int t = 0; t < blocks; t++) {
+                offsets[t][b] = position;
+                position += counts[t][b];
+            }
+        }
+        bucketStart[buckets] = n;
+
+        // One bucket holds everything (e.g. all keys equal): scattering would only copy the array
+        for (int b = 0; b < buckets; b++) {
+            if (bucketStart[b + 1] - bucketStart[b] == n) {
+                bucketSort.run(arr, counter);
+                return;
+            }
+        }
+
+        // Step 4: Scatter, every block into its own slices, no two workers ever write the same index
+        int[] buffer = new int[n];
+        forEachBlock(blocks, n, (block, from, to) -> {
+            int[] next = offsets[block];
+            for (int i = from; i < to; i++) buffer[next[oracle[i] & 0xFF]++] = arr[i];
+        }, counter);
+        counter.add(0, n, n);
+
+        // Step 5: Sort every bucket concurrently and copy it back
+        List<Runnable> bodies = new ArrayList<>();
+        lastLargestBucket = 0;
+        for (int b = 0; b < buckets; b++) {
+            int from = bucketStart[b];
+            int to = bucketStart[b + 1];
+            lastLargestBucket = Math.max(lastLargestBucket, to - from);
+            if (to > from) bodies.add(() -> {
+                int[] bucket = Arrays.copyOfRange(buffer, from, to);
+                counter.add(0, to - from, to - from);
+                bucketSort.run(bucket, counter);
+                counter.copy(bucket, 0, arr, from, bucket.length);
+            });
+        }
+        invokeAll(bodies, counter);
+        lastBuckets = buckets;
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
+
+    /*
+     * tree[1..buckets-1] in Eytzinger order: node j has children 2j and 2j + 1, an in-order walk visits the
+     * splitters in ascending order. After `levels` steps from the root, j - buckets is the bucket number.
+     */
+    private int[] splitterTree(int[] arr, int buckets) {
+        Random random = new Random(seed);
+        int[] sample = new int[buckets * OVERSAMPLING];
+        for (int i = 0; i < sample.length; i++) sample[i] = arr[random.nextInt(arr.length)];
+        Arrays.sort(sample);
+
+        int[] tree = new int[buckets];
+        fillTree(tree, 1, sample, 1, buckets - 1);
+        return tree;
+    }
+
+    // Places splitters lo..hi (splitter s = sample[s * OVERSAMPLING - 1]) under node, in order
+    private static void fillTree(int[] tree, int node, int[] sample, int lo, int hi) {
+        if (lo > hi) return;
+        int mid = (lo + hi) >>> 1;
+        tree[node] = sample[mid * OVERSAMPLING - 1];
+        fillTree(tree, 2 * node, sample, lo, mid - 1);
+        fillTree(tree, 2 * node + 1, sample, mid + 1, hi);
+    }
+
+    private static void classify(int[] arr, int from, int to, int[] tree, int levels, byte[] oracle, int[] counts) {
+        int buckets = 1 << levels;
+        for (int i = from; i < to; i++) {
+            int x = arr[i];
+            int j = 1;
+            for (int level = 0; level < levels; level++) {
+                j = 2 * j + (x > tree[j] ? 1 : 0); // compiles to a conditional move, not a branch
+            }
+            int bucket = j - buckets;
+            oracle[i] = (byte) bucket;
+            counts[bucket]++;
+        }
+    }
+
+    // --- FORK/JOIN HELPERS ---
+
+    private interface BlockBody {
+        void run(int block, int from, int to);
+    }
+
+    // Runs body on `blocks` equal contiguous blocks of [0, n) concurrently
+    private void forEachBlock(int blocks, int n, BlockBody body, OpCounter counter) {
+        List<Runnable> bodies = new ArrayList<>();
+        for (int t = 0; t < blocks; t++) {
+            int block = t;
+            int from = (int) ((long) n * t / blocks);
+            int to = (int) ((long) n * (t + 1) / blocks);
+            bodies.add(() -> body.run(block, from, to));
+        }
+        invokeAll(bodies, counter);
+    }
+
+    // On the pool, or one after another on the calling thread during a counted run
+    private void invokeAll(List<Runnable> bodies, OpCounter counter) {
+        if (counter.isCounting()) {
+            bodies.forEach(Runnable::run);
+            return;
+        }
+        List<RecursiveAction> tasks = new ArrayList<>();
+        for (Runnable body : bodies) tasks.add(action(body));
+        pool.invoke(action(() -> RecursiveAction.invokeAll(tasks)));
+    }
+
+    private static RecursiveAction action(Runnable body) {
+        return new RecursiveAction() {
+            @Override
+            protected void compute() {
+                body.run();
+            }
+        };
+    }
+
+    @Override
+    public String getLastRunDetails() {
+        return "buckets=" + lastBuckets + ", largestBucket=" + lastLargestBucket;
+    }
+
+    // --- BIG O CONTRACT ---
+
+    @Override
+    public String getBestTime() {
+        return "O(n log n)"; // Work; the classification is O(n log p), the buckets O((n / p) log(n / p)) each
+    }
+
+    @Override
+    public String getAverageTime() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getWorstTime() {
+        return "O(n log n)"; // All keys in one bucket: a single Intro Sort of n
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)"; // Scatter buffer (n ints) + oracle (n bytes)
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        // A fixed pool of 4, so the parallel phases run even on a single-core machine
+        ForkJoinPool pool = new ForkJoinPool(4);
+        SampleSort sorter = new SampleSort(pool);
+        int[] input = new Random(7).ints(1_000_000, -500_000, 500_000).toArray();
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        System.out.println("Running " + sorter.getSortName() + " on " + sorter.getParallelism() + " worker(s)");
+        sorter.run(input);
+        pool.shutdown();
+
+        System.out.println("Matches Arrays.sort: " + Arrays.equals(input, expected));
+        System.out.println(sorter.getLastRunDetails());
+    }
+}
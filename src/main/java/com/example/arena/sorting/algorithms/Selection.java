@@ -1,6 +1,7 @@
 package com.example.arena.sorting.algorithms;
 
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
 import java.util.Arrays;
 
 public class Selection extends BigOSort {
@@ -13,6 +14,12 @@ public class Selection extends BigOSort {
     // 2. Logic
     @Override
     public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
         int n = arr.length;
 
         // One by one move boundary of unsorted subarray
@@ -21,18 +28,21 @@ public class Selection extends BigOSort {
             // Find the minimum element in unsorted array
             int min_idx = i;
             for (int j = i + 1; j < n; j++) {
-                if (arr[j] < arr[min_idx]) {
+                if (counter.less(counter.read(arr, j), counter.read(arr, min_idx))) {
                     min_idx = j;
                 }
             }
 
             // Swap the found minimum element with the first element
-            int temp = arr[min_idx];
-            arr[min_idx] = arr[i];
-            arr[i] = temp;
+            counter.swap(arr, min_idx, i);
         }
     }
 
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
+
     // --- BIG O CONTRACT (Updated to match Parent) ---
 
     @Override
@@ -1,73 +1,106 @@
 package com.example.arena.sorting.algorithms;
 
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
+import com.example.arena.sorting.shell.GapSequence;
+import com.example.arena.sorting.shell.Gaps;
+
 import java.util.Arrays;
 
+/**
+ * Shell
+ * Gapped insertion sort; the gap sequence is a pluggable {@link GapSequence}.
+ *
+ * The no-arg constructor (the one the arena discovers) uses Ciura's sequence, the fastest known in practice.
+ * Every other sequence is compared side by side in {@link com.example.arena.sorting.ShellGapComparison}.
+ */
 public class Shell extends BigOSort {
 
-    // 1. Constructor
+    private final GapSequence gapSequence;
+
+    // 1. Constructors
     public Shell() {
-        super("Shell Sort");
+        this(Gaps.CIURA);
+    }
+
+    public Shell(GapSequence gapSequence) {
+        super("Shell Sort (" + gapSequence.getName() + ")");
+        this.gapSequence = gapSequence;
     }
 
     // 2. Logic
     @Override
     public void run(int[] arr) {
-        int n = arr.length;
+        run(arr, OpCounter.NONE);
+    }
 
-        // Start with a big gap, then reduce the gap
-        // Standard Gap Sequence: n/2, n/4, ... 1
-        for (int gap = n / 2; gap > 0; gap /= 2) {
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
+        int n = arr.length;
 
-            // Do a gapped insertion sort for this gap size.
-            for (int i = gap; i < n; i += 1) {
+        // One gapped insertion sort per gap, largest gap first, the last gap is always 1
+        for (int gap : gapSequence.gaps(n)) {
+            for (int i = gap; i < n; i++) {
 
                 // Save a[i] in temp and make a hole at position i
-                int temp = arr[i];
+                int temp = counter.read(arr, i);
 
-                // Shift earlier gap-sorted elements up until
-                // the correct location for a[i] is found
-                int j;
-                for (j = i; j >= gap && arr[j - gap] > temp; j -= gap) {
-                    arr[j] = arr[j - gap];
+                // Shift earlier gap-sorted elements up until the correct location for a[i] is found
+                int j = i;
+                while (j >= gap && counter.less(temp, counter.read(arr, j - gap))) {
+                    counter.write(arr, j, counter.read(arr, j - gap));
+                    j -= gap;
                 }
 
-                // Put temp (the original a[i]) in its correct location
-                arr[j] = temp;
+                // Put temp back, unless it never moved
+                if (j != i) counter.write(arr, j, temp);
             }
         }
     }
 
-    // --- BIG O CONTRACT (Updated to match Parent) ---
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
+
+    public GapSequence getGapSequence() {
+        return gapSequence;
+    }
+
+    // --- BIG O CONTRACT (depends entirely on the gap sequence) ---
 
     @Override
     public String getBestTime() {
-        return "O(n log n)"; // Depends heavily on gap sequence
+        return gapSequence.getBestTime(); // Sorted input: one comparison per element per pass
     }
 
     @Override
     public String getAverageTime() {
-        return "O(n (log n)^2)";
+        return gapSequence.getAverageTime();
     }
 
     @Override
     public String getWorstTime() {
-        return "O(n (log n)^2)";
+        return gapSequence.getWorstTime();
     }
 
     @Override
     public String getSpaceComplexity() {
-        return "O(1)"; // In-place
+        return "O(1)"; // In-place (the gap array itself is O(log n), O(log^2 n) for Pratt)
     }
 
     // --- TEST RUNNER ---
     public static void main(String[] args) {
-        Shell sorter = new Shell();
-        int[] input = {12, 34, 54, 2, 3};
+        int[] original = {12, 34, 54, 2, 3, 99, -7, 54, 0, 18};
 
-        System.out.println("Running " + sorter.getSortName());
-        sorter.run(input);
+        for (Gaps sequence : Gaps.values()) {
+            Shell sorter = new Shell(sequence);
+            int[] input = original.clone();
+            OpCounter counter = new OpCounter();
+            sorter.run(input, counter);
 
-        System.out.println("Sorted: " + Arrays.toString(input));
+            System.out.printf("%-45s %s  (%s)%n", sorter.getSortName(), Arrays.toString(input), counter);
+        }
     }
-}
\ No newline at end of file
+}
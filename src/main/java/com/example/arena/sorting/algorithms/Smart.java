@@ -0,0 +1,484 @@
+package com.example.arena.sorting.algorithms;
+
+import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Smart
+ * Adaptive dispatcher: profiles the input with one cheap sampling pass, then hands it to the sort
+ * that the arena's own measurements found fastest for inputs of that shape.
+ *
+ * Before sampling, a linear pre-scan walks the array from the front while it stays in order: sorted input
+ * (all equal included) is left as it is and reversed input is reversed in place, with no sort at all.
+ * The walk only starts when PRESCAN_PROBES evenly spaced elements are in order, so organ pipe input does not
+ * pay for half an array before Tim walks the same run again; random data leaves it after a few elements.
+ *
+ * Up to FULL_SCAN_MAX_SIZE elements the probes and the sample are replaced by one exact walk over the whole array,
+ * which is cheap at that size and cannot miss a stray swap between two sampled blocks (1% swaps in 1,000 elements
+ * leave most samples spotless). It counts direction changes, and gives up, falling back to the sample, once there
+ * are more than 2 per MIN_RUN elements walked (plus TURN_SLACK): random data leaves it after a few dozen elements. Inputs with fewer go to Tim
+ * unless their range fits Counting, since their runs are on average at least as long as the ones Tim builds itself.
+ *
+ * The profile looks at evenly spaced blocks of consecutive elements (at most SAMPLE_LIMIT in total,
+ * so the pass costs the same for 10K and 10M elements):
+ * - size:       n itself
+ * - range:      max - min of the sample (an estimate; Counting re-checks the real range and falls back to Radix)
+ * - disorder:   direction changes inside the blocks (a run ending), over all sampled pairs.
+ *               0 for sorted and reversed input, about 2/3 for random input
+ * - flips:      how often the direction from one block to the next changes. Catches many long runs
+ *               (sawtooth), which look perfectly sorted inside every block
+ * - duplicates: 1 - distinct / sampled, via a small hash set (only computed when needed)
+ *
+ * Decision, first match wins (up to FULL_SCAN_MAX_SIZE: the exact walk first, see scanTurns):
+ *   n <= insertion.max.size                   -> Insertion
+ *   whole array non-decreasing                -> nothing    (SORTED)
+ *   whole array non-increasing                -> reversed   (REVERSED)
+ *   disorder <= presorted.max.disorder,
+ *   and at most one flip per 8 blocks         -> Tim        (natural runs, reversed runs included)
+ *   range <= counting.max.range.factor * n    -> Counting
+ *   duplicates >= few.unique.min.duplicates   -> Bucket     (each distinct key fills a bucket that needs no sorting)
+ *   n >= radix.min.size                       -> LsdRadix
+ *   otherwise                                 -> Intro
+ *
+ * The thresholds live in smartsort.properties on the classpath and are written by SmartSortCalibrator.
+ * Not thread-safe: Tim and the sample buffer keep per-run state, use one instance per thread.
+ */
+public class Smart extends BigOSort {
+
+    public static final String THRESHOLDS_RESOURCE = "/smartsort.properties";
+
+    public enum Choice { INSERTION, SORTED, REVERSED, TIM, COUNTING, BUCKET, INTRO, RADIX }
+
+    /**
+     * Dispatch thresholds, see the class comment for how each one is used.
+     */
+    public record Thresholds(int insertionMaxSize, double presortedMaxDisorder, double countingMaxRangeFactor,
+                             double fewUniqueMinDuplicates, int radixMinSize) {
+
+        // Used when no properties file is on the classpath, or a key is missing from it: the values of the shipped
+        // smartsort.properties, so both give the same dispatch (calibrated on a single core, see that file)
+        public static final Thresholds DEFAULTS = new Thresholds(128, 0.016129032258064516, 1.0, 0.22265625, 256);
+
+        public static Thresholds load() {
+            try (InputStream in = Smart.class.getResourceAsStream(THRESHOLDS_RESOURCE)) {
+                if (in == null) return DEFAULTS;
+                Properties properties = new Properties();
+                properties.load(in);
+                return fromProperties(properties);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read " + THRESHOLDS_RESOURCE, e);
+            }
+        }
+
+        public static Thresholds fromProperties(Properties p) {
+            return new Thresholds(
+                    Integer.parseInt(p.getProperty("insertion.max.size", String.valueOf(DEFAULTS.insertionMaxSize))),
+                    Double.parseDouble(p.getProperty("presorted.max.disorder", String.valueOf(DEFAULTS.presortedMaxDisorder))),
+                    Double.parseDouble(p.getProperty("counting.max.range.factor", String.valueOf(DEFAULTS.countingMaxRangeFactor))),
+                    Double.parseDouble(p.getProperty("few.unique.min.duplicates", String.valueOf(DEFAULTS.fewUniqueMinDuplicates))),
+                    Integer.parseInt(p.getProperty("radix.min.size", String.valueOf(DEFAULTS.radixMinSize))));
+        }
+
+        public Properties toProperties() {
+            Properties p = new Properties();
+            p.setProperty("insertion.max.size", String.valueOf(insertionMaxSize));
+            p.setProperty("presorted.max.disorder", String.valueOf(presortedMaxDisorder));
+            p.setProperty("counting.max.range.factor", String.valueOf(countingMaxRangeFactor));
+            p.setProperty("few.unique.min.duplicates", String.valueOf(fewUniqueMinDuplicates));
+            p.setProperty("radix.min.size", String.valueOf(radixMinSize));
+            return p;
+        }
+    }
+
+    /**
+     * What the sampling pass saw. duplicates is NaN when the decision did not need it.
+     */
+    public record Profile(int size, int sampled, long range, double disorder, int flips, double duplicates) {
+    }
+
+    // Sample geometry: up to 32 blocks of 32 consecutive elements
+    private static final int BLOCK = 32;
+    private static final int SAMPLE_LIMIT = 1024;
+    // Fewer blocks than this cannot tell a sawtooth from sorted input, so small samples get shorter blocks
+    private static final int MIN_BLOCKS = 8;
+    private static final int MIN_SAMPLE = 64;
+    // Small inputs sample n / 64 elements: a presorted 10K array is sorted in a few microseconds,
+    // so profiling has to stay at a few percent of a linear pass
+    private static final int SAMPLE_DIVISOR = 64;
+    // Tim only while the blocks change direction at most once per 8 blocks (organ pipe plus a stray swap)
+    private static final int MAX_FLIPS_DIVISOR = 8;
+    // Gaps between the evenly spaced elements that must be monotone before the pre-scan walks the array
+    private static final int PRESCAN_PROBES = 16;
+    // Inputs up to this size have their direction changes counted exactly instead of sampled
+    private static final int FULL_SCAN_MAX_SIZE = 1 << 14;
+    // Tim's shortest run (its MIN_MERGE): inputs with at most 2n / MIN_RUN direction changes go to Tim
+    private static final int MIN_RUN = 32;
+    // Direction changes the exact walk tolerates beyond 2 per MIN_RUN elements walked so far, for swaps that
+    // happen to sit close together; random data exceeds it within a dozen elements
+    private static final int TURN_SLACK = 8;
+
+    // Duplicate counting: a hash set at most half full (only the slots a sample needs are cleared)
+    private static final int SET_BITS = 11;
+    private static final long OCCUPIED = 1L << 32;
+
+    private final Thresholds thresholds;
+
+    private final Insertion insertion = new Insertion();
+    private final Tim tim = new Tim();
+    private final Counting counting;
+    private final Bucket bucket = new Bucket();
+    private final Intro intro = new Intro();
+    private final LsdRadix radix = new LsdRadix();
+
+    private final int[] sample = new int[SAMPLE_LIMIT];
+    private final long[] distinctSet = new long[1 << SET_BITS];
+
+    private Choice lastChoice = Choice.INSERTION;
+    private Profile lastProfile;
+
+    // Exact min and max from the last scanTurns walk that went all the way
+    private boolean walkedRange;
+    private int walkedMin;
+    private int walkedMax;
+
+    // 1. Constructors
+    public Smart() {
+        this(Thresholds.load());
+    }
+
+    public Smart(Thresholds thresholds) {
+        super("Smart Sort (Adaptive Dispatch)");
+        this.thresholds = thresholds;
+        // Same limit as the dispatch, now checked against the real range instead of the sampled one
+        this.counting = new Counting(thresholds.countingMaxRangeFactor());
+    }
+
+    // 2. Logic
+    @Override
+    public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // The profiling passes are counted in bulk (a read per element looked at, a comparison per test),
+    // the delegate counts its own work, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
+        lastChoice = choose(arr, counter);
+        switch (lastChoice) {
+            case SORTED -> { }
+            case REVERSED -> reverse(arr, counter);
+            // The exact walk already found the range: Counting skips its own min / max pass
+            case COUNTING -> {
+                if (!walkedRange) delegate(lastChoice).run(arr, counter);
+                else if (counter.isCounting()) counting.run(arr, walkedMin, walkedMax, counter);
+                else counting.run(arr, walkedMin, walkedMax);
+            }
+            // One call site for every delegate: it stays megamorphic, so each delegate runs its own compiled
+            // code instead of a copy inlined here under the profile of whichever shapes Smart saw first.
+            // Uncounted runs go through run(int[]), whose own compiled code has NONE folded into every loop
+            default -> {
+                if (counter.isCounting()) delegate(lastChoice).run(arr, counter);
+                else delegate(lastChoice).run(arr);
+            }
+        }
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
+
+    private BigOSort delegate(Choice choice) {
+        return switch (choice) {
+            case INSERTION -> insertion;
+            case TIM -> tim;
+            case COUNTING -> counting;
+            case BUCKET -> bucket;
+            case INTRO -> intro;
+            case RADIX -> radix;
+            case SORTED, REVERSED -> throw new IllegalArgumentException("No delegate for " + choice);
+        };
+    }
+
+    /**
+     * Profiles arr (without modifying it) and returns the sort run() would dispatch to.
+     */
+    public Choice choose(int[] arr) {
+        return choose(arr, OpCounter.NONE);
+    }
+
+    private Choice choose(int[] arr, OpCounter counter) {
+        int n = arr.length;
+        walkedRange = false;
+        if (n <= thresholds.insertionMaxSize()) {
+            lastProfile = new Profile(n, 0, 0, 0, 0, Double.NaN);
+            return Choice.INSERTION;
+        }
+
+        // Step 0: Small inputs with few direction changes (counted exactly), or larger ones already in order as
+        // a whole (stops at the first element out of line)
+        if (n <= FULL_SCAN_MAX_SIZE) {
+            Choice fewTurns = scanTurns(arr, counter);
+            if (fewTurns != null) return fewTurns;
+        } else {
+            Choice presorted = prescan(arr, counter);
+            if (presorted != null) {
+                lastProfile = new Profile(n, n, Math.abs((long) arr[n - 1] - arr[0]) + 1, 0, 0, Double.NaN);
+                return presorted;
+            }
+        }
+
+        // Step 1: Which blocks to look at
+        int sampled = Math.min(SAMPLE_LIMIT, Math.max(MIN_SAMPLE, n / SAMPLE_DIVISOR));
+        int blocks = Math.max(MIN_BLOCKS, sampled / BLOCK);
+        int blockLength = Math.min(Math.min(BLOCK, sampled / blocks), n);
+        long stride = (long) (n - blockLength) / Math.max(1, blocks - 1);
+
+        // Step 2: One pass over the blocks: range, per-block direction, block-to-block direction changes,
+        // and a copy for the duplicate count
+        int min = arr[0];
+        int max = arr[0];
+        long turns = 0;
+        int flips = 0;
+        int previousStep = 0;
+        int taken = 0;
+        for (int b = 0; b < blocks; b++) {
+            int from = (int) (b * stride);
+            if (b > 0) {
+                // Direction from the previous block's first element to this one's: sorted and reversed input
+                // never change it, organ pipe once, sawtooth and random input all the time
+                int step = Integer.compare(arr[from], arr[(int) ((b - 1) * stride)]);
+                if (step != 0) {
+                    if (previousStep != 0 && step != previousStep) flips++;
+                    previousStep = step;
+                }
+            }
+            int previous = arr[from];
+            int direction = 0;
+            // Branch-free: on random data every test below would be a coin flip for the branch predictor.
+            // step * direction is -1 exactly when the step goes against the last non-zero direction
+            for (int i = from; i < from + blockLength; i++) {
+                int v = arr[i];
+                min = Math.min(min, v);
+                max = Math.max(max, v);
+                int step = Integer.compare(v, previous);
+                turns += (step * direction) >>> 31;
+                direction = step != 0 ? step : direction;
+                previous = v;
+                sample[taken++] = v;
+            }
+        }
+        counter.add(3L * taken + blocks - 1, taken + blocks - 1, 0);
+        long range = (long) max - min + 1;
+        double disorder = (double) turns / Math.max(1, taken - blocks);
+
+        // Step 3: Decide, cheapest checks first
+        lastProfile = new Profile(n, taken, range, disorder, flips, Double.NaN);
+        boolean fewRuns = flips <= Math.max(1, blocks / MAX_FLIPS_DIVISOR);
+        if (disorder <= thresholds.presortedMaxDisorder() && fewRuns) return Choice.TIM;
+        if (range <= thresholds.countingMaxRangeFactor() * n) return Choice.COUNTING;
+
+        double duplicates = duplicateRatio(taken);
+        counter.add(taken, taken, 0);
+        lastProfile = new Profile(n, taken, range, disorder, flips, duplicates);
+        if (duplicates >= thresholds.fewUniqueMinDuplicates()) return Choice.BUCKET;
+        return n >= thresholds.radixMinSize() ? Choice.RADIX : Choice.INTRO;
+    }
+
+    /*
+     * Walks all of arr as alternating non-decreasing and non-increasing stretches, counting the turns between them
+     * exactly, while the elements walked so far have at most 2 per MIN_RUN, plus TURN_SLACK (a stray element costs
+     * two turns, down and back up); null, with the walk abandoned, once there are more. Otherwise:
+     *   no turn                          -> SORTED or REVERSED
+     *   one turn                         -> Tim       (one merge, organ pipe)
+     *   range <= counting.max.range * n  -> Counting  (many overlapping runs, sawtooth)
+     *   otherwise                        -> Tim       (nearly sorted: stretches averaging MIN_RUN / 2 or more)
+     * Each stretch is monotone, so its last element is the only one that can extend the range.
+     */
+    private Choice scanTurns(int[] arr, OpCounter counter) {
+        int n = arr.length;
+        int turns = 0;
+        int min = arr[0];
+        int max = arr[0];
+
+        // A constant prefix belongs to whichever direction comes first
+        int i = 1;
+        while (i < n && arr[i] == arr[0]) i++;
+        boolean descending = i < n && arr[i] < arr[0];
+        while (i < n) {
+            i = descending ? descendingRun(arr, i) : ascendingRun(arr, i);
+            min = Math.min(min, arr[i - 1]);
+            max = Math.max(max, arr[i - 1]);
+            if (i == n) break;
+            if (++turns > 2 * i / MIN_RUN + TURN_SLACK) {
+                counter.add(i, i + 1, 0);
+                return null;
+            }
+            descending = !descending;
+        }
+        counter.add(n - 1, n, 0);
+
+        walkedRange = true;
+        walkedMin = min;
+        walkedMax = max;
+        long range = (long) max - min + 1;
+        double disorder = (double) turns / Math.max(1, n - 1);
+        lastProfile = new Profile(n, n, range, disorder, 0, Double.NaN);
+        if (turns == 0) return descending ? Choice.REVERSED : Choice.SORTED;
+        if (turns == 1) return Choice.TIM;
+        if (range <= thresholds.countingMaxRangeFactor() * n) return Choice.COUNTING;
+        return Choice.TIM;
+    }
+
+    // SORTED if arr is non-decreasing, REVERSED if it is non-increasing (and not constant), null otherwise
+    private static Choice prescan(int[] arr, OpCounter counter) {
+        int n = arr.length;
+        int direction = 0;
+        for (int p = 1; p <= PRESCAN_PROBES; p++) {
+            int step = Integer.compare(arr[(int) ((long) p * (n - 1) / PRESCAN_PROBES)],
+                    arr[(int) ((long) (p - 1) * (n - 1) / PRESCAN_PROBES)]);
+            if (step != 0) {
+                if (direction != 0 && step != direction) {
+                    counter.add(p, 2L * p, 0);
+                    return null;
+                }
+                direction = step;
+            }
+        }
+        counter.add(PRESCAN_PROBES, 2L * PRESCAN_PROBES, 0);
+
+        int i = ascendingRun(arr, 1);
+        if (i == n) {
+            counter.add(n - 1, n, 0);
+            return Choice.SORTED;
+        }
+        if (arr[i - 1] != arr[0]) { // an ascending step before the first descent
+            counter.add(i + 1, i + 2, 0);
+            return null;
+        }
+        i = descendingRun(arr, i);
+        int scanned = Math.min(n, i + 1);
+        counter.add(scanned - 1, scanned, 0);
+        return i == n ? Choice.REVERSED : null;
+    }
+
+    // End of the non-decreasing run through arr[from - 1], arr[from], ...; each element is loaded once
+    private static int ascendingRun(int[] arr, int from) {
+        int previous = arr[from - 1];
+        for (int i = from; i < arr.length; i++) {
+            int v = arr[i];
+            if (v < previous) return i;
+            previous = v;
+        }
+        return arr.length;
+    }
+
+    // End of the non-increasing run through arr[from - 1], arr[from], ...
+    private static int descendingRun(int[] arr, int from) {
+        int previous = arr[from - 1];
+        for (int i = from; i < arr.length; i++) {
+            int v = arr[i];
+            if (v > previous) return i;
+            previous = v;
+        }
+        return arr.length;
+    }
+
+    private static void reverse(int[] arr, OpCounter counter) {
+        for (int i = 0, j = arr.length - 1; i < j; i++, j--) {
+            counter.swap(arr, i, j);
+        }
+    }
+
+    /*
+     * Share of sampled values that repeat an earlier sampled value, counted with a small open-addressing
+     * set (sorting the sample costs more than some of the sorts it chooses between).
+     * Slots hold value | OCCUPIED, so 0 marks an empty slot and every int value fits.
+     */
+    private double duplicateRatio(int taken) {
+        int bits = Math.min(SET_BITS, 33 - Integer.numberOfLeadingZeros(taken)); // >= 2 * taken slots
+        int mask = (1 << bits) - 1;
+        Arrays.fill(distinctSet, 0, mask + 1, 0L);
+        int distinct = 0;
+        for (int i = 0; i < taken; i++) {
+            long key = (sample[i] & 0xFFFFFFFFL) | OCCUPIED;
+            int slot = (sample[i] * 0x9E3779B9) >>> (32 - bits);
+            while (distinctSet[slot] != 0 && distinctSet[slot] != key) slot = (slot + 1) & mask;
+            if (distinctSet[slot] == 0) {
+                distinctSet[slot] = key;
+                distinct++;
+            }
+        }
+        return 1.0 - (double) distinct / taken;
+    }
+
+    public Thresholds getThresholds() {
+        return thresholds;
+    }
+
+    public Choice getLastChoice() {
+        return lastChoice;
+    }
+
+    public Profile getLastProfile() {
+        return lastProfile;
+    }
+
+    @Override
+    public String getLastRunDetails() {
+        return "choice=" + lastChoice + ", profile=" + lastProfile;
+    }
+
+    // --- BIG O CONTRACT ---
+
+    @Override
+    public String getBestTime() {
+        return "O(n)"; // Sorted or reversed input: the pre-scan (and a reversal), no sort
+    }
+
+    @Override
+    public String getAverageTime() {
+        return "O(n log n)"; // O(n) whenever Counting or Radix is picked
+    }
+
+    @Override
+    public String getWorstTime() {
+        return "O(n log n)"; // Every delegate is O(n log n) or better, except Insertion on n <= insertion.max.size
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)"; // Tim's merge buffer / Radix's and Bucket's scratch arrays
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        Smart sorter = new Smart();
+        System.out.println("Running " + sorter.getSortName() + " with " + sorter.getThresholds());
+
+        Random random = new Random(42);
+        int[][] inputs = {
+                {5, 1, 4, 2, 3},
+                random.ints(100_000, 0, 1_000_000_000).toArray(), // wide range -> Radix
+                random.ints(100_000, 0, 1_000).toArray(),         // narrow range -> Counting
+                random.ints(1_000, 0, 1_000_000_000).toArray(),   // wide range, small -> Intro
+                random.ints(100_000, 0, 16).map(v -> v * 62_500).toArray(), // 16 distinct keys -> Bucket
+                IntStream.range(0, 100_000).map(i -> 100_000 - i).toArray() // reversed -> reversed in place
+        };
+        for (int[] input : inputs) {
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+            sorter.run(input);
+            System.out.printf("n=%-8d %-9s sorted=%-5b %s%n", input.length, sorter.getLastChoice(),
+                    Arrays.equals(input, expected), sorter.getLastProfile());
+        }
+    }
+}
@@ -2,10 +2,14 @@ package com.example.arena.sorting.algorithms;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 // 1. Correct Package Import
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.KeyType;
 
 public class Sort extends BigOSort {
 
@@ -22,7 +26,46 @@ public class Sort extends BigOSort {
         }
     }
 
-    // 4. Logic for Object Lists (TimSort - Hybrid of Merge & Insertion)
+    // 4. The library covers every key type
+    @Override
+    public Set<KeyType> getSupportedKeyTypes() {
+        return EnumSet.allOf(KeyType.class);
+    }
+
+    @Override
+    public void run(long[] arr) {
+        if (arr != null) Arrays.sort(arr);
+    }
+
+    @Override
+    public void run(double[] arr) {
+        if (arr != null) Arrays.sort(arr);
+    }
+
+    @Override
+    public void run(float[] arr) {
+        if (arr != null) Arrays.sort(arr);
+    }
+
+    // TimSort for objects (stable)
+    @Override
+    public <T> void run(T[] arr, Comparator<? super T> comparator) {
+        if (arr != null) Arrays.sort(arr, comparator);
+    }
+
+    // The library has no primitive index sort: box the indices and let TimSort compare the keys
+    @Override
+    public int[] argsort(int[] keys) {
+        Integer[] boxed = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) boxed[i] = i;
+        Arrays.sort(boxed, Comparator.comparingInt(i -> keys[i]));
+
+        int[] permutation = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) permutation[i] = boxed[i];
+        return permutation;
+    }
+
+    // 5. Logic for Object Lists (TimSort - Hybrid of Merge & Insertion)
     public List<Integer> sortIntegers(List<Integer> arr, boolean descending){
         if (arr == null) return null;
 
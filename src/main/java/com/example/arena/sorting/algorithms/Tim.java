@@ -1,89 +1,549 @@
 package com.example.arena.sorting.algorithms;
 
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
+import com.example.arena.sorting.smallsort.SmallSort;
+import com.example.arena.sorting.smallsort.SmallSorts;
 import java.util.Arrays;
 
+/**
+ * Tim
+ * TimSort (Tim Peters, 2002), the same algorithm as java.util.Arrays.sort(Object[]), specialised for int[].
+ *
+ * - Natural runs: existing ascending runs are used as-is, strictly descending runs are reversed in place.
+ * - minrun: short runs are extended to minrun (32..64, derived from n) with binary insertion sort,
+ *   chosen so that n / minrun is close to a power of two and the final merges stay balanced.
+ * - Run stack: merges keep runLen[i-2] > runLen[i-1] + runLen[i] and runLen[i-1] > runLen[i],
+ *   so the stack depth stays logarithmic.
+ * - Galloping: when one run keeps winning (MIN_GALLOP times in a row), the merge switches to
+ *   exponential + binary search and moves whole blocks with System.arraycopy.
+ * - One temp buffer, grown on demand and reused across runs (at most n / 2 ints).
+ *
+ * Not thread-safe: sort state lives in the instance, use one Tim per thread.
+ */
 public class Tim extends BigOSort {
 
-    private static final int RUN = 32;
+    // Arrays shorter than this are sorted with a single binary insertion sort
+    private static final int MIN_MERGE = 32;
 
-    // 1. Constructor
+    // Consecutive wins after which a merge switches to galloping mode
+    private static final int MIN_GALLOP = 7;
+
+    private static final int INITIAL_TMP_LENGTH = 256;
+
+    // Enough for any int-indexed array given the run-length invariants (same bound as the JDK)
+    private static final int MAX_STACK = 49;
+
+    // Array and counter of the sort in progress
+    private int[] a;
+    private OpCounter counter;
+    private int[] tmp = new int[INITIAL_TMP_LENGTH];
+    private int minGallop;
+
+    private final int[] runBase = new int[MAX_STACK];
+    private final int[] runLen = new int[MAX_STACK];
+    private int stackSize;
+
+    // Statistics of the last run(), reported to the arena
+    private int runsFound;
+    private int mergesPerformed;
+
+    // Short runs up to leaves.maxLength() are extended with the leaf kernel instead of binary insertion sort
+    private final SmallSort leaves;
+
+    // 1. Constructors
     public Tim() {
         super("Tim Sort");
+        this.leaves = SmallSorts.NONE;
+    }
+
+    public Tim(SmallSort leaves) {
+        super("Tim Sort (" + leaves.getName() + " leaves)");
+        this.leaves = leaves;
     }
 
     // 2. Logic
     @Override
     public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // Every element access goes through the counter, see BigOSort.run(int[], OpCounter)
+    @Override
+    public void run(int[] arr, OpCounter counter) {
         int n = arr.length;
+        runsFound = 0;
+        mergesPerformed = 0;
+        if (n < 2) return;
 
-        // Step 1: Sort individual subarrays of size RUN using Insertion Sort
-        for (int i = 0; i < n; i += RUN) {
-            insertionSort(arr, i, Math.min((i + RUN - 1), (n - 1)));
+        // Small arrays: one natural run + binary insertion sort, no merging at all
+        if (n < MIN_MERGE) {
+            runsFound = 1;
+            if (n <= leaves.maxLength()) {
+                leaves.sort(arr, 0, n, counter);
+                return;
+            }
+            int initRunLen = countRunAndMakeAscending(arr, 0, n, counter);
+            binarySort(arr, 0, n, initRunLen, counter);
+            return;
         }
 
-        // Step 2: Merge the sorted runs using Merge Sort logic
-        // Start merging from size RUN (32). merge 32+32=64, then 64+64=128, etc.
-        for (int size = RUN; size < n; size = 2 * size) {
+        this.a = arr;
+        this.counter = counter;
+        this.minGallop = MIN_GALLOP;
+        this.stackSize = 0;
 
-            // Pick starting point of left sub array. We are going to merge arr[left..left+size-1]
-            // and arr[left+size, left+2*size-1]
-            for (int left = 0; left < n; left += 2 * size) {
+        int minRun = minRunLength(n);
+        int lo = 0;
+        int nRemaining = n;
+        do {
+            // Step 1: Identify the next natural run
+            int runLength = countRunAndMakeAscending(arr, lo, lo + nRemaining, counter);
+            runsFound++;
 
-                // Find ending point of left sub array
-                // mid+1 is starting point of right sub array
-                int mid = left + size - 1;
-                int right = Math.min((left + 2 * size - 1), (n - 1));
-
-                // Merge subarray arr[left...mid] & arr[mid+1...right]
-                if (mid < right) {
-                    merge(arr, left, mid, right);
+            // Step 2: If it is short, extend it to min(minRun, nRemaining) with binary insertion sort
+            if (runLength < minRun) {
+                int force = Math.min(nRemaining, minRun);
+                if (force <= leaves.maxLength()) {
+                    leaves.sort(arr, lo, lo + force, counter);
+                } else {
+                    binarySort(arr, lo, lo + force, lo + runLength, counter);
                 }
+                runLength = force;
+            }
+
+            // Step 3: Push it on the run stack and merge until the invariants hold again
+            pushRun(lo, runLength);
+            mergeCollapse();
+
+            lo += runLength;
+            nRemaining -= runLength;
+        } while (nRemaining != 0);
+
+        // Step 4: Merge whatever is left on the stack
+        mergeForceCollapse();
+        this.a = null;
+        this.counter = null;
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
+
+    public int getLastRunsFound() {
+        return runsFound;
+    }
+
+    public int getLastMergesPerformed() {
+        return mergesPerformed;
+    }
+
+    @Override
+    public String getLastRunDetails() {
+        return "runs=" + runsFound + ", merges=" + mergesPerformed;
+    }
+
+    // --- RUNS ---
+
+    /*
+     * Length of the run starting at lo. A descending run is reversed in place.
+     * Unlike the object TimSort, the run may contain equal keys: equal ints are indistinguishable,
+     * so reversing them cannot break stability, and reverse-sorted data with duplicates stays one run.
+     */
+    private static int countRunAndMakeAscending(int[] a, int lo, int hi, OpCounter counter) {
+        int runHi = lo + 1;
+        if (runHi == hi) return 1;
+
+        if (counter.less(counter.read(a, runHi++), counter.read(a, lo))) {
+            while (runHi < hi && !counter.less(counter.read(a, runHi - 1), counter.read(a, runHi))) runHi++;
+            reverseRange(a, lo, runHi, counter);
+        } else {
+            while (runHi < hi && !counter.less(counter.read(a, runHi), counter.read(a, runHi - 1))) runHi++;
+        }
+        return runHi - lo;
+    }
+
+    private static void reverseRange(int[] a, int lo, int hi, OpCounter counter) {
+        hi--;
+        while (lo < hi) counter.swap(a, lo++, hi--);
+    }
+
+    // Binary insertion sort of a[lo, hi) where a[lo, start) is already sorted
+    private static void binarySort(int[] a, int lo, int hi, int start, OpCounter counter) {
+        if (start == lo) start++;
+        for (; start < hi; start++) {
+            int pivot = counter.read(a, start);
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (counter.less(pivot, counter.read(a, mid))) right = mid;
+                else left = mid + 1;
             }
+            counter.copy(a, left, a, left + 1, start - left);
+            counter.write(a, left, pivot);
         }
     }
 
-    // Helper: Insertion sort for the small runs
-    private void insertionSort(int[] arr, int left, int right) {
-        for (int i = left + 1; i <= right; i++) {
-            int temp = arr[i];
-            int j = i - 1;
-            while (j >= left && arr[j] > temp) {
-                arr[j + 1] = arr[j];
-                j--;
+    /*
+     * minrun for n >= MIN_MERGE: the top 6 bits of n, plus 1 if any of the remaining bits are set.
+     * Result is in [MIN_MERGE / 2, MIN_MERGE] and n / minrun is a power of two or slightly below one.
+     */
+    private static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    // --- RUN STACK ---
+
+    private void pushRun(int base, int length) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = length;
+        stackSize++;
+    }
+
+    /*
+     * Merges runs until, for the top three runs X, Y, Z (Z on top):
+     *   runLen[X] > runLen[Y] + runLen[Z]   and   runLen[Y] > runLen[Z]
+     * The second look-back (n - 2) is the fix for the invariant bug found by de Gouw et al. in 2015.
+     */
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if ((n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1])
+                    || (n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1])) {
+                if (runLen[n - 1] < runLen[n + 1]) n--;
+            } else if (runLen[n] > runLen[n + 1]) {
+                break; // Invariant is established
             }
-            arr[j + 1] = temp;
+            mergeAt(n);
+        }
+    }
+
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] < runLen[n + 1]) n--;
+            mergeAt(n);
+        }
+    }
+
+    // Merges the runs at stack positions i and i + 1
+    private void mergeAt(int i) {
+        mergesPerformed++;
+        int base1 = runBase[i];
+        int len1 = runLen[i];
+        int base2 = runBase[i + 1];
+        int len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
         }
+        stackSize--;
+
+        int[] a = this.a;
+        OpCounter counter = this.counter;
+
+        // Elements of run1 that are <= run2's first element are already in place
+        int k = gallopRight(counter.read(a, base2), a, base1, len1, 0, counter);
+        base1 += k;
+        len1 -= k;
+        if (len1 == 0) return;
+
+        // Elements of run2 that are >= run1's last element are already in place
+        len2 = gallopLeft(counter.read(a, base1 + len1 - 1), a, base2, len2, len2 - 1, counter);
+        if (len2 == 0) return;
+
+        // Copy the SHORTER run into tmp and merge from the matching end
+        if (len1 <= len2) mergeLo(base1, len1, base2, len2);
+        else mergeHi(base1, len1, base2, len2);
     }
 
-    // Helper: Standard Merge function
-    private void merge(int[] arr, int l, int m, int r) {
-        int len1 = m - l + 1;
-        int len2 = r - m;
+    // --- GALLOPING ---
 
-        int[] left = new int[len1];
-        int[] right = new int[len2];
+    /*
+     * Leftmost position in a[base, base + len) at which key could be inserted (first element >= key).
+     * Gallops (1, 3, 7, 15, ...) away from 'hint', then binary searches the bracketed range.
+     */
+    private static int gallopLeft(int key, int[] a, int base, int len, int hint, OpCounter counter) {
+        int lastOfs = 0;
+        int ofs = 1;
+        if (counter.less(counter.read(a, base + hint), key)) {
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && counter.less(counter.read(a, base + hint + ofs), key)) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) ofs = maxOfs; // int overflow
+            }
+            if (ofs > maxOfs) ofs = maxOfs;
+            lastOfs += hint;
+            ofs += hint;
+        } else {
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && !counter.less(counter.read(a, base + hint - ofs), key)) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) ofs = maxOfs;
+            }
+            if (ofs > maxOfs) ofs = maxOfs;
+            int t = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - t;
+        }
 
-        for (int x = 0; x < len1; x++) left[x] = arr[l + x];
-        for (int x = 0; x < len2; x++) right[x] = arr[m + 1 + x];
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if (counter.less(counter.read(a, base + m), key)) lastOfs = m + 1;
+            else ofs = m;
+        }
+        return ofs;
+    }
 
-        int i = 0, j = 0, k = l;
-        while (i < len1 && j < len2) {
-            if (left[i] <= right[j]) {
-                arr[k++] = left[i++];
-            } else {
-                arr[k++] = right[j++];
+    // Like gallopLeft, but returns the rightmost position (first element > key)
+    private static int gallopRight(int key, int[] a, int base, int len, int hint, OpCounter counter) {
+        int ofs = 1;
+        int lastOfs = 0;
+        if (counter.less(key, counter.read(a, base + hint))) {
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && counter.less(key, counter.read(a, base + hint - ofs))) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) ofs = maxOfs;
+            }
+            if (ofs > maxOfs) ofs = maxOfs;
+            int t = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - t;
+        } else {
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && !counter.less(key, counter.read(a, base + hint + ofs))) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) ofs = maxOfs;
             }
+            if (ofs > maxOfs) ofs = maxOfs;
+            lastOfs += hint;
+            ofs += hint;
+        }
+
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if (counter.less(key, counter.read(a, base + m))) ofs = m;
+            else lastOfs = m + 1;
+        }
+        return ofs;
+    }
+
+    // --- MERGING ---
+
+    /*
+     * Merges run1 (copied to tmp) and run2 left to right. Preconditions from mergeAt:
+     * a[base2] < a[base1] and the last element of run1 > every element of run2.
+     */
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+        int[] a = this.a;
+        OpCounter counter = this.counter;
+        int[] tmp = ensureCapacity(len1);
+        counter.copy(a, base1, tmp, 0, len1);
+
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int dest = base1;
+
+        counter.write(a, dest++, counter.read(a, cursor2++));
+        if (--len2 == 0) {
+            counter.copy(tmp, cursor1, a, dest, len1);
+            return;
+        }
+        if (len1 == 1) {
+            counter.copy(a, cursor2, a, dest, len2);
+            counter.write(a, dest + len2, counter.read(tmp, cursor1));
+            return;
+        }
+
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0; // times in a row run1 won
+            int count2 = 0; // times in a row run2 won
+
+            // One element at a time until one run starts winning consistently. The two heads stay in locals:
+            // the JIT cannot tell that the store to a[dest] leaves a[cursor2] and tmp[cursor1] alone
+            int head1 = counter.read(tmp, cursor1);
+            int head2 = counter.read(a, cursor2);
+            do {
+                if (counter.less(head2, head1)) {
+                    counter.write(a, dest++, head2);
+                    cursor2++;
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 0) break outer;
+                    head2 = counter.read(a, cursor2);
+                } else {
+                    counter.write(a, dest++, head1);
+                    cursor1++;
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 1) break outer;
+                    head1 = counter.read(tmp, cursor1);
+                }
+            } while ((count1 | count2) < minGallop);
+
+            // Galloping mode: find whole blocks with binary search and copy them at once
+            do {
+                count1 = gallopRight(counter.read(a, cursor2), tmp, cursor1, len1, 0, counter);
+                if (count1 != 0) {
+                    counter.copy(tmp, cursor1, a, dest, count1);
+                    dest += count1;
+                    cursor1 += count1;
+                    len1 -= count1;
+                    if (len1 <= 1) break outer;
+                }
+                counter.write(a, dest++, counter.read(a, cursor2++));
+                if (--len2 == 0) break outer;
+
+                count2 = gallopLeft(counter.read(tmp, cursor1), a, cursor2, len2, 0, counter);
+                if (count2 != 0) {
+                    counter.copy(a, cursor2, a, dest, count2);
+                    dest += count2;
+                    cursor2 += count2;
+                    len2 -= count2;
+                    if (len2 == 0) break outer;
+                }
+                counter.write(a, dest++, counter.read(tmp, cursor1++));
+                if (--len1 == 1) break outer;
+                minGallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+            // Galloping stopped paying off: make it harder to re-enter
+            if (minGallop < 0) minGallop = 0;
+            minGallop += 2;
+        }
+        this.minGallop = Math.max(1, minGallop);
+
+        if (len1 == 1) {
+            counter.copy(a, cursor2, a, dest, len2);
+            counter.write(a, dest + len2, counter.read(tmp, cursor1)); // last element of run1 goes at the very end
+        } else {
+            counter.copy(tmp, cursor1, a, dest, len1);
+        }
+    }
+
+    // Mirror image of mergeLo: run2 is copied to tmp and the merge runs right to left
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+        int[] a = this.a;
+        OpCounter counter = this.counter;
+        int[] tmp = ensureCapacity(len2);
+        counter.copy(a, base2, tmp, 0, len2);
+
+        int cursor1 = base1 + len1 - 1;
+        int cursor2 = len2 - 1;
+        int dest = base2 + len2 - 1;
+
+        counter.write(a, dest--, counter.read(a, cursor1--));
+        if (--len1 == 0) {
+            counter.copy(tmp, 0, a, dest - (len2 - 1), len2);
+            return;
+        }
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            counter.copy(a, cursor1 + 1, a, dest + 1, len1);
+            counter.write(a, dest, counter.read(tmp, cursor2));
+            return;
+        }
+
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;
+            int count2 = 0;
+
+            int head1 = counter.read(a, cursor1);
+            int head2 = counter.read(tmp, cursor2);
+            do {
+                if (counter.less(head2, head1)) {
+                    counter.write(a, dest--, head1);
+                    cursor1--;
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 0) break outer;
+                    head1 = counter.read(a, cursor1);
+                } else {
+                    counter.write(a, dest--, head2);
+                    cursor2--;
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 1) break outer;
+                    head2 = counter.read(tmp, cursor2);
+                }
+            } while ((count1 | count2) < minGallop);
+
+            do {
+                count1 = len1 - gallopRight(counter.read(tmp, cursor2), a, base1, len1, len1 - 1, counter);
+                if (count1 != 0) {
+                    dest -= count1;
+                    cursor1 -= count1;
+                    len1 -= count1;
+                    counter.copy(a, cursor1 + 1, a, dest + 1, count1);
+                    if (len1 == 0) break outer;
+                }
+                counter.write(a, dest--, counter.read(tmp, cursor2--));
+                if (--len2 == 1) break outer;
+
+                count2 = len2 - gallopLeft(counter.read(a, cursor1), tmp, 0, len2, len2 - 1, counter);
+                if (count2 != 0) {
+                    dest -= count2;
+                    cursor2 -= count2;
+                    len2 -= count2;
+                    counter.copy(tmp, cursor2 + 1, a, dest + 1, count2);
+                    if (len2 <= 1) break outer;
+                }
+                counter.write(a, dest--, counter.read(a, cursor1--));
+                if (--len1 == 0) break outer;
+                minGallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+            if (minGallop < 0) minGallop = 0;
+            minGallop += 2;
+        }
+        this.minGallop = Math.max(1, minGallop);
+
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            counter.copy(a, cursor1 + 1, a, dest + 1, len1);
+            counter.write(a, dest, counter.read(tmp, cursor2)); // first element of run2 goes at the very front
+        } else {
+            counter.copy(tmp, 0, a, dest - (len2 - 1), len2);
+        }
+    }
+
+    // The single temp buffer: grown to the next power of two, capped at n / 2, kept for the next sort
+    private int[] ensureCapacity(int minCapacity) {
+        if (tmp.length < minCapacity) {
+            int newSize = Integer.highestOneBit(minCapacity) << 1;
+            if (newSize < 0) newSize = minCapacity; // overflow
+            else newSize = Math.max(minCapacity, Math.min(newSize, a.length >>> 1));
+            tmp = new int[newSize];
         }
-        while (i < len1) arr[k++] = left[i++];
-        while (j < len2) arr[k++] = right[j++];
+        return tmp;
     }
 
     // --- BIG O CONTRACT (Updated to match Parent) ---
 
     @Override
     public String getBestTime() {
-        return "O(n)"; // If array is already sorted (Insertion sort detects this)
+        return "O(n)"; // Already sorted (or reversed): one natural run, no merges
     }
 
     @Override
@@ -98,7 +558,7 @@ public class Tim extends BigOSort {
 
     @Override
     public String getSpaceComplexity() {
-        return "O(n)"; // Needs temp arrays for merging
+        return "O(n)"; // One temp buffer of at most n / 2 elements
     }
 
     // --- TEST RUNNER ---
@@ -111,5 +571,6 @@ public class Tim extends BigOSort {
 
         sorter.run(input);
         System.out.println("Sorted: " + Arrays.toString(input));
+        System.out.println("Stats:  " + sorter.getLastRunDetails());
     }
 }
\ No newline at end of file
@@ -1,71 +1,219 @@
 package com.example.arena.sorting.algorithms;
 
 import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.OpCounter;
 import java.util.Arrays;
 
+/**
+ * Tree
+ * Tree Sort on a self-balancing AVL tree.
+ *
+ * The tree is an "array of structs" turned inside out: node i is (value[i], count[i], left[i], right[i], height[i]),
+ * so there is no object per element, the whole tree is five primitive arrays sized once from n,
+ * and child links are plain int indices (0 = no child).
+ * - Insert walks down iteratively, remembering the path, then rebalances back up that path.
+ * - Duplicates increment count[] instead of adding nodes.
+ * - The in-order walk uses an explicit stack bounded by the tree height (about 1.44 log2 n).
+ */
 public class Tree extends BigOSort {
 
+    private int lastNodes;
+    private int lastHeight;
+
     // 1. Constructor
     public Tree() {
-        super("Tree Sort (Binary Search Tree)");
-    }
-
-    // Inner Node class for the BST
-    private static class Node {
-        int value;
-        Node left, right;
-
-        Node(int value) {
-            this.value = value;
-            left = right = null;
-        }
+        super("Tree Sort (Array-backed AVL Tree)");
     }
 
     // 2. Logic
     @Override
     public void run(int[] arr) {
+        run(arr, OpCounter.NONE);
+    }
+
+    // Counts comparisons on the way down and element reads / writes, see BigOSort.run(int[], OpCounter);
+    // link and height updates are not element operations
+    @Override
+    public void run(int[] arr, OpCounter counter) {
+        lastNodes = 0;
+        lastHeight = 0;
         if (arr.length == 0) return;
 
-        // Step 1: Build the BST
-        Node root = null;
-        for (int value : arr) {
-            root = insert(root, value);
+        // Step 1: Build the balanced tree (at most one node per element)
+        IntAvlTree tree = new IntAvlTree(arr.length);
+        for (int i = 0; i < arr.length; i++) {
+            tree.add(counter.read(arr, i), counter);
         }
 
-        // Step 2: In-Order Traversal to populate the array
-        // We use a single-element array to track the index by reference
-        int[] indexTracker = {0};
-        inOrderRec(root, arr, indexTracker);
+        // Step 2: In-order traversal writes the keys (with their multiplicities) back
+        tree.writeInOrder(arr, counter);
+
+        lastNodes = tree.size;
+        lastHeight = tree.height[tree.root];
     }
 
-    // Helper: Recursive Insert
-    private Node insert(Node root, int value) {
-        if (root == null) {
-            root = new Node(value);
-            return root;
-        }
-        if (value < root.value)
-            root.left = insert(root.left, value);
-        else if (value >= root.value) // Handle duplicates by putting them on right
-            root.right = insert(root.right, value);
+    @Override
+    public boolean isInstrumented() {
+        return true;
+    }
 
-        return root;
+    @Override
+    public String getLastRunDetails() {
+        return "nodes=" + lastNodes + ", height=" + lastHeight;
     }
 
-    // Helper: In-Order Traversal (Sorted)
-    private void inOrderRec(Node root, int[] arr, int[] indexTracker) {
-        if (root != null) {
-            inOrderRec(root.left, arr, indexTracker);
-            arr[indexTracker[0]++] = root.value; // Write back to array
-            inOrderRec(root.right, arr, indexTracker);
+    /*
+     * AVL tree over parallel primitive arrays. Index 0 is the null sentinel with height 0,
+     * which keeps the balance-factor arithmetic free of null checks.
+     */
+    private static final class IntAvlTree {
+        // An AVL tree of 2^31 nodes is at most ~45 levels deep
+        private static final int MAX_HEIGHT = 64;
+
+        final int[] value;
+        final int[] count;
+        final int[] left;
+        final int[] right;
+        final byte[] height;
+
+        int root;
+        int size;
+
+        // Reused by every insert: the nodes visited on the way down
+        private final int[] path = new int[MAX_HEIGHT];
+
+        IntAvlTree(int capacity) {
+            value = new int[capacity + 1];
+            count = new int[capacity + 1];
+            left = new int[capacity + 1];
+            right = new int[capacity + 1];
+            height = new byte[capacity + 1];
+        }
+
+        // One three-way comparison per node on the way down
+        void add(int v, OpCounter counter) {
+            if (root == 0) {
+                root = newNode(v);
+                return;
+            }
+
+            // Step 1: Walk down, recording the path
+            int depth = 0;
+            int cur = root;
+            while (true) {
+                path[depth++] = cur;
+                int cmp = counter.compare(v, counter.read(value, cur));
+                if (cmp == 0) {
+                    count[cur]++;
+                    return; // Duplicate: the shape does not change
+                }
+                if (cmp < 0) {
+                    if (left[cur] == 0) {
+                        left[cur] = newNode(v);
+                        break;
+                    }
+                    cur = left[cur];
+                } else {
+                    if (right[cur] == 0) {
+                        right[cur] = newNode(v);
+                        break;
+                    }
+                    cur = right[cur];
+                }
+            }
+            rebalancePath(depth);
+        }
+
+        // Step 2: Rebalance back up path[0, depth); once a subtree keeps its old height, nothing above it changes
+        private void rebalancePath(int depth) {
+            for (int i = depth - 1; i >= 0; i--) {
+                int node = path[i];
+                int oldHeight = height[node];
+                int subtree = rebalance(node);
+
+                if (i == 0) {
+                    root = subtree;
+                } else if (left[path[i - 1]] == node) {
+                    left[path[i - 1]] = subtree;
+                } else {
+                    right[path[i - 1]] = subtree;
+                }
+                if (height[subtree] == oldHeight) return;
+            }
+        }
+
+        private int newNode(int v) {
+            int node = ++size;
+            value[node] = v;
+            count[node] = 1;
+            height[node] = 1;
+            return node;
+        }
+
+        // Restores the AVL property at 'node' and returns the new root of its subtree
+        private int rebalance(int node) {
+            updateHeight(node);
+            int balance = height[left[node]] - height[right[node]];
+            if (balance > 1) {
+                int l = left[node];
+                if (height[left[l]] < height[right[l]]) left[node] = rotateLeft(l); // Left-Right case
+                return rotateRight(node);
+            }
+            if (balance < -1) {
+                int r = right[node];
+                if (height[right[r]] < height[left[r]]) right[node] = rotateRight(r); // Right-Left case
+                return rotateLeft(node);
+            }
+            return node;
+        }
+
+        private int rotateRight(int node) {
+            int pivot = left[node];
+            left[node] = right[pivot];
+            right[pivot] = node;
+            updateHeight(node);
+            updateHeight(pivot);
+            return pivot;
+        }
+
+        private int rotateLeft(int node) {
+            int pivot = right[node];
+            right[node] = left[pivot];
+            left[pivot] = node;
+            updateHeight(node);
+            updateHeight(pivot);
+            return pivot;
+        }
+
+        private void updateHeight(int node) {
+            height[node] = (byte) (1 + Math.max(height[left[node]], height[right[node]]));
+        }
+
+        // Iterative in-order walk: the stack holds the nodes whose left subtree is being visited
+        void writeInOrder(int[] out, OpCounter counter) {
+            int[] stack = new int[height[root]];
+            int top = 0;
+            int index = 0;
+            int cur = root;
+            while (cur != 0 || top > 0) {
+                while (cur != 0) {
+                    stack[top++] = cur;
+                    cur = left[cur];
+                }
+                cur = stack[--top];
+                Arrays.fill(out, index, index + count[cur], counter.read(value, cur));
+                counter.add(0, 0, count[cur]);
+                index += count[cur];
+                cur = right[cur];
+            }
         }
     }
 
-    // --- BIG O CONTRACT (Updated to match Parent) ---
+    // --- BIG O CONTRACT ---
 
     @Override
     public String getBestTime() {
-        return "O(n log n)"; // Balanced Tree
+        return "O(n)"; // All keys equal: a single node whose count grows
     }
 
     @Override
@@ -75,12 +223,12 @@ public class Tree extends BigOSort {
 
     @Override
     public String getWorstTime() {
-        return "O(n^2)"; // Skewed Tree (e.g., input is already sorted)
+        return "O(n log n)"; // AVL height <= 1.44 log2 n, sorted input included
     }
 
     @Override
     public String getSpaceComplexity() {
-        return "O(n)"; // Storing nodes
+        return "O(n)"; // 4 ints + 1 byte per distinct key, allocated once
     }
 
     // --- TEST RUNNER ---
@@ -93,5 +241,6 @@ public class Tree extends BigOSort {
 
         sorter.run(input);
         System.out.println("Sorted: " + Arrays.toString(input));
+        System.out.println("Stats:  " + sorter.getLastRunDetails());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package com.example.arena.sorting.dataset;
+
+/**
+ * DatasetGenerator
+ * Produces the input array for one arena run.
+ *
+ * Implementations must be deterministic: the same (size, seed) pair always yields the same array,
+ * so every algorithm in a sweep sorts identical data and runs are reproducible across machines.
+ * The built-in shapes live in {@link Distribution}; anything else can be plugged in as a lambda.
+ */
+@FunctionalInterface
+public interface DatasetGenerator {
+
+    int[] generate(int size, long seed);
+
+    // Name used in arena output and benchmark reports
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    static DatasetGenerator named(String name, DatasetGenerator generator) {
+        return new DatasetGenerator() {
+            @Override
+            public int[] generate(int size, long seed) {
+                return generator.generate(size, seed);
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
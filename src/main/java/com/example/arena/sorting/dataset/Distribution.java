@@ -0,0 +1,199 @@
+package com.example.arena.sorting.dataset;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Distribution
+ * The standard input shapes of the arena.
+ *
+ * Uniform random data hides most of the interesting behaviour:
+ * Quick Sort's last-element pivot only collapses on SORTED / REVERSED / ALL_EQUAL,
+ * Tim Sort only shines on runs (NEARLY_SORTED, SAWTOOTH, ORGAN_PIPE),
+ * and Counting / Radix only break on FULL_RANGE negatives.
+ */
+public enum Distribution implements DatasetGenerator {
+
+    // The arena's historical dataset: uniform values in [0, 1_000_000]
+    UNIFORM("Uniform Random") {
+        @Override
+        public int[] generate(int size, long seed) {
+            Random random = new Random(seed);
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = random.nextInt(UNIFORM_BOUND + 1);
+            }
+            return arr;
+        }
+    },
+
+    SORTED("Sorted") {
+        @Override
+        public int[] generate(int size, long seed) {
+            int[] arr = UNIFORM.generate(size, seed);
+            Arrays.sort(arr);
+            return arr;
+        }
+    },
+
+    REVERSED("Reverse Sorted") {
+        @Override
+        public int[] generate(int size, long seed) {
+            int[] arr = SORTED.generate(size, seed);
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                int temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
+            }
+            return arr;
+        }
+    },
+
+    // Sorted, then 1% of the positions swapped at random
+    NEARLY_SORTED("Nearly Sorted (1% swaps)") {
+        @Override
+        public int[] generate(int size, long seed) {
+            return nearlySorted(Math.max(1, size / 100)).generate(size, seed);
+        }
+    },
+
+    // Ascending to the middle, then descending: 1 2 3 4 3 2 1
+    ORGAN_PIPE("Organ Pipe") {
+        @Override
+        public int[] generate(int size, long seed) {
+            int[] arr = new int[size];
+            int half = size / 2;
+            for (int i = 0; i < size; i++) {
+                arr[i] = i < half ? i : size - 1 - i;
+            }
+            return arr;
+        }
+    },
+
+    // Only 16 distinct values, so almost every comparison is a tie
+    FEW_UNIQUE("Few Unique (16 values)") {
+        @Override
+        public int[] generate(int size, long seed) {
+            Random random = new Random(seed);
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = random.nextInt(FEW_UNIQUE_VALUES) * (UNIFORM_BOUND / FEW_UNIQUE_VALUES);
+            }
+            return arr;
+        }
+    },
+
+    // Heavy-head skew (s = 1.1): a handful of values account for most of the array, like real event keys
+    ZIPF("Zipfian (s=1.1)") {
+        @Override
+        public int[] generate(int size, long seed) {
+            return zipf(ZIPF_EXPONENT).generate(size, seed);
+        }
+    },
+
+    // sqrt(n) ascending runs back to back: /|/|/|/|
+    SAWTOOTH("Sawtooth") {
+        @Override
+        public int[] generate(int size, long seed) {
+            int[] arr = new int[size];
+            int tooth = Math.max(2, (int) Math.sqrt(size));
+            for (int i = 0; i < size; i++) {
+                arr[i] = i % tooth;
+            }
+            return arr;
+        }
+    },
+
+    ALL_EQUAL("All Equal") {
+        @Override
+        public int[] generate(int size, long seed) {
+            int[] arr = new int[size];
+            Arrays.fill(arr, 42);
+            return arr;
+        }
+    },
+
+    // Integer.MIN_VALUE..Integer.MAX_VALUE, half of it negative
+    FULL_RANGE("Full Range (incl. negatives)") {
+        @Override
+        public int[] generate(int size, long seed) {
+            Random random = new Random(seed);
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = random.nextInt();
+            }
+            return arr;
+        }
+    };
+
+    public static final long DEFAULT_SEED = 42L;
+
+    private static final int UNIFORM_BOUND = 1_000_000;
+    private static final int FEW_UNIQUE_VALUES = 16;
+    private static final double ZIPF_EXPONENT = 1.1;
+    // Zipf ranks beyond this contribute almost nothing, and the CDF table stays small
+    private static final int ZIPF_MAX_RANKS = 1 << 16;
+
+    private final String displayName;
+
+    Distribution(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String getName() {
+        return displayName;
+    }
+
+    // --- PARAMETERISED GENERATORS ---
+
+    /**
+     * Sorted input with exactly {@code swaps} random pair swaps (k-sortedness knob).
+     */
+    public static DatasetGenerator nearlySorted(int swaps) {
+        return DatasetGenerator.named("Nearly Sorted (" + swaps + " swaps)", (size, seed) -> {
+            int[] arr = SORTED.generate(size, seed);
+            if (size < 2) return arr;
+            Random random = new Random(seed ^ 0x5DEECE66DL);
+            for (int s = 0; s < swaps; s++) {
+                int i = random.nextInt(size);
+                int j = random.nextInt(size);
+                int temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
+            }
+            return arr;
+        });
+    }
+
+    /**
+     * Zipf-distributed ranks 1..min(size, 65536) with the given exponent, sampled by inverse CDF.
+     */
+    public static DatasetGenerator zipf(double exponent) {
+        return DatasetGenerator.named("Zipfian (s=" + exponent + ")", (size, seed) -> {
+            int ranks = Math.max(1, Math.min(size, ZIPF_MAX_RANKS));
+            double[] cdf = new double[ranks];
+            double total = 0;
+            for (int r = 0; r < ranks; r++) {
+                total += 1.0 / Math.pow(r + 1, exponent);
+                cdf[r] = total;
+            }
+
+            Random random = new Random(seed);
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                int pos = Arrays.binarySearch(cdf, random.nextDouble() * total);
+                arr[i] = (pos >= 0 ? pos : -pos - 1) + 1; // insertion point -> rank
+            }
+            return arr;
+        });
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        for (Distribution distribution : values()) {
+            int[] sample = distribution.generate(20, DEFAULT_SEED);
+            System.out.printf("%-30s %s%n", distribution.getName(), Arrays.toString(sample));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.arena.sorting.dataset;
+
+import java.util.Random;
+
+/**
+ * KeyDatasets
+ * Widens an int dataset into the other key types of the arena (long, double, float, objects),
+ * keeping the shape of the source distribution: sorted stays sorted, few-unique stays few-unique.
+ */
+public final class KeyDatasets {
+
+    private KeyDatasets() {
+    }
+
+    // v << 31 plus random low bits: same order as the ints, but the full 64-bit width is exercised
+    public static long[] longs(DatasetGenerator generator, int size, long seed) {
+        int[] ints = generator.generate(size, seed);
+        Random random = new Random(seed);
+        long[] arr = new long[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = ((long) ints[i] << 31) | random.nextInt(Integer.MAX_VALUE);
+        }
+        return arr;
+    }
+
+    // v plus a random fraction in [0, 1): ties of the int data become near-ties
+    public static double[] doubles(DatasetGenerator generator, int size, long seed) {
+        int[] ints = generator.generate(size, seed);
+        Random random = new Random(seed);
+        double[] arr = new double[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = ints[i] + random.nextDouble();
+        }
+        return arr;
+    }
+
+    public static float[] floats(DatasetGenerator generator, int size, long seed) {
+        int[] ints = generator.generate(size, seed);
+        Random random = new Random(seed);
+        float[] arr = new float[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = ints[i] + random.nextFloat();
+        }
+        return arr;
+    }
+
+    public static Integer[] objects(DatasetGenerator generator, int size, long seed) {
+        int[] ints = generator.generate(size, seed);
+        Integer[] arr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = ints[i];
+        }
+        return arr;
+    }
+}
@@ -0,0 +1,473 @@
+package com.example.arena.sorting.external;
+
+import com.example.arena.complexity.Complexity;
+import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.KeyType;
+import com.example.arena.sorting.LoserTree;
+import com.example.arena.sorting.algorithms.LsdRadix;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * ExternalSort
+ * Sorts a binary file of ints or longs that does not fit on the heap: the classic two-phase external merge sort.
+ *
+ * Phase 1, runs:  the input is read in chunks through FileChannel, each chunk is sorted in memory by any
+ *                 BigOSort that supports the key type, and spilled to a run file. parallelRuns chunks are
+ *                 read, sorted and written at the same time, each by its own sorter instance.
+ * Phase 2, merge: up to fanIn runs at a time are merged through a {@link LoserTree}, reading every run through
+ *                 a sliding MappedByteBuffer window and writing through one direct buffer. With more runs than
+ *                 fanIn, intermediate passes merge groups of fanIn runs into longer runs first. Every run's
+ *                 channel is closed, and its window dropped, as soon as the run is exhausted.
+ *
+ * The memory budget covers the chunks: every parallel chunk needs its key array, an equally large I/O buffer, and
+ * the sorter's own scratch (another key array for an O(n)-space sorter such as LsdRadix or Merge, nothing for an
+ * O(1) or O(log n) one, see scratchArrays), so a chunk holds
+ * memoryBudget / parallelRuns / ((2 + scratchArrays) * key width) keys. Mapped windows live in the page cache,
+ * not on the heap; MappedByteBuffer has no explicit unmap, so a dropped window is unmapped once it is collected.
+ *
+ * Files are headerless keys in the configured byte order (big-endian by default, as DataOutputStream writes them).
+ */
+public class ExternalSort {
+
+    public static final long DEFAULT_MEMORY_BUDGET_BYTES = 256L << 20;
+    public static final int DEFAULT_FAN_IN = 64;
+
+    // Per-run mapped window and the merge's output buffer
+    private static final int MERGE_WINDOW_BYTES = 8 << 20;
+    private static final int OUTPUT_BUFFER_BYTES = 4 << 20;
+
+    // Largest Java array the chunk can use; its ByteBuffer (Integer.MAX_VALUE bytes at most) caps it further
+    private static final int MAX_CHUNK_ELEMENTS = Integer.MAX_VALUE - 8;
+
+    private final Supplier<? extends BigOSort> sorter;
+    private final KeyType keyType;
+    private final long memoryBudgetBytes;
+    private final int fanIn;
+    private final int parallelRuns;
+    private final ByteOrder byteOrder;
+    private final Path tempDirectory;
+    // Key arrays the sorter allocates next to the one it sorts, see scratchArrays()
+    private final int scratchArrays;
+
+    /**
+     * What one sort did: sizes, run and merge pass counts, and time per phase.
+     * Throughput is input bytes per second; the merge figure counts every pass over the data.
+     */
+    public record Stats(long bytes, long elements, int runs, int mergePasses, long runNanos, long mergeNanos) {
+
+        public double runMegabytesPerSecond() {
+            return megabytesPerSecond(bytes, runNanos);
+        }
+
+        public double mergeMegabytesPerSecond() {
+            return megabytesPerSecond(bytes * mergePasses, mergeNanos);
+        }
+
+        public double totalMegabytesPerSecond() {
+            return megabytesPerSecond(bytes, runNanos + mergeNanos);
+        }
+
+        private static double megabytesPerSecond(long bytes, long nanos) {
+            return nanos == 0 ? 0 : bytes / 1e6 / (nanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d keys (%.1f MB), %d run(s), %d merge pass(es): runs %.0f ms (%.1f MB/s), "
+                            + "merge %.0f ms (%.1f MB/s), total %.1f MB/s", elements, bytes / 1e6, runs, mergePasses,
+                    runNanos / 1e6, runMegabytesPerSecond(), mergeNanos / 1e6, mergeMegabytesPerSecond(),
+                    totalMegabytesPerSecond());
+        }
+    }
+
+    // 1. Constructors
+    public ExternalSort(Supplier<? extends BigOSort> sorter, KeyType keyType) {
+        this(sorter, keyType, DEFAULT_MEMORY_BUDGET_BYTES, DEFAULT_FAN_IN, 1, ByteOrder.BIG_ENDIAN,
+                Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    public ExternalSort(Supplier<? extends BigOSort> sorter, KeyType keyType, long memoryBudgetBytes, int fanIn,
+                        int parallelRuns, ByteOrder byteOrder, Path tempDirectory) {
+        if (keyType != KeyType.INT && keyType != KeyType.LONG) {
+            throw new IllegalArgumentException("External sort handles int and long keys only, not " + keyType);
+        }
+        BigOSort probe = sorter.get();
+        if (!probe.supports(keyType)) {
+            throw new IllegalArgumentException(probe.getSortName() + " does not support " + keyType.getDescription());
+        }
+        if (fanIn < 2) throw new IllegalArgumentException("fanIn must be >= 2: " + fanIn);
+        if (parallelRuns < 1) throw new IllegalArgumentException("parallelRuns must be >= 1: " + parallelRuns);
+        int scratchArrays = scratchArrays(probe);
+        if (memoryBudgetBytes < (2L + scratchArrays) * width(keyType) * parallelRuns) {
+            throw new IllegalArgumentException("Memory budget too small: " + memoryBudgetBytes + " bytes");
+        }
+        this.sorter = sorter;
+        this.keyType = keyType;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.fanIn = fanIn;
+        this.parallelRuns = parallelRuns;
+        this.byteOrder = byteOrder;
+        this.tempDirectory = tempDirectory;
+        this.scratchArrays = scratchArrays;
+    }
+
+    // 2. Logic
+
+    /**
+     * Sorts input into output (which is created or replaced). Run files go to a fresh directory under
+     * tempDirectory and are deleted afterwards, also on failure.
+     */
+    public Stats sort(Path input, Path output) throws IOException {
+        int width = width(keyType);
+        long bytes = Files.size(input);
+        if (bytes % width != 0) {
+            throw new IOException(input + " is " + bytes + " bytes, not a whole number of " + width + "-byte keys");
+        }
+        long elements = bytes / width;
+
+        Path workDirectory = Files.createTempDirectory(tempDirectory, "external-sort-");
+        try {
+            long start = System.nanoTime();
+            List<Path> runs = createRuns(input, elements, workDirectory);
+            long runNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int passes = 1;
+            int runCount = runs.size();
+            while (runs.size() > fanIn) {
+                runs = mergePass(runs, workDirectory);
+                passes++;
+            }
+            merge(runs, output);
+            long mergeNanos = System.nanoTime() - start;
+
+            return new Stats(bytes, elements, runCount, passes, runNanos, mergeNanos);
+        } finally {
+            deleteRecursively(workDirectory);
+        }
+    }
+
+    // --- PHASE 1: RUNS ---
+
+    /*
+     * Chunk i covers keys [i * chunkElements, (i + 1) * chunkElements). Workers claim chunks from a shared
+     * counter, so run files keep the input's chunk order whatever the scheduling.
+     * Each worker's share of the budget holds the chunk's keys, its I/O buffer and the sorter's scratch arrays.
+     */
+    private List<Path> createRuns(Path input, long elements, Path workDirectory) throws IOException {
+        int width = width(keyType);
+        long maxChunkElements = Math.min(MAX_CHUNK_ELEMENTS, Integer.MAX_VALUE / width);
+        long budgetElements = Math.min(maxChunkElements,
+                memoryBudgetBytes / parallelRuns / ((2L + scratchArrays) * width));
+        long chunkElements = Math.max(1, Math.min(budgetElements, elements));
+        int chunks = (int) ((elements + chunkElements - 1) / chunkElements);
+        Path[] runs = new Path[chunks];
+
+        int workers = Math.min(parallelRuns, Math.max(1, chunks));
+        AtomicInteger nextChunk = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            List<Future<Void>> futures = new ArrayList<>();
+            int perChunk = (int) chunkElements;
+            for (int w = 0; w < workers; w++) {
+                futures.add(pool.submit(() -> {
+                    RunWriter writer = new RunWriter(sorter.get(), perChunk);
+                    for (int chunk = nextChunk.getAndIncrement(); chunk < chunks; chunk = nextChunk.getAndIncrement()) {
+                        long first = chunk * chunkElements;
+                        int count = (int) Math.min(chunkElements, elements - first);
+                        Path run = workDirectory.resolve(String.format("run-%06d.bin", chunk));
+                        writer.write(in, first * width, count, run);
+                        runs[chunk] = run;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) await(future);
+        } finally {
+            pool.shutdownNow();
+        }
+        return List.of(runs);
+    }
+
+    // One per worker: the key array and the I/O buffer are allocated once and reused for every chunk
+    private final class RunWriter {
+        private final BigOSort sort;
+        private final ByteBuffer buffer;
+        private int[] ints;
+        private long[] longs;
+
+        RunWriter(BigOSort sort, int chunkElements) {
+            this.sort = sort;
+            this.buffer = ByteBuffer.allocateDirect(Math.toIntExact((long) chunkElements * width(keyType)))
+                    .order(byteOrder);
+        }
+
+        void write(FileChannel in, long position, int count, Path run) throws IOException {
+            buffer.clear().limit(Math.toIntExact((long) count * width(keyType)));
+            readFully(in, buffer, position);
+            buffer.flip();
+
+            // The sorters take whole arrays, so the (shorter) last chunk gets an exact-size one
+            if (keyType == KeyType.INT) {
+                if (ints == null || ints.length != count) ints = new int[count];
+                buffer.asIntBuffer().get(ints);
+                sort.run(ints);
+                buffer.asIntBuffer().put(ints);
+            } else {
+                if (longs == null || longs.length != count) longs = new long[count];
+                buffer.asLongBuffer().get(longs);
+                sort.run(longs);
+                buffer.asLongBuffer().put(longs);
+            }
+
+            try (FileChannel out = FileChannel.open(run, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                writeFully(out, buffer);
+            }
+        }
+    }
+
+    // --- PHASE 2: MERGE ---
+
+    // Merges consecutive groups of fanIn runs into one longer run each
+    private List<Path> mergePass(List<Path> runs, Path workDirectory) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        for (int from = 0; from < runs.size(); from += fanIn) {
+            List<Path> group = runs.subList(from, Math.min(from + fanIn, runs.size()));
+            Path target = Files.createTempFile(workDirectory, "run-", ".bin");
+            merge(group, target);
+            for (Path run : group) Files.delete(run);
+            merged.add(target);
+        }
+        return merged;
+    }
+
+    private void merge(List<Path> runs, Path target) throws IOException {
+        int width = width(keyType);
+        List<RunReader> readers = new ArrayList<>();
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (runs.isEmpty()) return; // empty input: no runs, the truncated target is the result
+            for (Path run : runs) readers.add(new RunReader(run));
+
+            LoserTree tree = new LoserTree(readers.size());
+            for (int s = 0; s < readers.size(); s++) {
+                RunReader reader = readers.get(s);
+                if (reader.hasNext()) tree.set(s, reader.next()); else tree.exhaust(s);
+            }
+            tree.build();
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_BYTES - OUTPUT_BUFFER_BYTES % width)
+                    .order(byteOrder);
+            while (!tree.isEmpty()) {
+                if (width == Integer.BYTES) buffer.putInt((int) tree.winnerKey()); else buffer.putLong(tree.winnerKey());
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    writeFully(out, buffer);
+                    buffer.clear();
+                }
+
+                RunReader reader = readers.get(tree.winner());
+                if (reader.hasNext()) tree.replaceWinner(reader.next()); else tree.exhaustWinner();
+            }
+            buffer.flip();
+            writeFully(out, buffer);
+        } finally {
+            for (RunReader reader : readers) reader.close();
+        }
+    }
+
+    /*
+     * Sequential reader over one run file through a read-only mapping of at most MERGE_WINDOW_BYTES,
+     * remapped as it advances, so runs may be larger than one mapping (2 GB) and address space stays bounded.
+     */
+    private final class RunReader {
+        private final FileChannel channel;
+        private final long size;
+        private final int width = width(keyType);
+        private long windowStart;
+        private MappedByteBuffer window;
+
+        RunReader(Path run) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.size = channel.size();
+            map(0);
+        }
+
+        boolean hasNext() throws IOException {
+            if (window == null) return false; // exhausted and closed
+            if (window.hasRemaining()) return true;
+            long next = windowStart + window.capacity();
+            if (next >= size) {
+                close();
+                return false;
+            }
+            window = null; // the old mapping becomes collectable before the next one is made
+            map(next);
+            return true;
+        }
+
+        long next() {
+            return width == Integer.BYTES ? window.getInt() : window.getLong();
+        }
+
+        private void map(long start) throws IOException {
+            long length = Math.min(size - start, MERGE_WINDOW_BYTES - MERGE_WINDOW_BYTES % width);
+            windowStart = start;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            window.order(byteOrder);
+        }
+
+        // Idempotent: called when the run is exhausted, and again when the merge ends (or fails)
+        void close() throws IOException {
+            window = null;
+            channel.close();
+        }
+    }
+
+    // --- HELPERS ---
+
+    private static int width(KeyType keyType) {
+        return keyType == KeyType.INT ? Integer.BYTES : Long.BYTES;
+    }
+
+    // Extra key arrays a sorter allocates, from its space contract: none below O(n), else one (also when unknown)
+    private static int scratchArrays(BigOSort sort) {
+        double degree = Complexity.parse(sort.getSpaceComplexity()).map(Complexity::getDegree).orElse(1.0);
+        return degree < 1 ? 0 : 1;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) throw new IOException("Unexpected end of file at byte " + position);
+            position += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+
+    private static void await(Future<Void> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while creating runs", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IOException("Run creation failed", e.getCause());
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    public long getMemoryBudgetBytes() {
+        return memoryBudgetBytes;
+    }
+
+    public int getFanIn() {
+        return fanIn;
+    }
+
+    public int getParallelRuns() {
+        return parallelRuns;
+    }
+
+    public int getScratchArrays() {
+        return scratchArrays;
+    }
+
+    // --- TEST RUNNER ---
+    // Usage: ExternalSort [int|long] [keys] [budget MB] [fanIn] [parallelRuns]
+    // Defaults (16M ints = 64 MB, 4 MB budget, fan-in 8) force dozens of runs and an intermediate merge pass.
+    public static void main(String[] args) throws IOException {
+        KeyType keyType = args.length > 0 && args[0].equalsIgnoreCase("long") ? KeyType.LONG : KeyType.INT;
+        long keys = args.length > 1 ? Long.parseLong(args[1]) : 16L << 20;
+        long budget = (args.length > 2 ? Long.parseLong(args[2]) : 4) << 20;
+        int fanIn = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+        int parallelRuns = args.length > 4 ? Integer.parseInt(args[4])
+                : Runtime.getRuntime().availableProcessors();
+
+        Path directory = Files.createTempDirectory("external-sort-demo-");
+        Path input = directory.resolve("input.bin");
+        Path output = directory.resolve("output.bin");
+        try {
+            writeRandom(input, keyType, keys);
+            ExternalSort sort = new ExternalSort(LsdRadix::new, keyType, budget, fanIn, parallelRuns,
+                    ByteOrder.BIG_ENDIAN, directory);
+            System.out.printf("Sorting %,d %s keys, %d MB budget, fan-in %d, %d parallel run(s)%n", keys,
+                    keyType.getDescription(), budget >> 20, fanIn, parallelRuns);
+
+            Stats stats = sort.sort(input, output);
+            System.out.println(stats);
+            System.out.println("Output sorted: " + isSorted(output, keyType));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private static void writeRandom(Path file, KeyType keyType, long keys) throws IOException {
+        Random random = new Random(42);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            for (long i = 0; i < keys; i++) {
+                if (keyType == KeyType.INT) buffer.putInt(random.nextInt()); else buffer.putLong(random.nextLong());
+                if (!buffer.hasRemaining()) {
+                    writeFully(out, buffer.flip());
+                    buffer.clear();
+                }
+            }
+            writeFully(out, buffer.flip());
+        }
+    }
+
+    private static boolean isSorted(Path file, KeyType keyType) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20); // a whole number of keys of either width
+            long size = in.size();
+            long previous = Long.MIN_VALUE;
+            for (long position = 0; position < size; position += buffer.limit()) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), size - position));
+                readFully(in, buffer, position);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    long key = keyType == KeyType.INT ? buffer.getInt() : buffer.getLong();
+                    if (key < previous) return false;
+                    previous = key;
+                }
+            }
+            return true;
+        }
+    }
+}
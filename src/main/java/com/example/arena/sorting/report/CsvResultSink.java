@@ -0,0 +1,58 @@
+package com.example.arena.sorting.report;
+
+import com.example.arena.model.BenchmarkResult;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * CsvResultSink
+ * One header line, then one RFC 4180 row per result, flushed as it arrives. Opens in spreadsheets as-is.
+ */
+public class CsvResultSink implements ResultSink {
+
+    static final String HEADER = "algorithm,distribution,size,status,detail,repetitions,"
+            + "min_ns,p50_ns,p90_ns,p99_ns,max_ns,comparisons,swaps,reads,writes,max_depth,allocated_bytes,"
+            + "start,end";
+
+    private final BufferedWriter out;
+
+    public CsvResultSink(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        this.out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        out.write(HEADER);
+        out.newLine();
+        out.flush();
+    }
+
+    @Override
+    public void accept(BenchmarkResult r) throws IOException {
+        out.write(String.join(",",
+                quote(r.algorithm()), quote(r.distribution()), String.valueOf(r.size()),
+                r.status().name(), quote(r.detail()), String.valueOf(r.repetitions()),
+                String.valueOf(r.minNanos()), String.valueOf(r.p50Nanos()), String.valueOf(r.p90Nanos()),
+                String.valueOf(r.p99Nanos()), String.valueOf(r.maxNanos()),
+                String.valueOf(r.comparisons()), String.valueOf(r.swaps()), String.valueOf(r.reads()),
+                String.valueOf(r.writes()), String.valueOf(r.maxRecursionDepth()), String.valueOf(r.allocatedBytes()),
+                String.valueOf(r.time().startTime()), String.valueOf(r.time().endTime())));
+        out.newLine();
+        out.flush();
+    }
+
+    // Quotes a field only when it has to: commas, quotes or line breaks
+    private static String quote(String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.arena.sorting.report;
+
+import com.example.arena.model.BenchmarkResult;
+import com.example.arena.model.RunStatus;
+import com.example.arena.model.Time;
+import com.example.arena.model.TwoDGraph;
+import com.example.arena.sorting.BigOSort;
+import com.example.arena.sorting.SortCatalog;
+import com.example.arena.sorting.dataset.Distribution;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GraphSeriesSink
+ * Turns results into one {@link TwoDGraph} per (algorithm, distribution): x = n, y = median time in microseconds.
+ *
+ * Unlike the file sinks this one is in memory, but it only keeps two ints per successful cell,
+ * never the samples or the full records. Failed cells leave a gap in the series.
+ * writeJson() saves the finished series as one JSON array, for plotting after the sweep.
+ */
+public class GraphSeriesSink implements ResultSink {
+
+    // Distinct, print-friendly colors; an algorithm keeps its color across every distribution
+    private static final String[] PALETTE = {
+            "#1F77B4", "#FF7F0E", "#2CA02C", "#D62728", "#9467BD", "#8C564B", "#E377C2", "#7F7F7F",
+            "#BCBD22", "#17BECF", "#393B79", "#637939", "#8C6D31", "#843C39", "#7B4173", "#3182BD"
+    };
+
+    private final Map<String, Series> series = new LinkedHashMap<>();
+
+    private static final class Series {
+        final String algorithm;
+        final String distribution;
+        int[] sizes = new int[8];
+        int[] micros = new int[8];
+        int points;
+        Instant first;
+        Instant last;
+
+        Series(String algorithm, String distribution) {
+            this.algorithm = algorithm;
+            this.distribution = distribution;
+        }
+
+        void add(int size, int median, Time time) {
+            if (points == sizes.length) {
+                sizes = Arrays.copyOf(sizes, points * 2);
+                micros = Arrays.copyOf(micros, points * 2);
+            }
+            sizes[points] = size;
+            micros[points] = median;
+            points++;
+            if (first == null || time.startTime().isBefore(first)) first = time.startTime();
+            if (last == null || time.endTime().isAfter(last)) last = time.endTime();
+        }
+    }
+
+    @Override
+    public void accept(BenchmarkResult result) {
+        if (result.status() != RunStatus.OK) return;
+        String key = result.algorithm() + '\u0000' + result.distribution();
+        int median = (int) Math.min(Integer.MAX_VALUE, result.p50Nanos() / 1_000);
+        series.computeIfAbsent(key, k -> new Series(result.algorithm(), result.distribution()))
+                .add(result.size(), median, result.time());
+    }
+
+    public List<TwoDGraph> getGraphs() {
+        List<TwoDGraph> graphs = new ArrayList<>();
+        List<String> algorithms = new ArrayList<>();
+        for (Series s : series.values()) {
+            if (!algorithms.contains(s.algorithm)) algorithms.add(s.algorithm);
+
+            TwoDGraph graph = new TwoDGraph();
+            graph.setGraphName(s.algorithm + " - " + s.distribution);
+            graph.setXAxisName("n");
+            graph.setYAxisName("median time (us)");
+            graph.setXAxisValues(Arrays.copyOf(s.sizes, s.points));
+            graph.setYAxisValues(Arrays.copyOf(s.micros, s.points));
+            graph.setTime(new Time(s.first, s.last));
+            graph.setColorHex(PALETTE[algorithms.indexOf(s.algorithm) % PALETTE.length]);
+            graphs.add(graph);
+        }
+        return graphs;
+    }
+
+    /**
+     * Writes getGraphs() as a JSON array of objects with TwoDGraph's field names (time as start / end).
+     */
+    public void writeJson(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write('[');
+            String separator = "";
+            for (TwoDGraph graph : getGraphs()) {
+                out.write(separator);
+                out.newLine();
+                out.write(new StringBuilder(256)
+                        .append("  {\"graphName\":").append(JsonLinesResultSink.string(graph.getGraphName()))
+                        .append(",\"xAxisName\":").append(JsonLinesResultSink.string(graph.getXAxisName()))
+                        .append(",\"yAxisName\":").append(JsonLinesResultSink.string(graph.getYAxisName()))
+                        .append(",\"xAxisValues\":").append(Arrays.toString(graph.getXAxisValues()))
+                        .append(",\"yAxisValues\":").append(Arrays.toString(graph.getYAxisValues()))
+                        .append(",\"start\":").append(JsonLinesResultSink.string(String.valueOf(graph.getTime().startTime())))
+                        .append(",\"end\":").append(JsonLinesResultSink.string(String.valueOf(graph.getTime().endTime())))
+                        .append(",\"colorHex\":").append(JsonLinesResultSink.string(graph.getColorHex()))
+                        .append('}')
+                        .toString());
+                separator = ",";
+            }
+            out.newLine();
+            out.write(']');
+            out.newLine();
+        }
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release; the graphs stay available after the sweep
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        GraphSeriesSink sink = new GraphSeriesSink();
+        for (String name : List.of("Merge", "Tim", "Intro")) {
+            BigOSort sort = SortCatalog.create(name);
+            for (int n = 1_000; n <= 256_000; n *= 4) {
+                int[] data = Distribution.UNIFORM.generate(n, Distribution.DEFAULT_SEED);
+                Instant start = Instant.now();
+                long begin = System.nanoTime();
+                sort.run(data);
+                long nanos = System.nanoTime() - begin;
+                sink.accept(BenchmarkResult.measured(sort.getSortName(), Distribution.UNIFORM.getName(), n,
+                        RunStatus.OK, new long[]{nanos}, BenchmarkResult.UNAVAILABLE, BenchmarkResult.UNAVAILABLE, BenchmarkResult.UNAVAILABLE,
+                        BenchmarkResult.UNAVAILABLE, BenchmarkResult.UNAVAILABLE, BenchmarkResult.UNAVAILABLE,
+                        start, Instant.now()));
+            }
+        }
+
+        for (TwoDGraph graph : sink.getGraphs()) {
+            System.out.printf("%-45s %s x=%s y=%s%n", graph.getGraphName(), graph.getColorHex(),
+                    Arrays.toString(graph.getXAxisValues()), Arrays.toString(graph.getYAxisValues()));
+        }
+    }
+}
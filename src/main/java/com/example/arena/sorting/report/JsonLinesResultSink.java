@@ -0,0 +1,79 @@
+package com.example.arena.sorting.report;
+
+import com.example.arena.model.BenchmarkResult;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JsonLinesResultSink
+ * One self-contained JSON object per line (https://jsonlines.org), flushed as it arrives.
+ * Appending a line never touches the earlier ones, which is what makes streaming a long sweep possible
+ * (a single JSON array could only be closed at the very end).
+ */
+public class JsonLinesResultSink implements ResultSink {
+
+    private final BufferedWriter out;
+
+    public JsonLinesResultSink(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        this.out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void accept(BenchmarkResult r) throws IOException {
+        out.write(new StringBuilder(320)
+                .append("{\"algorithm\":").append(string(r.algorithm()))
+                .append(",\"distribution\":").append(string(r.distribution()))
+                .append(",\"size\":").append(r.size())
+                .append(",\"status\":").append(string(r.status().name()))
+                .append(",\"detail\":").append(string(r.detail()))
+                .append(",\"repetitions\":").append(r.repetitions())
+                .append(",\"minNanos\":").append(r.minNanos())
+                .append(",\"p50Nanos\":").append(r.p50Nanos())
+                .append(",\"p90Nanos\":").append(r.p90Nanos())
+                .append(",\"p99Nanos\":").append(r.p99Nanos())
+                .append(",\"maxNanos\":").append(r.maxNanos())
+                .append(",\"comparisons\":").append(r.comparisons())
+                .append(",\"swaps\":").append(r.swaps())
+                .append(",\"reads\":").append(r.reads())
+                .append(",\"writes\":").append(r.writes())
+                .append(",\"maxRecursionDepth\":").append(r.maxRecursionDepth())
+                .append(",\"allocatedBytes\":").append(r.allocatedBytes())
+                .append(",\"start\":").append(string(String.valueOf(r.time().startTime())))
+                .append(",\"end\":").append(string(String.valueOf(r.time().endTime())))
+                .append('}')
+                .toString());
+        out.newLine();
+        out.flush();
+    }
+
+    // JSON string literal with the mandatory escapes (also used by GraphSeriesSink)
+    static String string(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.arena.sorting.report;
+
+import com.example.arena.model.BenchmarkResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * ResultSink
+ * Receives arena results one at a time, as each cell finishes.
+ *
+ * File sinks write (and flush) every result immediately, so a long sweep keeps nothing in memory
+ * and an interrupted run still leaves every finished cell on disk.
+ */
+public interface ResultSink extends Closeable {
+
+    void accept(BenchmarkResult result) throws IOException;
+
+    // Fans every result out to all the given sinks, closing them together
+    static ResultSink tee(ResultSink... sinks) {
+        List<ResultSink> targets = List.of(sinks);
+        return new ResultSink() {
+            @Override
+            public void accept(BenchmarkResult result) throws IOException {
+                for (ResultSink sink : targets) sink.accept(result);
+            }
+
+            @Override
+            public void close() throws IOException {
+                IOException failure = null;
+                for (ResultSink sink : targets) {
+                    try {
+                        sink.close();
+                    } catch (IOException e) {
+                        if (failure == null) failure = e;
+                        else failure.addSuppressed(e);
+                    }
+                }
+                if (failure != null) throw failure;
+            }
+        };
+    }
+}
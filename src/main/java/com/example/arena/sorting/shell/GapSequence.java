@@ -0,0 +1,33 @@
+package com.example.arena.sorting.shell;
+
+/**
+ * GapSequence
+ * The gap strategy behind {@link com.example.arena.sorting.algorithms.Shell}.
+ *
+ * gaps(n) returns the h-sorting passes for an array of length n: strictly decreasing, every gap below n,
+ * ending with 1 (the final pass is a plain insertion sort). Empty for n < 2.
+ * The published sequences live in {@link Gaps}; anything else can be plugged in as a lambda.
+ */
+@FunctionalInterface
+public interface GapSequence {
+
+    int[] gaps(int n);
+
+    // Name used in arena output and benchmark reports
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    // Complexity of Shell Sort with this sequence. Unknown sequences get the conservative bound.
+    default String getBestTime() {
+        return "O(n log n)";
+    }
+
+    default String getAverageTime() {
+        return "O(n^2)";
+    }
+
+    default String getWorstTime() {
+        return "O(n^2)";
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.arena.sorting.shell;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Gaps
+ * The published Shell Sort gap sequences, from the original to the empirically best.
+ *
+ * The gap sequence alone decides Shell Sort's complexity: Shell's own halving sequence is quadratic
+ * in the worst case because even and odd positions never meet before the last pass,
+ * while coprime-ish sequences (Hibbard, Sedgewick, Tokuda, Ciura) bring it down to n^(4/3) or better.
+ */
+public enum Gaps implements GapSequence {
+
+    // n/2, n/4, ..., 1 (Shell, 1959)
+    SHELL("Shell (n/2^k)", "O(n log n)", "O(n^(3/2))", "O(n^2)") {
+        @Override
+        public int[] gaps(int n) {
+            List<Long> gaps = new ArrayList<>();
+            for (int gap = n / 2; gap > 0; gap /= 2) {
+                gaps.add((long) gap);
+            }
+            return descending(gaps);
+        }
+    },
+
+    // 1, 3, 7, 15, ... 2^k - 1 (Hibbard, 1963)
+    HIBBARD("Hibbard (2^k-1)", "O(n log n)", "O(n^(5/4))", "O(n^(3/2))") {
+        @Override
+        public int[] gaps(int n) {
+            List<Long> gaps = new ArrayList<>();
+            for (long gap = 1; gap < n; gap = 2 * gap + 1) {
+                gaps.add(gap);
+            }
+            return descending(gaps);
+        }
+    },
+
+    // 1, 8, 23, 77, 281, ... 4^k + 3*2^(k-1) + 1 (Sedgewick, 1986)
+    SEDGEWICK("Sedgewick (4^k+3*2^(k-1)+1)", "O(n log n)", "O(n^(7/6))", "O(n^(4/3))") {
+        @Override
+        public int[] gaps(int n) {
+            List<Long> gaps = new ArrayList<>();
+            if (n > 1) gaps.add(1L);
+            for (int k = 1; ; k++) {
+                long gap = (1L << (2 * k)) + 3L * (1L << (k - 1)) + 1;
+                if (gap >= n) break;
+                gaps.add(gap);
+            }
+            return descending(gaps);
+        }
+    },
+
+    // 1, 4, 9, 20, 46, 103, ... ceil(h_k) with h_k = 2.25 h_(k-1) + 1 (Tokuda, 1992)
+    TOKUDA("Tokuda (2.25h+1)", "O(n log n)", "O(n^(5/4))", "O(n^(3/2))") {
+        @Override
+        public int[] gaps(int n) {
+            List<Long> gaps = new ArrayList<>();
+            for (double h = 1; Math.ceil(h) < n; h = 2.25 * h + 1) {
+                gaps.add((long) Math.ceil(h));
+            }
+            return descending(gaps);
+        }
+    },
+
+    // 1, 4, 10, 23, 57, 132, 301, 701 (Ciura, 2001, found experimentally), then extended by x2.25
+    CIURA("Ciura (extended x2.25)", "O(n log n)", "O(n^(5/4))", "O(n^(3/2))") {
+        @Override
+        public int[] gaps(int n) {
+            List<Long> gaps = new ArrayList<>();
+            long last = 0;
+            for (int gap : CIURA_GAPS) {
+                if (gap >= n) break;
+                gaps.add((long) gap);
+                last = gap;
+            }
+            if (last == CIURA_GAPS[CIURA_GAPS.length - 1]) {
+                for (long gap = (long) (last * 2.25); gap < n; gap = (long) (gap * 2.25)) {
+                    gaps.add(gap);
+                }
+            }
+            return descending(gaps);
+        }
+    },
+
+    // Every 2^p * 3^q below n (Pratt, 1971): the only sequence with a proven O(n log^2 n) worst case
+    PRATT("Pratt (2^p*3^q)", "O(n (log n)^2)", "O(n (log n)^2)", "O(n (log n)^2)") {
+        @Override
+        public int[] gaps(int n) {
+            List<Long> gaps = new ArrayList<>();
+            for (long pow2 = 1; pow2 < n; pow2 *= 2) {
+                for (long gap = pow2; gap < n; gap *= 3) {
+                    gaps.add(gap);
+                }
+            }
+            return descending(gaps);
+        }
+    };
+
+    private static final int[] CIURA_GAPS = {1, 4, 10, 23, 57, 132, 301, 701};
+
+    private final String displayName;
+    private final String bestTime;
+    private final String averageTime;
+    private final String worstTime;
+
+    Gaps(String displayName, String bestTime, String averageTime, String worstTime) {
+        this.displayName = displayName;
+        this.bestTime = bestTime;
+        this.averageTime = averageTime;
+        this.worstTime = worstTime;
+    }
+
+    @Override
+    public String getName() {
+        return displayName;
+    }
+
+    @Override
+    public String getBestTime() {
+        return bestTime;
+    }
+
+    @Override
+    public String getAverageTime() {
+        return averageTime;
+    }
+
+    @Override
+    public String getWorstTime() {
+        return worstTime;
+    }
+
+    // Generated gaps (any order, possibly repeated) -> the strictly decreasing int[] Shell Sort iterates
+    private static int[] descending(List<Long> gaps) {
+        return gaps.stream()
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .mapToInt(Long::intValue)
+                .toArray();
+    }
+
+    // --- TEST RUNNER ---
+    public static void main(String[] args) {
+        for (Gaps sequence : values()) {
+            System.out.printf("%-30s %s%n", sequence.getName(), Arrays.toString(sequence.gaps(5_000)));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.arena.sorting.smallsort;
+
+import com.example.arena.sorting.OpCounter;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * BitonicVectorSmallSort
+ * Bitonic sorting network (Batcher, 1968) on IntVector lanes for ranges of up to 64 ints.
+ *
+ * The range is copied into a scratch block padded with Integer.MAX_VALUE to a power of two N (at least one
+ * vector), then sorted by the fixed sequence of compare-exchange stages (k = 2..N, j = k/2..1):
+ * - j >= lanes: the partners sit in two different vectors, one min and one max per pair of vectors.
+ * - j <  lanes: the partners sit in the same vector, a lane shuffle (l ^ j) brings them together and a
+ *   precomputed mask picks min or max per lane.
+ * No branch depends on the data, so there is nothing to mispredict, which is where insertion sort loses
+ * its time on random blocks of 16..64.
+ *
+ * Requires --add-modules jdk.incubator.vector; never reference this class directly, use {@link SmallSorts}.
+ * Not thread-safe (scratch block), use one instance per thread.
+ */
+public final class BitonicVectorSmallSort implements SmallSort {
+
+    public static final int MAX_LENGTH = 64;
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int LOG_MAX = Integer.numberOfTrailingZeros(MAX_LENGTH);
+
+    // PARTNERS[log2 j]: lane l swaps with lane l ^ j, for every j < LANES
+    private static final VectorShuffle<Integer>[] PARTNERS = partners();
+
+    // TAKE_MIN[log2 k][log2 j][i]: element i keeps the smaller of itself and its partner i ^ j
+    private static final boolean[][][] TAKE_MIN = takeMinTables();
+
+    private final int[] block = new int[MAX_LENGTH];
+
+    // 1. Constructor
+    public BitonicVectorSmallSort() {
+        // Below 4 lanes the Vector API is scalar code in disguise, slower than insertion sort
+        if (LANES < 4) {
+            throw new UnsupportedOperationException("Preferred int vector has only " + LANES + " lane(s)");
+        }
+    }
+
+    /*
+     * 2. Logic
+     * The counter sees the network as if it ran on scalars: the range copied in and out, then per stage
+     * n/2 compare-exchanges, each reading and writing its pair. Padding to n is part of the real cost.
+     */
+    @Override
+    public void sort(int[] arr, int from, int to, OpCounter counter) {
+        int length = to - from;
+        if (length < 2) return;
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("At most " + MAX_LENGTH + " elements, got " + length);
+        }
+
+        // Step 1: Pad to a power of two with the largest int, which sorts to the end and is never copied back
+        int n = Math.max(LANES, Integer.highestOneBit(length - 1) << 1);
+        System.arraycopy(arr, from, block, 0, length);
+        Arrays.fill(block, length, n, Integer.MAX_VALUE);
+
+        // Step 2: The network, one vector pass over the block per stage
+        for (int k = 2, logK = 1; k <= n; k <<= 1, logK++) {
+            for (int j = k >> 1, logJ = logK - 1; j > 0; j >>= 1, logJ--) {
+                if (j >= LANES) {
+                    exchangeAcrossVectors(n, k, j);
+                } else {
+                    exchangeWithinVectors(n, PARTNERS[logJ], TAKE_MIN[logK][logJ]);
+                }
+            }
+        }
+
+        // Step 3: The first length elements are the sorted range
+        System.arraycopy(block, 0, arr, from, length);
+
+        int logN = Integer.numberOfTrailingZeros(n);
+        long stages = (long) logN * (logN + 1) / 2;
+        counter.add(stages * n / 2, 2L * length + stages * n, 2L * length + stages * n);
+    }
+
+    // Partners j >= LANES apart: whole vectors pair up, ascending where bit k of the index is clear
+    private void exchangeAcrossVectors(int n, int k, int j) {
+        for (int i = 0; i < n; i += LANES) {
+            if ((i & j) != 0) continue;
+            IntVector a = IntVector.fromArray(SPECIES, block, i);
+            IntVector b = IntVector.fromArray(SPECIES, block, i + j);
+            IntVector min = a.min(b);
+            IntVector max = a.max(b);
+            boolean ascending = (i & k) == 0;
+            (ascending ? min : max).intoArray(block, i);
+            (ascending ? max : min).intoArray(block, i + j);
+        }
+    }
+
+    // Partners j < LANES apart: inside one vector
+    private void exchangeWithinVectors(int n, VectorShuffle<Integer> partner, boolean[] takeMin) {
+        for (int i = 0; i < n; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, block, i);
+            IntVector other = v.rearrange(partner);
+            VectorMask<Integer> keepMin = VectorMask.fromArray(SPECIES, takeMin, i);
+            v.max(other).blend(v.min(other), keepMin).intoArray(block, i);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static VectorShuffle<Integer>[] partners() {
+        VectorShuffle<Integer>[] partners = new VectorShuffle[Integer.numberOfTrailingZeros(LANES)];
+        for (int logJ = 0; logJ < partners.length; logJ++) {
+            int j = 1 << logJ;
+            partners[logJ] = VectorShuffle.fromOp(SPECIES, lane -> lane ^ j);
+        }
+        return partners;
+    }
+
+    /*
+     * The lower element of a pair (bit j clear) keeps the min when its k-block is ascending (bit k clear);
+     * the upper element keeps the max. Descending blocks do the opposite.
+     */
+    private static boolean[][][] takeMinTables() {
+        boolean[][][] tables = new boolean[LOG_MAX + 1][LOG_MAX][];
+        for (int logK = 1; logK <= LOG_MAX; logK++) {
+            for (int logJ = 0; logJ < logK; logJ++) {
+                int k = 1 << logK;
+                int j = 1 << logJ;
+                boolean[] table = new boolean[MAX_LENGTH];
+                for (int i = 0; i < MAX_LENGTH; i++) {
+                    table[i] = ((i & j) == 0) == ((i & k) == 0);
+                }
+                tables[logK][logJ] = table;
+            }
+        }
+        return tables;
+    }
+
+    @Override
+    public int maxLength() {
+        return MAX_LENGTH;
+    }
+
+    @Override
+    public String getName() {
+        return "Bitonic SIMD (" + LANES + " lanes)";
+    }
+
+    // --- TEST RUNNER ---
+    // Run with: java --add-modules jdk.incubator.vector ...
+    public static void main(String[] args) {
+        BitonicVectorSmallSort kernel = new BitonicVectorSmallSort();
+        System.out.println("Running " + kernel.getName());
+
+        Random random = new Random(42);
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            int[] input = random.ints(length + 8, -1_000, 1_000).toArray();
+            if (length > 0) input[4] = Integer.MAX_VALUE; // must survive next to the padding
+            int[] expected = input.clone();
+            Arrays.sort(expected, 4, 4 + length);
+
+            kernel.sort(input, 4, 4 + length);
+            if (!Arrays.equals(input, expected)) {
+                throw new AssertionError("Wrong result for length " + length + ": " + Arrays.toString(input));
+            }
+        }
+        System.out.println("All lengths 0.." + MAX_LENGTH + " sorted correctly");
+    }
+}
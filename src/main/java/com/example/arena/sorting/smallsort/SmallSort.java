@@ -0,0 +1,34 @@
+package com.example.arena.sorting.smallsort;
+
+import com.example.arena.sorting.OpCounter;
+
+/**
+ * SmallSort
+ * A base-case kernel for the recursive sorts: sorts one short range of an int[] in place.
+ *
+ * Hybrids (Quick, Merge, Cube, Tim, Intro) hand every range of at most maxLength() elements to their kernel
+ * instead of recursing further, and keep their own logic for everything longer.
+ * See {@link SmallSorts} for the available kernels.
+ */
+public interface SmallSort {
+
+    /**
+     * Sorts arr[from, to). Callers guarantee to - from <= maxLength().
+     */
+    default void sort(int[] arr, int from, int to) {
+        sort(arr, from, to, OpCounter.NONE);
+    }
+
+    /**
+     * Same, recording the work in the counter: the hybrids pass on the counter of their own
+     * run(int[], OpCounter), see BigOSort.
+     */
+    void sort(int[] arr, int from, int to, OpCounter counter);
+
+    /**
+     * The longest range this kernel accepts, also the cutoff at which a hybrid stops recursing.
+     */
+    int maxLength();
+
+    String getName();
+}
@@ -0,0 +1,111 @@
+package com.example.arena.sorting.smallsort;
+
+import com.example.arena.sorting.OpCounter;
+import com.example.arena.sorting.algorithms.Insertion;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+
+/**
+ * SmallSorts
+ * The available {@link SmallSort} kernels, and the one place that decides whether the SIMD kernel can run.
+ *
+ * The Vector API kernel lives in its own class and is only ever loaded reflectively: without
+ * --add-modules jdk.incubator.vector (or on a JVM without the module) loading it fails with a LinkageError,
+ * and every caller quietly gets the scalar insertion kernel instead.
+ */
+public final class SmallSorts {
+
+    public static final String VECTOR_KERNEL_CLASS = "com.example.arena.sorting.smallsort.BitonicVectorSmallSort";
+
+    // Scalar fallback cutoff: where insertion sort stops beating another partition (same value as Intro's)
+    public static final int INSERTION_MAX_LENGTH = 24;
+
+    /**
+     * No kernel: only ranges of 0 or 1 element count as sorted, so a hybrid recurses all the way down
+     * exactly like the textbook version.
+     */
+    public static final SmallSort NONE = new None();
+
+    private SmallSorts() {
+    }
+
+    /**
+     * Plain insertion sort for ranges of up to maxLength elements, the scalar kernel everywhere.
+     */
+    public static SmallSort insertion(int maxLength) {
+        if (maxLength < 1) throw new IllegalArgumentException("maxLength must be >= 1: " + maxLength);
+        return new InsertionKernel(maxLength);
+    }
+
+    /**
+     * A new bitonic sorting-network kernel on IntVector lanes, or empty when jdk.incubator.vector is not
+     * available. Each call returns a new instance: the kernel keeps a scratch buffer, use one per thread.
+     */
+    public static Optional<SmallSort> vector() {
+        Constructor<?> constructor = VectorKernelHolder.CONSTRUCTOR;
+        if (constructor == null) return Optional.empty();
+        try {
+            return Optional.of((SmallSort) constructor.newInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create " + VECTOR_KERNEL_CLASS, e);
+        }
+    }
+
+    /**
+     * The vector kernel when it can run here, insertion sort up to INSERTION_MAX_LENGTH otherwise.
+     */
+    public static SmallSort best() {
+        return vector().orElseGet(() -> insertion(INSERTION_MAX_LENGTH));
+    }
+
+    public static boolean isVectorAvailable() {
+        return VectorKernelHolder.CONSTRUCTOR != null;
+    }
+
+    // Loaded on first use only, so merely touching SmallSorts never pulls in the incubator module
+    private static final class VectorKernelHolder {
+        static final Constructor<?> CONSTRUCTOR = load();
+
+        private static Constructor<?> load() {
+            try {
+                Constructor<?> constructor = Class.forName(VECTOR_KERNEL_CLASS).getDeclaredConstructor();
+                constructor.newInstance(); // fails here when the CPU has no usable vector width
+                return constructor;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return null;
+            }
+        }
+    }
+
+    private record InsertionKernel(int maxLength) implements SmallSort {
+
+        @Override
+        public void sort(int[] arr, int from, int to, OpCounter counter) {
+            Insertion.sortRange(arr, from, to, counter);
+        }
+
+        @Override
+        public String getName() {
+            return "Insertion (<= " + maxLength + ")";
+        }
+    }
+
+    private record None() implements SmallSort {
+
+        @Override
+        public void sort(int[] arr, int from, int to, OpCounter counter) {
+            // 0 or 1 element: already sorted
+        }
+
+        @Override
+        public int maxLength() {
+            return 1;
+        }
+
+        @Override
+        public String getName() {
+            return "none";
+        }
+    }
+}